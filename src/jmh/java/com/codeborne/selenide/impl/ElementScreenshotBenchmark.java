@@ -0,0 +1,68 @@
+package com.codeborne.selenide.impl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+
+/**
+ * Compares cropping an element from a 4K screenshot by decoding the whole image
+ * with decoding only the element's region (see {@link ImageRegionReader}).
+ * <p>
+ * Memory is the point of this benchmark, so run it with GC profiler:
+ * {@code ./gradlew jmh -Pbenchmark=ElementScreenshotBenchmark -Pprofiler=gc}
+ * and compare {@code gc.alloc.rate.norm} (bytes allocated per screenshot).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx512m")
+public class ElementScreenshotBenchmark {
+  private static final int WIDTH = 3840;
+  private static final int HEIGHT = 2160;
+
+  private byte[] screenshot;
+
+  @Setup
+  public void setUp() throws IOException {
+    BufferedImage page = new BufferedImage(WIDTH, HEIGHT, TYPE_INT_RGB);
+    for (int x = 0; x < WIDTH; x++) {
+      for (int y = 0; y < HEIGHT; y++) {
+        page.setRGB(x, y, (x * 7 + y * 13) % 0xFFFFFF);
+      }
+    }
+    ByteArrayOutputStream png = new ByteArrayOutputStream();
+    ImageIO.write(page, "png", png);
+    screenshot = png.toByteArray();
+  }
+
+  @Benchmark
+  public BufferedImage decodeWholeImage() throws IOException {
+    BufferedImage img = ImageIO.read(new ByteArrayInputStream(screenshot));
+    return img.getSubimage(1800, 1000, 200, 50);
+  }
+
+  @Benchmark
+  public BufferedImage decodeRegion() throws IOException {
+    try (ImageRegionReader img = new ImageRegionReader(screenshot)) {
+      return img.read(1800, 1000, 200, 50);
+    }
+  }
+}
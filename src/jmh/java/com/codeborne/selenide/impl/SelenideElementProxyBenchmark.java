@@ -0,0 +1,106 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.drivercommands.WebDriverWrapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures overhead of calling methods of {@link SelenideElement} through {@link SelenideElementProxy}
+ * (without any browser: web element is a stub).
+ * <p>
+ * Run with {@code ./gradlew jmh -Pbenchmark=SelenideElementProxyBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelenideElementProxyBenchmark {
+  private SelenideElement element;
+
+  @Setup
+  public void setUp() {
+    Driver driver = new WebDriverWrapper(new SelenideConfig(), null);
+    WebElement webElement = stubWebElement();
+    element = (SelenideElement) Proxy.newProxyInstance(
+        getClass().getClassLoader(), new Class<?>[]{SelenideElement.class},
+        new SelenideElementProxy(new StubSource(driver, webElement)));
+  }
+
+  /**
+   * Method without logging and retries
+   */
+  @Benchmark
+  public String getSearchCriteria() {
+    return element.getSearchCriteria();
+  }
+
+  /**
+   * Selenide command
+   */
+  @Benchmark
+  public WebElement getWrappedElement() {
+    return element.getWrappedElement();
+  }
+
+  /**
+   * Method of {@link WebElement} delegated to the underlying element
+   */
+  @Benchmark
+  public String getTagName() {
+    return element.getTagName();
+  }
+
+  private static WebElement stubWebElement() {
+    return (WebElement) Proxy.newProxyInstance(
+        SelenideElementProxyBenchmark.class.getClassLoader(), new Class<?>[]{WebElement.class},
+        (proxy, method, args) -> {
+          Class<?> type = method.getReturnType();
+          if (type == String.class) return "div";
+          if (type == boolean.class) return false;
+          if (type == int.class) return 0;
+          return null;
+        });
+  }
+
+  private static class StubSource extends WebElementSource {
+    private final Driver driver;
+    private final WebElement webElement;
+
+    private StubSource(Driver driver, WebElement webElement) {
+      this.driver = driver;
+      this.webElement = webElement;
+    }
+
+    @Override
+    public Driver driver() {
+      return driver;
+    }
+
+    @Override
+    public WebElement getWebElement() {
+      return webElement;
+    }
+
+    @Override
+    public String getSearchCriteria() {
+      return "div";
+    }
+  }
+}
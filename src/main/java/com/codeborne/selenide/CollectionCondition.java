@@ -1,6 +1,7 @@
 package com.codeborne.selenide;
 
 import com.codeborne.selenide.collections.ExactTexts;
+import com.codeborne.selenide.collections.ImagesLookLike;
 import com.codeborne.selenide.collections.ListSize;
 import com.codeborne.selenide.collections.SizeGreaterThan;
 import com.codeborne.selenide.collections.SizeGreaterThanOrEqual;
@@ -13,6 +14,7 @@ import com.codeborne.selenide.impl.WebElementsCollection;
 import com.google.common.base.Predicate;
 import org.openqa.selenium.WebElement;
 
+import java.io.File;
 import java.util.List;
 
 public abstract class CollectionCondition implements Predicate<List<WebElement>> {
@@ -20,6 +22,14 @@ public abstract class CollectionCondition implements Predicate<List<WebElement>>
 
   public abstract void fail(WebElementsCollection collection, List<WebElement> elements, Exception lastError, long timeoutMs);
 
+  /**
+   * Check if given collection matches this condition.
+   * Conditions may override this method to retrieve needed data from browser more effectively (e.g. all texts at once).
+   */
+  public boolean apply(Driver driver, List<WebElement> elements) {
+    return apply(elements);
+  }
+
   public static CollectionCondition empty = size(0);
 
   /**
@@ -103,6 +113,18 @@ public abstract class CollectionCondition implements Predicate<List<WebElement>>
     return new ExactTexts(expectedTexts);
   }
 
+  /**
+   * Checks that screenshots of collection elements look like given baseline images
+   * (each collection element looks like the corresponding image)
+   *
+   * @param baselinePngs PNG files with expected screenshots of elements
+   * @param tolerance    the part of pixels that are allowed to differ in each screenshot (from 0.0 to 1.0)
+   * @see Condition#lookLike(File, double)
+   */
+  public static CollectionCondition lookLike(List<File> baselinePngs, double tolerance) {
+    return new ImagesLookLike(baselinePngs, tolerance);
+  }
+
   /**
    * Should be used for explaining the reason of condition
    */
@@ -1,11 +1,17 @@
 package com.codeborne.selenide;
 
+import com.codeborne.selenide.conditions.LookLike;
 import com.codeborne.selenide.conditions.Text;
+import com.codeborne.selenide.impl.BrowserFilter;
 import com.codeborne.selenide.impl.Describe;
+import com.codeborne.selenide.impl.ElementSnapshot;
 import com.codeborne.selenide.impl.Html;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
 
+import java.io.File;
+
+import static com.codeborne.selenide.impl.BrowserFilter.literal;
 import static org.apache.commons.lang3.StringUtils.defaultString;
 
 /**
@@ -17,11 +23,16 @@ public abstract class Condition {
    *
    * <p>Sample: {@code $("input").shouldBe(visible);}</p>
    */
-  public static final Condition visible = new Condition("visible") {
+  public static final Condition visible = new ElementStateCondition("visible") {
     @Override
     public boolean apply(Driver driver, WebElement element) {
       return element.isDisplayed();
     }
+
+    @Override
+    public String toJavascript() {
+      return "isDisplayed(e)";
+    }
   };
 
   /**
@@ -29,7 +40,7 @@ public abstract class Condition {
    *
    * <p>Sample: {@code $("input").should(exist);}</p>
    */
-  public static final Condition exist = new Condition("exist") {
+  public static final Condition exist = new ElementStateCondition("exist") {
     @Override
     public boolean apply(Driver driver, WebElement element) {
       try {
@@ -40,6 +51,11 @@ public abstract class Condition {
         return false;
       }
     }
+
+    @Override
+    public String toJavascript() {
+      return "true";
+    }
   };
 
   /**
@@ -49,7 +65,7 @@ public abstract class Condition {
    *
    * <p>Sample: {@code $("input").shouldBe(hidden);}</p>
    */
-  public static final Condition hidden = new Condition("hidden", true) {
+  public static final Condition hidden = new ElementStateCondition("hidden", true) {
     @Override
     public boolean apply(Driver driver, WebElement element) {
       try {
@@ -59,6 +75,11 @@ public abstract class Condition {
         return true;
       }
     }
+
+    @Override
+    public String toJavascript() {
+      return "!isDisplayed(e)";
+    }
   };
 
   /**
@@ -107,12 +128,17 @@ public abstract class Condition {
    * @return true iff attribute exists
    */
   public static Condition attribute(final String attributeName) {
-    return new Condition("attribute") {
+    return new ElementStateCondition("attribute") {
       @Override
       public boolean apply(Driver driver, WebElement element) {
         return element.getAttribute(attributeName) != null;
       }
 
+      @Override
+      public String toJavascript() {
+        return "getAttribute(e, " + literal(attributeName) + ") != null";
+      }
+
       @Override
       public String toString() {
         return name + " " + attributeName;
@@ -127,12 +153,17 @@ public abstract class Condition {
    * @param expectedAttributeValue expected value of attribute
    */
   public static Condition attribute(final String attributeName, final String expectedAttributeValue) {
-    return new Condition("attribute") {
+    return new ElementStateCondition("attribute") {
       @Override
       public boolean apply(Driver driver, WebElement element) {
         return expectedAttributeValue.equals(getAttributeValue(element, attributeName));
       }
 
+      @Override
+      public String toJavascript() {
+        return "attr(e, " + literal(attributeName) + ") === " + literal(expectedAttributeValue);
+      }
+
       @Override
       public String toString() {
         return name + " " + attributeName + '=' + expectedAttributeValue;
@@ -154,12 +185,17 @@ public abstract class Condition {
    * @param expectedValue expected value of "value" attribute
    */
   public static Condition value(final String expectedValue) {
-    return new Condition("value") {
+    return new ElementStateCondition("value") {
       @Override
       public boolean apply(Driver driver, WebElement element) {
         return Html.text.contains(getAttributeValue(element, "value"), expectedValue);
       }
 
+      @Override
+      public String toJavascript() {
+        return "contains(attr(e, 'value'), " + literal(expectedValue) + ")";
+      }
+
       @Override
       public String toString() {
         return name + " '" + expectedValue + "'";
@@ -229,7 +265,7 @@ public abstract class Condition {
    * @param regex e.g. Kicked.*Chuck Norris - in this case ".*" can contain any characters including spaces, tabs, CR etc.
    */
   public static Condition matchText(final String regex) {
-    return new Condition("match text") {
+    return new ElementStateCondition("match text") {
       @Override
       public boolean apply(Driver driver, WebElement element) {
         return Html.text.matches(element.getText(), regex);
@@ -263,12 +299,17 @@ public abstract class Condition {
    * @param text expected text of HTML element
    */
   public static Condition textCaseSensitive(final String text) {
-    return new Condition("textCaseSensitive") {
+    return new ElementStateCondition("textCaseSensitive") {
       @Override
       public boolean apply(Driver driver, WebElement element) {
         return Html.text.containsCaseSensitive(element.getText(), text);
       }
 
+      @Override
+      public String toJavascript() {
+        return "containsCaseSensitive(text(e), " + literal(text) + ")";
+      }
+
       @Override
       public String toString() {
         return name + " '" + text + '\'';
@@ -285,12 +326,17 @@ public abstract class Condition {
    * @param text expected text of HTML element
    */
   public static Condition exactText(final String text) {
-    return new Condition("exact text") {
+    return new ElementStateCondition("exact text") {
       @Override
       public boolean apply(Driver driver, WebElement element) {
         return Html.text.equals(element.getText(), text);
       }
 
+      @Override
+      public String toJavascript() {
+        return "equals(text(e), " + literal(text) + ")";
+      }
+
       @Override
       public String toString() {
         return name + " '" + text + '\'';
@@ -306,12 +352,17 @@ public abstract class Condition {
    * @param text expected text of HTML element
    */
   public static Condition exactTextCaseSensitive(final String text) {
-    return new Condition("exact text case sensitive") {
+    return new ElementStateCondition("exact text case sensitive") {
       @Override
       public boolean apply(Driver driver, WebElement element) {
         return Html.text.equalsCaseSensitive(element.getText(), text);
       }
 
+      @Override
+      public String toJavascript() {
+        return "equalsCaseSensitive(text(e), " + literal(text) + ")";
+      }
+
       @Override
       public String toString() {
         return name + " '" + text + '\'';
@@ -332,13 +383,18 @@ public abstract class Condition {
    * <p>Sample: <code>$("input").shouldHave(cssClass("active"));</code></p>
    */
   public static Condition cssClass(final String cssClass) {
-    return new Condition("css class") {
+    return new ElementStateCondition("css class") {
       @Override
       public boolean apply(Driver driver, WebElement element) {
         String classes = element.getAttribute("class");
         return classes != null && contains(classes.split(" "), cssClass);
       }
 
+      @Override
+      public String toJavascript() {
+        return "attr(e, 'class').split(' ').indexOf(" + literal(cssClass) + ") >= 0";
+      }
+
       @Override
       public String toString() {
         return name + " '" + cssClass + '\'';
@@ -413,12 +469,17 @@ public abstract class Condition {
    *
    * @see WebElement#isEnabled()
    */
-  public static final Condition enabled = new Condition("enabled") {
+  public static final Condition enabled = new ElementStateCondition("enabled") {
     @Override
     public boolean apply(Driver driver, WebElement element) {
       return element.isEnabled();
     }
 
+    @Override
+    public String toJavascript() {
+      return "enabled(e)";
+    }
+
     @Override
     public String actualValue(Driver driver, WebElement element) {
       return element.isEnabled() ? "enabled" : "disabled";
@@ -430,12 +491,17 @@ public abstract class Condition {
    *
    * @see WebElement#isEnabled()
    */
-  public static final Condition disabled = new Condition("disabled") {
+  public static final Condition disabled = new ElementStateCondition("disabled") {
     @Override
     public boolean apply(Driver driver, WebElement element) {
       return !element.isEnabled();
     }
 
+    @Override
+    public String toJavascript() {
+      return "!enabled(e)";
+    }
+
     @Override
     public String actualValue(Driver driver, WebElement element) {
       return element.isEnabled() ? "enabled" : "disabled";
@@ -447,12 +513,17 @@ public abstract class Condition {
    *
    * @see WebElement#isSelected()
    */
-  public static final Condition selected = new Condition("selected") {
+  public static final Condition selected = new ElementStateCondition("selected") {
     @Override
     public boolean apply(Driver driver, WebElement element) {
       return element.isSelected();
     }
 
+    @Override
+    public String toJavascript() {
+      return "selected(e)";
+    }
+
     @Override
     public String actualValue(Driver driver, WebElement element) {
       return String.valueOf(element.isSelected());
@@ -464,18 +535,37 @@ public abstract class Condition {
    *
    * @see WebElement#isSelected()
    */
-  public static final Condition checked = new Condition("checked") {
+  public static final Condition checked = new ElementStateCondition("checked") {
     @Override
     public boolean apply(Driver driver, WebElement element) {
       return element.isSelected();
     }
 
+    @Override
+    public String toJavascript() {
+      return "selected(e)";
+    }
+
     @Override
     public String actualValue(Driver driver, WebElement element) {
       return String.valueOf(element.isSelected());
     }
   };
 
+  /**
+   * Checks that screenshot of element looks like the baseline image
+   *
+   * <p>Sample: <code>$("#logo").should(lookLike(new File("src/test/resources/logo.png"), 0.01))</code></p>
+   *
+   * <p>If the check fails, image with different pixels marked red is saved to reports folder.</p>
+   *
+   * @param baselinePng PNG file with expected screenshot of element
+   * @param tolerance   the part of pixels that are allowed to differ (from 0.0 to 1.0)
+   */
+  public static Condition lookLike(File baselinePng, double tolerance) {
+    return new LookLike(baselinePng, tolerance);
+  }
+
   /**
    * Negate given condition.
    * <p>
@@ -494,6 +584,17 @@ public abstract class Condition {
       public String actualValue(Driver driver, WebElement element) {
         return condition.actualValue(driver, element);
       }
+
+      @Override
+      public boolean canCheckSnapshot() {
+        return condition.canCheckSnapshot();
+      }
+
+      @Override
+      public String toJavascript() {
+        String predicate = condition.toJavascript();
+        return predicate == null ? null : "!(" + predicate + ")";
+      }
     };
   }
 
@@ -528,6 +629,16 @@ public abstract class Condition {
       public String toString() {
         return lastFailedCondition == null ? super.toString() : lastFailedCondition.toString();
       }
+
+      @Override
+      public boolean canCheckSnapshot() {
+        return allCanCheckSnapshot(condition);
+      }
+
+      @Override
+      public String toJavascript() {
+        return joinJavascript(" && ", condition);
+      }
     };
   }
 
@@ -564,6 +675,16 @@ public abstract class Condition {
       public String toString() {
         return firstFailedCondition == null ? super.toString() : firstFailedCondition.toString();
       }
+
+      @Override
+      public boolean canCheckSnapshot() {
+        return allCanCheckSnapshot(condition);
+      }
+
+      @Override
+      public String toJavascript() {
+        return joinJavascript(" || ", condition);
+      }
     };
   }
 
@@ -605,6 +726,16 @@ public abstract class Condition {
       public String toString() {
         return prefix + ' ' + delegate.toString();
       }
+
+      @Override
+      public boolean canCheckSnapshot() {
+        return delegate.canCheckSnapshot();
+      }
+
+      @Override
+      public String toJavascript() {
+        return delegate.toJavascript();
+      }
     };
   }
 
@@ -632,6 +763,58 @@ public abstract class Condition {
     public String toString() {
       return delegate.toString() + " (because " + message + ")";
     }
+
+    @Override
+    public boolean canCheckSnapshot() {
+      return delegate.canCheckSnapshot();
+    }
+
+    @Override
+    public String toJavascript() {
+      return delegate.toJavascript();
+    }
+  }
+
+  /**
+   * Built-in condition which reads only element's state collected by {@link ElementSnapshot}
+   */
+  private abstract static class ElementStateCondition extends Condition {
+    ElementStateCondition(String name) {
+      super(name);
+    }
+
+    ElementStateCondition(String name, boolean absentElementMatchesCondition) {
+      super(name, absentElementMatchesCondition);
+    }
+
+    @Override
+    public boolean canCheckSnapshot() {
+      return true;
+    }
+  }
+
+  private static boolean allCanCheckSnapshot(Condition... conditions) {
+    for (Condition condition : conditions) {
+      if (!condition.canCheckSnapshot()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String joinJavascript(String operator, Condition... conditions) {
+    if (conditions.length == 0) {
+      return null;
+    }
+    StringBuilder sb = new StringBuilder("(");
+    for (int i = 0; i < conditions.length; i++) {
+      String predicate = conditions[i].toJavascript();
+      if (predicate == null) {
+        return null;
+      }
+      sb.append(i == 0 ? "" : operator).append('(').append(predicate).append(')');
+    }
+    return sb.append(')').toString();
   }
 
   protected final String name;
@@ -671,6 +854,30 @@ public abstract class Condition {
     return null;
   }
 
+  /**
+   * Whether this condition can be checked against {@link ElementSnapshot} - element's state
+   * collected by a single javascript call (see {@link Config#conditionSnapshots()}).
+   * <p>
+   * Custom conditions are checked against live element, unless they override this method.
+   *
+   * @return true if condition reads only element's tag, text, attributes, visibility and other state
+   */
+  public boolean canCheckSnapshot() {
+    return false;
+  }
+
+  /**
+   * Javascript expression which checks this condition in browser,
+   * so that collections can be filtered with a single javascript call (see {@link BrowserFilter}).
+   * <p>
+   * Custom conditions are checked in Java, one element at a time, unless they override this method.
+   *
+   * @return javascript expression checking element {@code e}, or null if condition cannot be checked in browser
+   */
+  public String toJavascript() {
+    return null;
+  }
+
   /**
    * Should be used for explaining the reason of condition
    */
@@ -18,8 +18,15 @@ public interface Config {
   String baseUrl();
   long timeout();
   long pollingInterval();
+  PollingStrategy pollingStrategy();
   boolean holdBrowserOpen();
   boolean reopenBrowserOnFail();
+  int browserPoolSize();
+  int browserPoolMaxUses();
+  long browserPoolMaxAge();
+  int browserPrewarmCount();
+  long browserPrewarmTtl();
+  long shutdownTimeout();
   boolean clickViaJs();
   boolean screenshots();
   boolean savePageSource();
@@ -27,6 +34,14 @@ public interface Config {
   String reportsUrl();
   boolean fastSetValue();
   boolean versatileSetValue();
+  boolean conditionSnapshots();
+  boolean cacheElements();
+  boolean waitForMutations();
+  int describeMaxElements();
+  int describeMaxTextLength();
+  boolean asyncArtifacts();
+  boolean deduplicateArtifacts();
+  boolean compressPageSources();
   SelectorMode selectorMode();
   AssertionMode assertionMode();
   FileDownloadMode fileDownload();
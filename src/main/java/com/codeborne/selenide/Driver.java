@@ -26,6 +26,11 @@ public interface Driver {
     return (T) ((JavascriptExecutor) getWebDriver()).executeScript(jsCode, arguments);
   }
 
+  @SuppressWarnings("unchecked")
+  default <T> T executeAsyncJavaScript(String jsCode, Object... arguments) {
+    return (T) ((JavascriptExecutor) getWebDriver()).executeAsyncScript(jsCode, arguments);
+  }
+
   default String getUserAgent() {
     return executeJavaScript("return navigator.userAgent;");
   }
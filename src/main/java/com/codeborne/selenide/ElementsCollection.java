@@ -6,9 +6,12 @@ import com.codeborne.selenide.impl.Cleanup;
 import com.codeborne.selenide.impl.CollectionElement;
 import com.codeborne.selenide.impl.CollectionElementByCondition;
 import com.codeborne.selenide.impl.Describe;
+import com.codeborne.selenide.impl.ElementTexts;
 import com.codeborne.selenide.impl.FilteringCollection;
+import com.codeborne.selenide.impl.FixedCollectionElement;
 import com.codeborne.selenide.impl.HeadOfCollection;
 import com.codeborne.selenide.impl.LastCollectionElement;
+import com.codeborne.selenide.impl.MutationWaiter;
 import com.codeborne.selenide.impl.SelenideElementIterator;
 import com.codeborne.selenide.impl.SelenideElementListIterator;
 import com.codeborne.selenide.impl.TailOfCollection;
@@ -22,6 +25,7 @@ import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
 import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -30,6 +34,7 @@ import java.util.ListIterator;
 import static com.codeborne.selenide.Condition.not;
 import static com.codeborne.selenide.logevents.ErrorsCollector.validateAssertionMode;
 import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
+import static java.util.Collections.unmodifiableList;
 import static java.util.stream.Collectors.toList;
 
 public class ElementsCollection extends AbstractList<SelenideElement> {
@@ -130,10 +135,10 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
     Exception lastError = null;
     List<WebElement> actualElements = null;
     Stopwatch stopwatch = new Stopwatch(timeoutMs);
-    do {
+    while (true) {
       try {
         actualElements = collection.getElements();
-        if (condition.apply(actualElements)) {
+        if (condition.apply(driver(), actualElements)) {
           return;
         }
       }
@@ -147,9 +152,18 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
           throw Cleanup.of.wrap(elementNotFound);
         }
       }
-      sleep(driver().config().pollingInterval());
+      if (stopwatch.isTimeoutReached()) {
+        break;
+      }
+      Config config = driver().config();
+      long intervalMs = stopwatch.nextPollingInterval(config.pollingStrategy(), config.pollingInterval());
+      if (MutationWaiter.instance.canWait(driver())) {
+        MutationWaiter.instance.pause(driver(), stopwatch, intervalMs, null, null);
+      }
+      else {
+        sleep(intervalMs);
+      }
     }
-    while (!stopwatch.isTimeoutReached());
     condition.fail(collection, actualElements, lastError, timeoutMs);
   }
 
@@ -234,7 +248,25 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
    * @return array of texts
    */
   public List<String> texts() {
-    return texts(getElements());
+    return texts(driver(), getElements());
+  }
+
+  /**
+   * Fail-safe method for retrieving texts of given elements.
+   * If browser supports javascript, all texts are retrieved with a single call.
+   * @param elements Any collection of WebElements
+   * @return Array of texts (or exceptions in case of any WebDriverExceptions)
+   */
+  public static List<String> texts(Driver driver, Collection<WebElement> elements) {
+    if (ElementTexts.instance.canRetrieveAtOnce(driver)) {
+      try {
+        return ElementTexts.instance.texts(driver, elements);
+      }
+      catch (WebDriverException someElementDisappeared) {
+        // fall back to retrieving texts one by one
+      }
+    }
+    return texts(elements);
   }
 
   /**
@@ -268,13 +300,22 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
       return "[]";
     }
 
+    int maxElements = driver.config().describeMaxElements();
+    List<WebElement> described = new ArrayList<>(elements);
+    if (maxElements > 0 && described.size() > maxElements) {
+      described = described.subList(0, maxElements);
+    }
+
     StringBuilder sb = new StringBuilder(256);
     sb.append("[\n\t");
-    for (WebElement element : elements) {
+    for (String description : Describe.describe(driver, described)) {
       if (sb.length() > 4) {
         sb.append(",\n\t");
       }
-      sb.append(Describe.describe(driver, element));
+      sb.append(description);
+    }
+    if (described.size() < elements.size()) {
+      sb.append(",\n\t... and ").append(elements.size() - described.size()).append(" more");
     }
     sb.append("\n]");
     return sb.toString();
@@ -357,12 +398,7 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
   @Override
   public Object[] toArray() {
     List<WebElement> fetchedElements = collection.getElements();
-    Object[] result = new Object[fetchedElements.size()];
-    Iterator<WebElement> it = fetchedElements.iterator();
-    for (int i = 0; i < result.length; i++) {
-      result[i] = Describe.describe(driver(), it.next());
-    }
-    return result;
+    return Describe.describe(driver(), fetchedElements).toArray();
   }
 
   /**
@@ -377,6 +413,24 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
     return new ElementsCollection(fetch());
   }
 
+  /**
+   * Searches collection elements only once and returns them bound to found web elements.
+   * Commands on returned elements DO NOT search the collection again, unless the web element has become stale -
+   * in this case the collection is reloaded and the element is taken by its index.
+   *
+   * <p>Sample: {@code for (SelenideElement row : $$(".row").asFixedIterable()) row.click();}</p>
+   *
+   * @return elements of this collection found at the moment of this call
+   */
+  public Iterable<SelenideElement> asFixedIterable() {
+    List<WebElement> fetchedElements = collection.getElements();
+    List<SelenideElement> result = new ArrayList<>(fetchedElements.size());
+    for (int i = 0; i < fetchedElements.size(); i++) {
+      result.add(FixedCollectionElement.wrap(collection, fetchedElements.get(i), i));
+    }
+    return unmodifiableList(result);
+  }
+
   @Override
   public String toString() {
     try {
@@ -0,0 +1,82 @@
+package com.codeborne.selenide;
+
+import com.codeborne.selenide.polling.ConstantPolling;
+import com.codeborne.selenide.polling.ExponentialPolling;
+import com.codeborne.selenide.polling.FastStartPolling;
+import com.codeborne.selenide.polling.JitteredPolling;
+
+/**
+ * Decides how long Selenide sleeps between attempts while waiting for an element, condition, file upload etc.
+ * <p>
+ * Can be configured globally ({@link Config#pollingStrategy()}) or for a single call
+ * (e.g. {@link SelenideElement#waitUntil(Condition, long, PollingStrategy)}).
+ */
+@FunctionalInterface
+public interface PollingStrategy {
+  /**
+   * @param pollingIntervalMs configured polling interval (see {@link Config#pollingInterval()})
+   * @param attempt           number of failed attempts so far (starting from 1)
+   * @param elapsedMs         milliseconds since the waiting started
+   * @return milliseconds to sleep before the next attempt
+   */
+  long nextIntervalMs(long pollingIntervalMs, int attempt, long elapsedMs);
+
+  /**
+   * Always sleeps for the polling interval (default behaviour)
+   */
+  static PollingStrategy constant() {
+    return new ConstantPolling();
+  }
+
+  /**
+   * Starts with the polling interval and multiplies it by 2 after every attempt, but not more than up to 2 seconds.
+   * Reduces load on a shared Selenium grid when many tests are waiting for a long time.
+   */
+  static PollingStrategy exponential() {
+    return exponential(2.0, 2000);
+  }
+
+  static PollingStrategy exponential(double factor, long maxIntervalMs) {
+    return new ExponentialPolling(factor, maxIntervalMs);
+  }
+
+  /**
+   * Polls every 10 ms during the first 100 ms, then backs off to the polling interval.
+   * Makes tests snappier when conditions are met almost immediately (e.g. with a local browser).
+   */
+  static PollingStrategy fastStart() {
+    return fastStart(10, 100);
+  }
+
+  static PollingStrategy fastStart(long fastIntervalMs, long fastPeriodMs) {
+    return new FastStartPolling(fastIntervalMs, fastPeriodMs);
+  }
+
+  /**
+   * Randomizes the polling interval by up to 25% in both directions.
+   * Prevents many parallel threads from hitting Selenium grid at the same moments.
+   */
+  static PollingStrategy jittered() {
+    return jittered(constant(), 0.25);
+  }
+
+  static PollingStrategy jittered(PollingStrategy strategy, double ratio) {
+    return new JitteredPolling(strategy, ratio);
+  }
+
+  /**
+   * @param name one of "constant", "exponential", "fastStart", "jittered"
+   * @return built-in strategy with default parameters
+   * @throws IllegalArgumentException if there is no such strategy
+   */
+  static PollingStrategy named(String name) {
+    switch (name) {
+      case "constant": return constant();
+      case "exponential": return exponential();
+      case "fastStart": return fastStart();
+      case "jittered": return jittered();
+      default: throw new IllegalArgumentException("Unknown polling strategy: " + name +
+          " (expected one of: constant, exponential, fastStart, jittered)");
+    }
+  }
+}
@@ -24,8 +24,15 @@ public class SelenideConfig implements Config {
   private String baseUrl = System.getProperty("selenide.baseUrl", "http://localhost:8080");
   private long timeout = Long.parseLong(System.getProperty("selenide.timeout", "4000"));
   private long pollingInterval = Long.parseLong(System.getProperty("selenide.pollingInterval", "200"));
+  private PollingStrategy pollingStrategy = PollingStrategy.named(System.getProperty("selenide.pollingStrategy", "constant"));
   private boolean holdBrowserOpen = Boolean.getBoolean("selenide.holdBrowserOpen");
   private boolean reopenBrowserOnFail = Boolean.parseBoolean(System.getProperty("selenide.reopenBrowserOnFail", "true"));
+  private int browserPoolSize = Integer.parseInt(System.getProperty("selenide.browserPoolSize", "0"));
+  private int browserPoolMaxUses = Integer.parseInt(System.getProperty("selenide.browserPoolMaxUses", "100"));
+  private long browserPoolMaxAge = Long.parseLong(System.getProperty("selenide.browserPoolMaxAge", "1800000"));
+  private int browserPrewarmCount = Integer.parseInt(System.getProperty("selenide.browserPrewarmCount", "0"));
+  private long browserPrewarmTtl = Long.parseLong(System.getProperty("selenide.browserPrewarmTtl", "300000"));
+  private long shutdownTimeout = Long.parseLong(System.getProperty("selenide.shutdownTimeout", "10000"));
   private boolean clickViaJs = Boolean.parseBoolean(System.getProperty("selenide.clickViaJs", "false"));
   private boolean screenshots = Boolean.parseBoolean(System.getProperty("selenide.screenshots", "true"));
 
@@ -34,6 +41,14 @@ public class SelenideConfig implements Config {
   private String reportsUrl = new JenkinsReportUrl().getReportsUrl(System.getProperty("selenide.reportsUrl"));
   private boolean fastSetValue = Boolean.parseBoolean(System.getProperty("selenide.fastSetValue", "false"));
   private boolean versatileSetValue = Boolean.parseBoolean(System.getProperty("selenide.versatileSetValue", "false"));
+  private boolean conditionSnapshots = Boolean.parseBoolean(System.getProperty("selenide.conditionSnapshots", "false"));
+  private boolean cacheElements = Boolean.parseBoolean(System.getProperty("selenide.cacheElements", "false"));
+  private boolean waitForMutations = Boolean.parseBoolean(System.getProperty("selenide.waitForMutations", "false"));
+  private int describeMaxElements = Integer.parseInt(System.getProperty("selenide.describeMaxElements", "100"));
+  private int describeMaxTextLength = Integer.parseInt(System.getProperty("selenide.describeMaxTextLength", "1000"));
+  private boolean asyncArtifacts = Boolean.parseBoolean(System.getProperty("selenide.asyncArtifacts", "false"));
+  private boolean deduplicateArtifacts = Boolean.parseBoolean(System.getProperty("selenide.deduplicateArtifacts", "false"));
+  private boolean compressPageSources = Boolean.parseBoolean(System.getProperty("selenide.compressPageSources", "false"));
   private SelectorMode selectorMode = CSS;
   private AssertionMode assertionMode = STRICT;
   private FileDownloadMode fileDownload = FileDownloadMode.valueOf(System.getProperty("selenide.fileDownload", HTTPGET.name()));
@@ -71,6 +86,16 @@ public class SelenideConfig implements Config {
     return this;
   }
 
+  @Override
+  public PollingStrategy pollingStrategy() {
+    return pollingStrategy;
+  }
+
+  public SelenideConfig pollingStrategy(PollingStrategy pollingStrategy) {
+    this.pollingStrategy = pollingStrategy;
+    return this;
+  }
+
   @Override
   public boolean holdBrowserOpen() {
     return holdBrowserOpen;
@@ -91,6 +116,66 @@ public class SelenideConfig implements Config {
     return this;
   }
 
+  @Override
+  public int browserPoolSize() {
+    return browserPoolSize;
+  }
+
+  public SelenideConfig browserPoolSize(int browserPoolSize) {
+    this.browserPoolSize = browserPoolSize;
+    return this;
+  }
+
+  @Override
+  public int browserPoolMaxUses() {
+    return browserPoolMaxUses;
+  }
+
+  public SelenideConfig browserPoolMaxUses(int browserPoolMaxUses) {
+    this.browserPoolMaxUses = browserPoolMaxUses;
+    return this;
+  }
+
+  @Override
+  public long browserPoolMaxAge() {
+    return browserPoolMaxAge;
+  }
+
+  public SelenideConfig browserPoolMaxAge(long browserPoolMaxAge) {
+    this.browserPoolMaxAge = browserPoolMaxAge;
+    return this;
+  }
+
+  @Override
+  public int browserPrewarmCount() {
+    return browserPrewarmCount;
+  }
+
+  public SelenideConfig browserPrewarmCount(int browserPrewarmCount) {
+    this.browserPrewarmCount = browserPrewarmCount;
+    return this;
+  }
+
+  @Override
+  public long browserPrewarmTtl() {
+    return browserPrewarmTtl;
+  }
+
+  public SelenideConfig browserPrewarmTtl(long browserPrewarmTtl) {
+    this.browserPrewarmTtl = browserPrewarmTtl;
+    return this;
+  }
+
+  @Override
+  public long shutdownTimeout() {
+    return shutdownTimeout;
+  }
+
+  public SelenideConfig shutdownTimeout(long shutdownTimeout) {
+    this.shutdownTimeout = shutdownTimeout;
+    return this;
+  }
+
   @Override
   public boolean clickViaJs() {
     return clickViaJs;
@@ -161,6 +246,86 @@ public class SelenideConfig implements Config {
     return this;
   }
 
+  @Override
+  public boolean conditionSnapshots() {
+    return conditionSnapshots;
+  }
+
+  public SelenideConfig conditionSnapshots(boolean conditionSnapshots) {
+    this.conditionSnapshots = conditionSnapshots;
+    return this;
+  }
+
+  @Override
+  public boolean cacheElements() {
+    return cacheElements;
+  }
+
+  public SelenideConfig cacheElements(boolean cacheElements) {
+    this.cacheElements = cacheElements;
+    return this;
+  }
+
+  @Override
+  public boolean waitForMutations() {
+    return waitForMutations;
+  }
+
+  public SelenideConfig waitForMutations(boolean waitForMutations) {
+    this.waitForMutations = waitForMutations;
+    return this;
+  }
+
+  @Override
+  public int describeMaxElements() {
+    return describeMaxElements;
+  }
+
+  public SelenideConfig describeMaxElements(int describeMaxElements) {
+    this.describeMaxElements = describeMaxElements;
+    return this;
+  }
+
+  @Override
+  public int describeMaxTextLength() {
+    return describeMaxTextLength;
+  }
+
+  public SelenideConfig describeMaxTextLength(int describeMaxTextLength) {
+    this.describeMaxTextLength = describeMaxTextLength;
+    return this;
+  }
+
+  @Override
+  public boolean asyncArtifacts() {
+    return asyncArtifacts;
+  }
+
+  public SelenideConfig asyncArtifacts(boolean asyncArtifacts) {
+    this.asyncArtifacts = asyncArtifacts;
+    return this;
+  }
+
+  @Override
+  public boolean deduplicateArtifacts() {
+    return deduplicateArtifacts;
+  }
+
+  public SelenideConfig deduplicateArtifacts(boolean deduplicateArtifacts) {
+    this.deduplicateArtifacts = deduplicateArtifacts;
+    return this;
+  }
+
+  @Override
+  public boolean compressPageSources() {
+    return compressPageSources;
+  }
+
+  public SelenideConfig compressPageSources(boolean compressPageSources) {
+    this.compressPageSources = compressPageSources;
+    return this;
+  }
+
   @Override
   public SelectorMode selectorMode() {
     return selectorMode;
@@ -333,6 +333,20 @@ public interface SelenideElement extends WebElement, WrapsDriver, WrapsElement,
    */
   SelenideElement waitUntil(Condition condition, long timeoutMilliseconds, long pollingIntervalMilliseconds);
 
+  /**
+   * <p>Wait until given element meets given conditions.</p>
+   *
+   * <p>IMPORTANT: in most cases you don't need this method because all should- methods wait too.
+   * You need to use #waitUntil or #waitWhile methods only if you need another timeout.</p>
+   *
+   * @param condition e.g. enabled, visible, text() and so on
+   * @param timeoutMilliseconds timeout in milliseconds.
+   * @param pollingStrategy  how long to sleep between checks, e.g. {@link PollingStrategy#fastStart()}
+   *
+   * @see com.codeborne.selenide.commands.ShouldBe
+   */
+  SelenideElement waitUntil(Condition condition, long timeoutMilliseconds, PollingStrategy pollingStrategy);
+
   /**
    * <p>Wait until given element does not meet given conditions.</p>
    *
@@ -360,6 +374,20 @@ public interface SelenideElement extends WebElement, WrapsDriver, WrapsElement,
    */
   SelenideElement waitWhile(Condition condition, long timeoutMilliseconds, long pollingIntervalMilliseconds);
 
+  /**
+   * <p>Wait until given element does not meet given conditions.</p>
+   *
+   * <p>IMPORTANT: in most cases you don't need this method because all shouldNot- methods wait too.
+   * You need to use #waitUntil or #waitWhile methods only if you need another timeout.</p>
+   *
+   * @param condition e.g. enabled, visible, text() and so on
+   * @param timeoutMilliseconds timeout in milliseconds.
+   * @param pollingStrategy  how long to sleep between checks, e.g. {@link PollingStrategy#fastStart()}
+   *
+   * @see com.codeborne.selenide.commands.ShouldNotBe
+   */
+  SelenideElement waitWhile(Condition condition, long timeoutMilliseconds, PollingStrategy pollingStrategy);
+
   /**
    * Displays WebElement in human-readable format.
    * Useful for logging and debugging.
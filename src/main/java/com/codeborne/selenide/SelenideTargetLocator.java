@@ -1,5 +1,7 @@
 package com.codeborne.selenide;
 
+import com.codeborne.selenide.impl.ElementCache;
+import com.codeborne.selenide.impl.ScriptRegistry;
 import org.openqa.selenium.Alert;
 import org.openqa.selenium.By;
 import org.openqa.selenium.InvalidArgumentException;
@@ -34,6 +36,7 @@ public class SelenideTargetLocator implements TargetLocator {
 
   @Override
   public WebDriver frame(int index) {
+    forgetCurrentDocument("switch to frame");
     try {
       return Wait().until(frameToBeAvailableAndSwitchToIt(index));
     } catch (NoSuchElementException | TimeoutException e) {
@@ -45,6 +48,7 @@ public class SelenideTargetLocator implements TargetLocator {
 
   @Override
   public WebDriver frame(String nameOrId) {
+    forgetCurrentDocument("switch to frame");
     try {
       return Wait().until(frameToBeAvailableAndSwitchToIt(nameOrId));
     } catch (NoSuchElementException | TimeoutException e) {
@@ -56,6 +60,7 @@ public class SelenideTargetLocator implements TargetLocator {
 
   @Override
   public WebDriver frame(WebElement frameElement) {
+    forgetCurrentDocument("switch to frame");
     try {
       return Wait().until(frameToBeAvailableAndSwitchToIt(frameElement));
     } catch (NoSuchElementException | TimeoutException e) {
@@ -71,11 +76,13 @@ public class SelenideTargetLocator implements TargetLocator {
 
   @Override
   public WebDriver parentFrame() {
+    forgetCurrentDocument("switch to parent frame");
     return delegate.parentFrame();
   }
 
   @Override
   public WebDriver defaultContent() {
+    forgetCurrentDocument("switch to default content");
     return delegate.defaultContent();
   }
 
@@ -97,6 +104,7 @@ public class SelenideTargetLocator implements TargetLocator {
    * Switch to the inner frame (last child frame in given sequence)
    */
   public WebDriver innerFrame(String... frames) {
+    forgetCurrentDocument("switch to frame");
     delegate.defaultContent();
 
     for (String frame : frames) {
@@ -179,6 +187,7 @@ public class SelenideTargetLocator implements TargetLocator {
    * @param index index of window (0-based)
    */
   public WebDriver window(int index) {
+    forgetCurrentDocument("switch to window");
     try {
       return Wait().until(windowToBeAvailableAndSwitchToIt(index));
     }
@@ -193,6 +202,7 @@ public class SelenideTargetLocator implements TargetLocator {
    */
   @Override
   public WebDriver window(String nameOrHandleOrTitle) {
+    forgetCurrentDocument("switch to window");
     try {
       return Wait().until(windowToBeAvailableAndSwitchToIt(nameOrHandleOrTitle));
     } catch (TimeoutException e) {
@@ -216,6 +226,11 @@ public class SelenideTargetLocator implements TargetLocator {
     throw new NoSuchWindowException("Window with title not found: " + title);
   }
 
+  private void forgetCurrentDocument(String reason) {
+    ElementCache.instance.reset(config, webDriver, reason);
+    ScriptRegistry.instance.reset(webDriver);
+  }
+
   private SelenideWait Wait() {
     return new SelenideWait(webDriver, config.timeout(), config.pollingInterval());
   }
@@ -2,18 +2,44 @@ package com.codeborne.selenide;
 
 import static java.lang.System.nanoTime;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 public class Stopwatch {
+  private final long startTimeNano;
   private final long endTimeNano;
+  private int attempts;
 
   public Stopwatch(long timeoutMs) {
-    this.endTimeNano = nanoTime() + MILLISECONDS.toNanos(timeoutMs);
+    this.startTimeNano = nanoTime();
+    this.endTimeNano = startTimeNano + MILLISECONDS.toNanos(timeoutMs);
   }
 
   public boolean isTimeoutReached() {
     return nanoTime() > endTimeNano;
   }
 
+  /**
+   * @return milliseconds left until timeout, or zero if timeout is reached
+   */
+  public long remainingMillis() {
+    return Math.max(0, NANOSECONDS.toMillis(endTimeNano - nanoTime()));
+  }
+
+  /**
+   * Counts one more failed attempt and asks given strategy how long to wait before the next one
+   */
+  public long nextPollingInterval(PollingStrategy strategy, long pollingIntervalMs) {
+    attempts++;
+    return strategy.nextIntervalMs(pollingIntervalMs, attempts, NANOSECONDS.toMillis(nanoTime() - startTimeNano));
+  }
+
+  /**
+   * Sleeps before the next attempt as long as given strategy says
+   */
+  public void sleep(PollingStrategy strategy, long pollingIntervalMs) {
+    sleep(nextPollingInterval(strategy, pollingIntervalMs));
+  }
+
   public void sleep(long milliseconds) {
     try {
       Thread.sleep(milliseconds);
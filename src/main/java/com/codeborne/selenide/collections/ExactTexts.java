@@ -1,11 +1,14 @@
 package com.codeborne.selenide.collections;
 
 import com.codeborne.selenide.CollectionCondition;
+import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.ElementsCollection;
 import com.codeborne.selenide.ex.ElementNotFound;
 import com.codeborne.selenide.ex.TextsMismatch;
+import com.codeborne.selenide.impl.ElementTexts;
 import com.codeborne.selenide.impl.Html;
 import com.codeborne.selenide.impl.WebElementsCollection;
+import com.google.common.collect.Lists;
 import org.openqa.selenium.WebElement;
 
 import java.util.List;
@@ -29,14 +32,25 @@ public class ExactTexts extends CollectionCondition {
 
   @Override
   public boolean apply(List<WebElement> elements) {
+    return elements.size() == expectedTexts.size() && matches(Lists.transform(elements, WebElement::getText));
+  }
+
+  @Override
+  public boolean apply(Driver driver, List<WebElement> elements) {
     if (elements.size() != expectedTexts.size()) {
       return false;
     }
+    return ElementTexts.instance.canRetrieveAtOnce(driver) ?
+        matches(ElementTexts.instance.reducedTexts(driver, elements)) :
+        apply(elements);
+  }
 
+  /**
+   * @param actualTexts texts of collection elements (the same number as expected texts)
+   */
+  protected boolean matches(List<String> actualTexts) {
     for (int i = 0; i < expectedTexts.size(); i++) {
-      WebElement element = elements.get(i);
-      String expectedText = expectedTexts.get(i);
-      if (!Html.text.equals(element.getText(), expectedText)) {
+      if (!Html.text.equals(actualTexts.get(i), expectedTexts.get(i))) {
         return false;
       }
     }
@@ -50,7 +64,7 @@ public class ExactTexts extends CollectionCondition {
       elementNotFound.timeoutMs = timeoutMs;
       throw elementNotFound;
     } else {
-      throw new TextsMismatch(collection, ElementsCollection.texts(elements), expectedTexts, explanation, timeoutMs);
+      throw new TextsMismatch(collection, ElementsCollection.texts(collection.driver(), elements), expectedTexts, explanation, timeoutMs);
     }
   }
 
@@ -0,0 +1,99 @@
+package com.codeborne.selenide.collections;
+
+import com.codeborne.selenide.CollectionCondition;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.conditions.LookLike;
+import com.codeborne.selenide.ex.ElementNotFound;
+import com.codeborne.selenide.ex.ImagesMismatch;
+import com.codeborne.selenide.ex.ListSizeMismatch;
+import com.codeborne.selenide.impl.ScreenShotLaboratory;
+import com.codeborne.selenide.impl.WebElementsCollection;
+import org.openqa.selenium.WebElement;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.unmodifiableList;
+
+public class ImagesLookLike extends CollectionCondition {
+  protected final List<File> baselines;
+  protected final double tolerance;
+  private final List<LookLike> conditions;
+
+  public ImagesLookLike(List<File> baselines, double tolerance) {
+    if (baselines.isEmpty()) {
+      throw new IllegalArgumentException("No baseline images given");
+    }
+    this.baselines = unmodifiableList(new ArrayList<>(baselines));
+    this.tolerance = tolerance;
+    this.conditions = new ArrayList<>(baselines.size());
+    for (File baseline : baselines) {
+      conditions.add(new LookLike(baseline, tolerance));
+    }
+  }
+
+  /**
+   * Without driver, screenshots are taken by the elements themselves (see {@link WebElement#getScreenshotAs}).
+   */
+  @Override
+  public boolean apply(List<WebElement> elements) {
+    if (elements.size() != conditions.size()) {
+      return false;
+    }
+    for (int i = 0; i < conditions.size(); i++) {
+      if (!conditions.get(i).matches(ScreenShotLaboratory.getInstance().takeScreenshotAsImage(elements.get(i)))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean apply(Driver driver, List<WebElement> elements) {
+    if (elements.size() != conditions.size()) {
+      return false;
+    }
+    for (int i = 0; i < conditions.size(); i++) {
+      if (!conditions.get(i).apply(driver, elements.get(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public void fail(WebElementsCollection collection, List<WebElement> elements, Exception lastError, long timeoutMs) {
+    if (elements == null || elements.isEmpty()) {
+      ElementNotFound elementNotFound = new ElementNotFound(collection, baselineNames(), lastError);
+      elementNotFound.timeoutMs = timeoutMs;
+      throw elementNotFound;
+    }
+    else if (elements.size() != conditions.size()) {
+      throw new ListSizeMismatch(collection.driver(), "=", conditions.size(), explanation, collection, elements, lastError, timeoutMs);
+    }
+    else {
+      Driver driver = collection.driver();
+      List<String> actualImages = new ArrayList<>(elements.size());
+      for (int i = 0; i < elements.size(); i++) {
+        LookLike condition = conditions.get(i);
+        actualImages.add(condition.apply(driver, elements.get(i)) ?
+            baselines.get(i).getPath() : condition.actualValue(driver, elements.get(i)));
+      }
+      throw new ImagesMismatch(collection, actualImages, baselineNames(), explanation, timeoutMs);
+    }
+  }
+
+  private List<String> baselineNames() {
+    List<String> names = new ArrayList<>(baselines.size());
+    for (File baseline : baselines) {
+      names.add(baseline.getPath());
+    }
+    return names;
+  }
+
+  @Override
+  public String toString() {
+    return "Look like " + baselineNames() + (tolerance > 0 ? " with tolerance " + tolerance : "");
+  }
+}
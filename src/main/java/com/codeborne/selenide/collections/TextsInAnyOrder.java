@@ -1,7 +1,6 @@
 package com.codeborne.selenide.collections;
 
 import com.codeborne.selenide.impl.Html;
-import org.openqa.selenium.WebElement;
 
 import java.util.List;
 
@@ -15,16 +14,12 @@ public class TextsInAnyOrder extends ExactTexts {
   }
 
   @Override
-  public boolean apply(List<WebElement> elements) {
-    if (elements.size() != expectedTexts.size()) {
-      return false;
-    }
-
+  protected boolean matches(List<String> actualTexts) {
     for (int i = 0; i < expectedTexts.size(); i++) {
       String expectedText = expectedTexts.get(i);
       boolean bFound = false;
-      for (WebElement element: elements) {
-        if (Html.text.contains(element.getText(), expectedText)) {
+      for (String actualText : actualTexts) {
+        if (Html.text.contains(actualText, expectedText)) {
           bFound = true;
         }
       }
@@ -3,10 +3,21 @@ package com.codeborne.selenide.commands;
 import com.codeborne.selenide.Command;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.ScriptRegistry;
+import com.codeborne.selenide.impl.ScriptRegistry.PinnedScript;
 import com.codeborne.selenide.impl.WebElementSource;
 import org.openqa.selenium.WebElement;
 
 public class Click implements Command<Void> {
+  private static final PinnedScript CLICK_WITH_OFFSET = ScriptRegistry.pin("clickWithOffset",
+      "arguments[0].dispatchEvent(new MouseEvent('click', {" +
+          "'view': window," +
+          "'bubbles': true," +
+          "'cancelable': true," +
+          "'clientX': arguments[0].getClientRects()[0].left + arguments[1]," +
+          "'clientY': arguments[0].getClientRects()[0].top + arguments[2]" +
+          "}))");
+
   @Override
   public Void execute(SelenideElement proxy, WebElementSource locator, Object[] args) {
     if (args == null || args.length == 0) {
@@ -29,13 +40,7 @@ public class Click implements Command<Void> {
 
   protected void click(Driver driver, WebElement element, int offsetX, int offsetY) {
     if (driver.config().clickViaJs()) {
-      driver.executeJavaScript("arguments[0].dispatchEvent(new MouseEvent('click', {" +
-          "'view': window," +
-          "'bubbles': true," +
-          "'cancelable': true," +
-          "'clientX': arguments[0].getClientRects()[0].left + arguments[1]," +
-          "'clientY': arguments[0].getClientRects()[0].top + arguments[2]" +
-          "}))",
+      ScriptRegistry.instance.execute(driver, CLICK_WITH_OFFSET,
         element,
         offsetX,
         offsetY);
@@ -9,19 +9,28 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class Commands {
-  private static Commands collection;
+  private static volatile Commands collection;
 
   private final Map<String, Command> commands = new ConcurrentHashMap<>(128);
-
-  public static synchronized Commands getInstance() {
-    if (collection == null) {
-      collection = new Commands();
-      collection.resetDefaults();
+  private volatile int version;
+
+  public static Commands getInstance() {
+    Commands instance = collection;
+    if (instance == null) {
+      synchronized (Commands.class) {
+        instance = collection;
+        if (instance == null) {
+          instance = new Commands();
+          instance.resetDefaults();
+          collection = instance;
+        }
+      }
     }
-    return collection;
+    return instance;
   }
 
   public final synchronized void resetDefaults() {
+    version++;
     commands.clear();
     addFindCommands();
     addClickCommands();
@@ -130,17 +139,33 @@ public class Commands {
     add("waitUntil", new ShouldBe());
   }
 
-  public void add(String method, Command command) {
+  public synchronized void add(String method, Command command) {
     commands.put(method, command);
+    version++;
   }
 
-  @SuppressWarnings("unchecked")
-  public <T> T execute(Object proxy, WebElementSource webElementSource, String methodName, Object[] args)
-      throws IOException {
+  /**
+   * @return number of modifications of this collection, can be used for caching commands
+   */
+  public int version() {
+    return version;
+  }
+
+  /**
+   * @return command for given method name
+   * @throws IllegalArgumentException if there is no such command
+   */
+  public Command get(String methodName) {
     Command command = commands.get(methodName);
     if (command == null) {
       throw new IllegalArgumentException("Unknown Selenide method: " + methodName);
     }
-    return (T) command.execute((SelenideElement) proxy, webElementSource, args);
+    return command;
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T> T execute(Object proxy, WebElementSource webElementSource, String methodName, Object[] args)
+      throws IOException {
+    return (T) get(methodName).execute((SelenideElement) proxy, webElementSource, args);
   }
 }
@@ -4,12 +4,27 @@ import com.codeborne.selenide.Command;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.ex.InvalidStateException;
+import com.codeborne.selenide.impl.ScriptRegistry;
+import com.codeborne.selenide.impl.ScriptRegistry.PinnedScript;
 import com.codeborne.selenide.impl.WebElementSource;
 import org.openqa.selenium.WebElement;
 
 import static com.codeborne.selenide.impl.Events.events;
 
 public class SetValue implements Command<WebElement> {
+  private static final PinnedScript SET_VALUE = ScriptRegistry.pin("setValue",
+      "return (function(webelement, text) {" +
+          "if (webelement.getAttribute('readonly') != undefined) return 'Cannot change value of readonly element';" +
+          "if (webelement.getAttribute('disabled') != undefined) return 'Cannot change value of disabled element';" +
+          "webelement.focus();" +
+          "var maxlength = webelement.getAttribute('maxlength') == null ? -1 : parseInt(webelement.getAttribute('maxlength'));" +
+          "webelement.value = " +
+          "maxlength == -1 ? text " +
+          ": text.length <= maxlength ? text " +
+          ": text.substring(0, maxlength);" +
+          "return null;" +
+          "})(arguments[0], arguments[1]);");
+
   private SelectOptionByValue selectOptionByValue;
   private SelectRadio selectRadio;
 
@@ -61,18 +76,6 @@ public class SetValue implements Command<WebElement> {
   }
 
   private String setValueByJs(Driver driver, WebElement element, String text) {
-    return driver.executeJavaScript(
-        "return (function(webelement, text) {" +
-            "if (webelement.getAttribute('readonly') != undefined) return 'Cannot change value of readonly element';" +
-            "if (webelement.getAttribute('disabled') != undefined) return 'Cannot change value of disabled element';" +
-            "webelement.focus();" +
-            "var maxlength = webelement.getAttribute('maxlength') == null ? -1 : parseInt(webelement.getAttribute('maxlength'));" +
-            "webelement.value = " +
-            "maxlength == -1 ? text " +
-            ": text.length <= maxlength ? text " +
-            ": text.substring(0, maxlength);" +
-            "return null;" +
-            "})(arguments[0], arguments[1]);",
-        element, text);
+    return ScriptRegistry.instance.execute(driver, SET_VALUE, element, text);
   }
 }
@@ -6,6 +6,8 @@ import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.Stopwatch;
 import com.codeborne.selenide.impl.Describe;
+import com.codeborne.selenide.impl.ScriptRegistry;
+import com.codeborne.selenide.impl.ScriptRegistry.PinnedScript;
 import com.codeborne.selenide.impl.WebElementSource;
 import org.openqa.selenium.ElementNotInteractableException;
 import org.openqa.selenium.WebElement;
@@ -15,6 +17,21 @@ import java.io.IOException;
 import java.util.List;
 
 public class UploadFile implements Command<File> {
+  private static final PinnedScript CLONE_INPUT_FIELD = ScriptRegistry.pin("cloneInputField",
+      "var newInputs = [];" +
+      "for (var i = 1; i <= arguments[2]; i++) {" +
+      "  var id = '___selenide___id___' + arguments[1].getAttribute('name') + '___' + i + '___' + arguments[3];" +
+      "  var fileInput = document.createElement('input');" +
+      "  fileInput.setAttribute('type', arguments[1].getAttribute('type'));" +
+      "  fileInput.setAttribute('name', arguments[1].getAttribute('name'));" +
+      "  fileInput.setAttribute('id', id);" +
+      "  fileInput.style.width = '1px';" +
+      "  fileInput.style.height = '1px';" +
+      "  arguments[0].appendChild(fileInput);" +
+      "  newInputs.push(fileInput);" +
+      "}" +
+      "return newInputs;");
+
   @Override
   public File execute(SelenideElement proxy, WebElementSource locator, Object[] args) throws IOException {
     File[] file;
@@ -58,7 +75,7 @@ public class UploadFile implements Command<File> {
         if (stopwatch.isTimeoutReached()) {
           throw notInteractable;
         }
-        stopwatch.sleep(config.pollingInterval());
+        stopwatch.sleep(config.pollingStrategy(), config.pollingInterval());
       }
     } while (!stopwatch.isTimeoutReached());
   }
@@ -78,20 +95,6 @@ public class UploadFile implements Command<File> {
   }
 
   protected List<WebElement> cloneInputField(Driver driver, SelenideElement form, WebElement inputField, int count) {
-    return driver.executeJavaScript(String.format("" +
-        "var newInputs = [];" +
-        "for (var i = 1; i <= arguments[2]; i++) {" +
-        "  var id = '___selenide___id___' + arguments[1].getAttribute('name') + '___' + i + '___%s';" +
-        "  var fileInput = document.createElement('input');" +
-        "  fileInput.setAttribute('type', arguments[1].getAttribute('type'));" +
-        "  fileInput.setAttribute('name', arguments[1].getAttribute('name'));" +
-        "  fileInput.setAttribute('id', id);" +
-        "  fileInput.style.width = '1px';" +
-        "  fileInput.style.height = '1px';" +
-        "  arguments[0].appendChild(fileInput);" +
-        "  newInputs.push(fileInput);" +
-        "}" +
-        "return newInputs;", System.nanoTime()),
-      form, inputField, count);
+    return ScriptRegistry.instance.execute(driver, CLONE_INPUT_FIELD, form, inputField, count, String.valueOf(System.nanoTime()));
   }
 }
@@ -1,6 +1,7 @@
 package com.codeborne.selenide.commands;
 
 import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.PollingStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,7 +16,7 @@ class Util {
         conditions.add((Condition) arg);
       else if (arg instanceof Condition[])
         conditions.addAll(asList((Condition[]) arg));
-      else if (!(arg instanceof String || arg instanceof Long))
+      else if (!(arg instanceof String || arg instanceof Long || arg instanceof PollingStrategy))
         throw new IllegalArgumentException("Unknown parameter: " + arg);
     }
     return conditions;
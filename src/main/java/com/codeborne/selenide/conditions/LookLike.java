@@ -0,0 +1,93 @@
+package com.codeborne.selenide.conditions;
+
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.impl.ImageDiff;
+import com.codeborne.selenide.impl.ScreenShotLaboratory;
+import org.openqa.selenium.WebElement;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Compares screenshot of element with a baseline image.
+ * <p>
+ * Diff image (with different pixels marked red) is saved to reports folder only when the check fails.
+ */
+public class LookLike extends Condition {
+  protected final File baseline;
+  protected final double tolerance;
+  private volatile BufferedImage baselineImage;
+
+  /**
+   * @param baseline  PNG file with expected screenshot of element
+   * @param tolerance the part of pixels that are allowed to differ (from 0.0 to 1.0)
+   */
+  public LookLike(File baseline, double tolerance) {
+    super("look like");
+    if (tolerance < 0 || tolerance > 1) {
+      throw new IllegalArgumentException("Tolerance should be between 0.0 and 1.0, but was: " + tolerance);
+    }
+    this.baseline = baseline;
+    this.tolerance = tolerance;
+  }
+
+  @Override
+  public boolean apply(Driver driver, WebElement element) {
+    return matches(ScreenShotLaboratory.getInstance().takeScreenshotAsImage(driver, element));
+  }
+
+  /**
+   * @param screenshot screenshot of element, or null if it could not be taken
+   */
+  public boolean matches(BufferedImage screenshot) {
+    return screenshot != null && ImageDiff.instance.matches(screenshot, baselineImage(), tolerance);
+  }
+
+  @Override
+  public String actualValue(Driver driver, WebElement element) {
+    BufferedImage screenshot = ScreenShotLaboratory.getInstance().takeScreenshotAsImage(driver, element);
+    if (screenshot == null) {
+      return "failed to take screenshot";
+    }
+    BufferedImage expected = baselineImage();
+    String difference = ImageDiff.sameSize(screenshot, expected) ?
+        differentPixels(screenshot, expected) :
+        "size " + ImageDiff.size(screenshot) + " instead of " + ImageDiff.size(expected);
+
+    File diff = ScreenShotLaboratory.getInstance().saveImage(driver.config(),
+        ImageDiff.instance.diffImage(screenshot, expected), ".diff");
+    return diff == null ? difference : difference + ", diff: " + diff.getAbsolutePath();
+  }
+
+  private String differentPixels(BufferedImage screenshot, BufferedImage expected) {
+    long pixels = (long) screenshot.getWidth() * screenshot.getHeight();
+    long mismatches = ImageDiff.instance.countMismatches(screenshot, expected, pixels);
+    return String.format("%d of %d pixels differ (%.2f%%)", mismatches, pixels, 100.0 * mismatches / pixels);
+  }
+
+  private BufferedImage baselineImage() {
+    BufferedImage image = baselineImage;
+    if (image == null) {
+      try {
+        image = ImageIO.read(baseline);
+      }
+      catch (IOException e) {
+        throw new UncheckedIOException("Failed to read baseline image " + baseline.getAbsolutePath(), e);
+      }
+      if (image == null) {
+        throw new IllegalArgumentException("Unknown format of baseline image " + baseline.getAbsolutePath());
+      }
+      baselineImage = image;
+    }
+    return image;
+  }
+
+  @Override
+  public String toString() {
+    return name + " '" + baseline.getPath() + '\'' + (tolerance > 0 ? " with tolerance " + tolerance : "");
+  }
+}
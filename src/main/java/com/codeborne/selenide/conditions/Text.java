@@ -2,6 +2,7 @@ package com.codeborne.selenide.conditions;
 
 import com.codeborne.selenide.Condition;
 import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.impl.BrowserFilter;
 import com.codeborne.selenide.impl.Html;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.Select;
@@ -32,6 +33,17 @@ public class Text extends Condition {
     return sb.toString();
   }
 
+  @Override
+  public boolean canCheckSnapshot() {
+    return true;
+  }
+
+  @Override
+  public String toJavascript() {
+    // subclasses may check text in a different way
+    return getClass() == Text.class ? "contains(selectedText(e), " + BrowserFilter.literal(text) + ")" : null;
+  }
+
   @Override
   public String toString() {
     return name + " '" + text + '\'';
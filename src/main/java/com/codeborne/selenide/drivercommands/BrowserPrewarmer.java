@@ -0,0 +1,245 @@
+package com.codeborne.selenide.drivercommands;
+
+import com.codeborne.selenide.Config;
+import org.openqa.selenium.Proxy;
+import org.openqa.selenium.support.events.WebDriverEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import static java.lang.System.currentTimeMillis;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Starts browsers in background in advance (see {@link Config#browserPrewarmCount()}).
+ * <p>
+ * When a test requests a browser, the next browser with the same settings starts in background,
+ * so that the next test just takes the ready browser.
+ * Browsers that are not taken within {@link Config#browserPrewarmTtl()} are quit.
+ * <p>
+ * If a browser fails to start in background, the failure is thrown to the test that requests it.
+ */
+public class BrowserPrewarmer {
+  private static final Logger log = Logger.getLogger(BrowserPrewarmer.class.getName());
+
+  public static BrowserPrewarmer instance = new BrowserPrewarmer();
+
+  private final BrowserHealthChecker browserHealthChecker;
+  private final ScheduledThreadPoolExecutor executor;
+  private final Map<List<Object>, Deque<WarmBrowser>> warm = new HashMap<>();
+  private int warmCount;
+  private boolean shutdown;
+
+  BrowserPrewarmer() {
+    this(new BrowserHealthChecker());
+  }
+
+  BrowserPrewarmer(BrowserHealthChecker browserHealthChecker) {
+    this.browserHealthChecker = browserHealthChecker;
+    this.executor = new ScheduledThreadPoolExecutor(2, new PrewarmThreadFactory());
+    this.executor.setRemoveOnCancelPolicy(true);
+    this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    ShutdownCoordinator.instance.closeOnShutdown(this::stop);
+  }
+
+  /**
+   * @param createBrowser starts a new browser (both for the current test and in background)
+   * @return browser started in advance, or a new browser if no browser with the same settings is ready
+   */
+  public CreateDriverCommand.Result take(Config config, Proxy userProvidedProxy,
+                                         List<WebDriverEventListener> listeners,
+                                         Supplier<CreateDriverCommand.Result> createBrowser) {
+    List<Object> key = WebDriverPool.key(config, userProvidedProxy, listeners);
+    WarmBrowser browser = takeWarm(key);
+    warmUp(config, key, createBrowser);
+
+    if (browser != null) {
+      CreateDriverCommand.Result result = browser.get();
+      if (browserHealthChecker.isBrowserStillOpen(result.webDriver)) {
+        log.info("Take browser started in advance: " + result.webDriver);
+        return result;
+      }
+      log.info("Browser started in advance has been closed meanwhile: " + result.webDriver);
+      quit(result);
+    }
+    return createBrowser.get();
+  }
+
+  /**
+   * Quits all browsers started in advance.
+   * Browsers which are still being started are awaited, but not longer than {@link Config#shutdownTimeout()}.
+   */
+  public void shutdown() {
+    long start = currentTimeMillis();
+    for (WarmBrowser browser : drain()) {
+      quit(browser, start + browser.config.shutdownTimeout());
+    }
+  }
+
+  /**
+   * Stops starting browsers when JVM exits: browsers started in advance are returned to be closed in parallel
+   * with other browsers (see {@link ShutdownCoordinator})
+   */
+  List<ShutdownCoordinator.Browser> stop() {
+    List<ShutdownCoordinator.Browser> browsers = new ArrayList<>();
+    for (WarmBrowser browser : drain()) {
+      long timeoutMs = browser.config.shutdownTimeout();
+      browsers.add(new ShutdownCoordinator.Browser("browser started in advance", timeoutMs,
+          () -> quit(browser, currentTimeMillis() + timeoutMs),
+          () -> kill(browser)));
+    }
+    return browsers;
+  }
+
+  public synchronized int warmBrowsers() {
+    return warmCount;
+  }
+
+  private List<WarmBrowser> drain() {
+    List<WarmBrowser> browsers = new ArrayList<>();
+    synchronized (this) {
+      shutdown = true;
+      for (Deque<WarmBrowser> queue : warm.values()) {
+        browsers.addAll(queue);
+      }
+      warm.clear();
+      warmCount = 0;
+    }
+    executor.shutdown();
+    return browsers;
+  }
+
+  private synchronized WarmBrowser takeWarm(List<Object> key) {
+    Deque<WarmBrowser> queue = warm.get(key);
+    WarmBrowser browser = queue == null ? null : queue.pollFirst();
+    if (browser != null) {
+      warmCount--;
+    }
+    return browser;
+  }
+
+  private void warmUp(Config config, List<Object> key, Supplier<CreateDriverCommand.Result> createBrowser) {
+    synchronized (this) {
+      if (shutdown || warmCount >= config.browserPrewarmCount()) {
+        return;
+      }
+      WarmBrowser browser = new WarmBrowser(config, CompletableFuture.supplyAsync(createBrowser, executor));
+      warm.computeIfAbsent(key, k -> new ArrayDeque<>()).addLast(browser);
+      warmCount++;
+      executor.schedule(() -> expire(key, browser), config.browserPrewarmTtl(), MILLISECONDS);
+    }
+  }
+
+  private void expire(List<Object> key, WarmBrowser browser) {
+    synchronized (this) {
+      Deque<WarmBrowser> queue = warm.get(key);
+      if (queue == null || !queue.remove(browser)) {
+        return;
+      }
+      warmCount--;
+    }
+    browser.future.thenAccept(result -> {
+      log.info("Quit browser started in advance that has not been used: " + result.webDriver);
+      quit(result);
+    });
+  }
+
+  private void quit(CreateDriverCommand.Result browser) {
+    new CloseDriverCommand(browser.webDriver, browser.selenideProxyServer).run();
+  }
+
+  /**
+   * Waits until the browser is started (but not longer than given deadline) and quits it.
+   * Browser which is not started in time is quit as soon as it starts.
+   */
+  private void quit(WarmBrowser browser, long deadline) {
+    CreateDriverCommand.Result result = browser.await(deadline);
+    if (result != null) {
+      quit(result);
+    }
+    else {
+      browser.future.thenAccept(this::quit);
+    }
+  }
+
+  private void kill(WarmBrowser browser) {
+    if (browser.future.isDone() && !browser.future.isCompletedExceptionally()) {
+      CreateDriverCommand.Result result = browser.future.join();
+      new KillDriverCommand(result.webDriver, result.selenideProxyServer).run();
+    }
+    else {
+      log.warning("Cannot kill browser which is still being started");
+    }
+  }
+
+  private static class WarmBrowser {
+    private final Config config;
+    private final CompletableFuture<CreateDriverCommand.Result> future;
+
+    private WarmBrowser(Config config, CompletableFuture<CreateDriverCommand.Result> future) {
+      this.config = config;
+      this.future = future;
+    }
+
+    /**
+     * Waits until the browser is started
+     */
+    CreateDriverCommand.Result get() {
+      try {
+        return future.join();
+      }
+      catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw new IllegalStateException("Failed to start browser in background", e.getCause());
+      }
+    }
+
+    /**
+     * Waits until the browser is started, but not longer than given deadline
+     *
+     * @return null if the browser has not been started in time or has failed to start
+     */
+    CreateDriverCommand.Result await(long deadline) {
+      try {
+        return future.get(Math.max(0, deadline - currentTimeMillis()), MILLISECONDS);
+      }
+      catch (TimeoutException e) {
+        log.warning("Browser has not been started in background in " + config.shutdownTimeout() + " ms");
+        return null;
+      }
+      catch (ExecutionException e) {
+        return null;
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return null;
+      }
+    }
+  }
+
+  private static class PrewarmThreadFactory implements ThreadFactory {
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "selenide-browser-prewarm-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
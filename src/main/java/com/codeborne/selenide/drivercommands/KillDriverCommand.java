@@ -0,0 +1,71 @@
+package com.codeborne.selenide.drivercommands;
+
+import com.codeborne.selenide.proxy.SelenideProxyServer;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.service.DriverCommandExecutor;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.lang.reflect.Field;
+import java.util.logging.Logger;
+
+import static java.util.logging.Level.FINE;
+
+/**
+ * Kills the driver process (e.g. chromedriver) of a browser that cannot be closed normally.
+ * <p>
+ * Only local drivers can be killed: for remote browsers there is no local process.
+ */
+class KillDriverCommand {
+  private static final Logger log = Logger.getLogger(KillDriverCommand.class.getName());
+
+  private final WebDriver webDriver;
+  private final SelenideProxyServer selenideProxyServer;
+
+  KillDriverCommand(WebDriver webDriver, SelenideProxyServer selenideProxyServer) {
+    this.webDriver = webDriver;
+    this.selenideProxyServer = selenideProxyServer;
+  }
+
+  public void run() {
+    if (webDriver != null) {
+      DriverService driverService = driverService(webDriver);
+      if (driverService == null) {
+        log.warning("Cannot kill webdriver " + webDriver + ": driver process not found");
+      }
+      else {
+        log.info("Kill driver process " + driverService.getUrl() + " of webdriver " + webDriver);
+        driverService.stop();
+      }
+    }
+    if (selenideProxyServer != null) {
+      log.info("Shutdown proxy server " + selenideProxyServer);
+      selenideProxyServer.shutdown();
+    }
+  }
+
+  static DriverService driverService(WebDriver webDriver) {
+    WebDriver driver = webDriver;
+    while (driver instanceof WrapsDriver) {
+      driver = ((WrapsDriver) driver).getWrappedDriver();
+    }
+    if (!(driver instanceof RemoteWebDriver)) {
+      return null;
+    }
+    CommandExecutor executor = ((RemoteWebDriver) driver).getCommandExecutor();
+    if (!(executor instanceof DriverCommandExecutor)) {
+      return null;
+    }
+    try {
+      Field service = DriverCommandExecutor.class.getDeclaredField("service");
+      service.setAccessible(true);
+      return (DriverService) service.get(executor);
+    }
+    catch (ReflectiveOperationException | RuntimeException e) {
+      log.log(FINE, "Failed to get driver service of " + webDriver, e);
+      return null;
+    }
+  }
+}
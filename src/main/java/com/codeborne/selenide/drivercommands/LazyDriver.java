@@ -90,20 +90,45 @@ public class LazyDriver implements Driver {
   }
 
   void createDriver() {
-    CreateDriverCommand.Result result = new CreateDriverCommand().createDriver(config, factory, userProvidedProxy, listeners);
+    CreateDriverCommand.Result result = config.browserPoolSize() > 0 ?
+      WebDriverPool.instance.checkout(config, userProvidedProxy, listeners, this::createNewDriver) :
+      createNewDriver();
     this.webDriver = result.webDriver;
     this.selenideProxyServer = result.selenideProxyServer;
     this.closed = false;
-    Runtime.getRuntime().addShutdownHook(new SelenideDriverFinalCleanupThread(this));
+    ShutdownCoordinator.instance.register(this);
+  }
+
+  private CreateDriverCommand.Result createNewDriver() {
+    return config.browserPrewarmCount() > 0 ?
+      BrowserPrewarmer.instance.take(config, userProvidedProxy, listeners, this::startDriver) :
+      startDriver();
+  }
+
+  private CreateDriverCommand.Result startDriver() {
+    return new CreateDriverCommand().createDriver(config, factory, userProvidedProxy, listeners);
   }
 
   @Override
   public void close() {
     if (!config.holdBrowserOpen()) {
-      new CloseDriverCommand(webDriver, selenideProxyServer).run();
+      if (webDriver != null && config.browserPoolSize() > 0) {
+        WebDriverPool.instance.release(config, new CreateDriverCommand.Result(webDriver, selenideProxyServer));
+      }
+      else {
+        new CloseDriverCommand(webDriver, selenideProxyServer).run();
+      }
       webDriver = null;
       selenideProxyServer = null;
       closed = true;
+      ShutdownCoordinator.instance.unregister(this);
     }
   }
+
+  /**
+   * Kills the driver process if the browser cannot be closed normally (see {@link ShutdownCoordinator})
+   */
+  void kill() {
+    new KillDriverCommand(webDriver, selenideProxyServer).run();
+  }
 }
@@ -5,6 +5,8 @@ import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Credentials;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideDriver;
+import com.codeborne.selenide.impl.ElementCache;
+import com.codeborne.selenide.impl.ScriptRegistry;
 import com.codeborne.selenide.logevents.SelenideLog;
 import com.codeborne.selenide.logevents.SelenideLogger;
 import com.codeborne.selenide.proxy.AuthenticationFilter;
@@ -59,6 +61,7 @@ public class Navigator {
     SelenideLog log = SelenideLogger.beginStep("open", url);
     try {
       WebDriver webDriver = driver.getAndCheckWebDriver();
+      forgetCurrentDocument(driver.config(), webDriver, "open");
       beforeNavigateTo(driver.config(), driver.getProxy(), authenticationType, domain, login, password);
       webDriver.navigate().to(url);
       SelenideLogger.commitStep(log, PASS);
@@ -137,14 +140,22 @@ public class Navigator {
   }
 
   public void back(Driver driver) {
+    forgetCurrentDocument(driver.config(), driver.getWebDriver(), "back");
     driver.getWebDriver().navigate().back();
   }
 
   public void forward(Driver driver) {
+    forgetCurrentDocument(driver.config(), driver.getWebDriver(), "forward");
     driver.getWebDriver().navigate().forward();
   }
 
   public void refresh(Driver driver) {
+    forgetCurrentDocument(driver.config(), driver.getWebDriver(), "refresh");
     driver.getWebDriver().navigate().refresh();
   }
+
+  private void forgetCurrentDocument(Config config, WebDriver webDriver, String reason) {
+    ElementCache.instance.reset(config, webDriver, reason);
+    ScriptRegistry.instance.reset(webDriver);
+  }
 }
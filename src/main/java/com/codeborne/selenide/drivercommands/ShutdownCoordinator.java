@@ -0,0 +1,198 @@
+package com.codeborne.selenide.drivercommands;
+
+import com.codeborne.selenide.Config;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.logging.Level.SEVERE;
+
+/**
+ * Closes all browsers (and runs other cleanup tasks) when JVM exits, using a single shutdown hook.
+ * <p>
+ * Browsers of tests, idle browsers of the pool and browsers started in advance are closed in parallel.
+ * If a browser is not closed within {@link Config#shutdownTimeout()}, its driver process (e.g. chromedriver) is killed.
+ */
+public class ShutdownCoordinator {
+  private static final Logger log = Logger.getLogger(ShutdownCoordinator.class.getName());
+
+  public static ShutdownCoordinator instance = new ShutdownCoordinator();
+
+  static {
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> instance.shutdown(), "selenide-shutdown"));
+  }
+
+  static final long TASK_TIMEOUT_MS = 10_000;
+  static final long KILL_TIMEOUT_MS = 5_000;
+
+  private final Set<LazyDriver> drivers = ConcurrentHashMap.newKeySet();
+  private final Queue<Supplier<List<Browser>>> browserOwners = new ConcurrentLinkedQueue<>();
+  private final Queue<Task> tasks = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Browser of given driver will be closed when JVM exits (unless it's closed before)
+   */
+  void register(LazyDriver driver) {
+    drivers.add(driver);
+  }
+
+  void unregister(LazyDriver driver) {
+    drivers.remove(driver);
+  }
+
+  /**
+   * Browsers returned by given owner (e.g. idle browsers of a pool) are closed when JVM exits,
+   * in parallel with all other browsers.
+   * The owner is asked for its browsers before browsers of tests are closed, so it should stop keeping them.
+   */
+  void closeOnShutdown(Supplier<List<Browser>> owner) {
+    browserOwners.add(owner);
+  }
+
+  /**
+   * Runs given task when JVM exits (in parallel with closing browsers)
+   *
+   * @param name used for logging
+   */
+  public void onShutdown(String name, Runnable task) {
+    tasks.add(new Task(name, task));
+  }
+
+  /**
+   * Closes all registered browsers and runs all tasks in parallel, waits until they are completed,
+   * and kills driver processes of browsers that are not closed in time.
+   */
+  public void shutdown() {
+    List<Browser> browsers = new ArrayList<>();
+    for (Supplier<List<Browser>> owner; (owner = browserOwners.poll()) != null; ) {
+      browsers.addAll(owner.get());
+    }
+    List<LazyDriver> closingDrivers = new ArrayList<>(drivers);
+    drivers.removeAll(closingDrivers);
+    for (LazyDriver driver : closingDrivers) {
+      browsers.add(new Browser(String.valueOf(driver), driver.config().shutdownTimeout(), driver::close, driver::kill));
+    }
+    List<Task> runningTasks = new ArrayList<>();
+    for (Task task; (task = tasks.poll()) != null; ) {
+      runningTasks.add(task);
+    }
+    if (browsers.isEmpty() && runningTasks.isEmpty()) {
+      return;
+    }
+
+    ExecutorService executor = Executors.newCachedThreadPool(new ShutdownThreadFactory());
+    try {
+      long start = System.currentTimeMillis();
+      Map<Browser, Future<?>> closing = new HashMap<>();
+      for (Browser browser : browsers) {
+        closing.put(browser, executor.submit(browser.close));
+      }
+      Map<Task, Future<?>> running = new HashMap<>();
+      for (Task task : runningTasks) {
+        running.put(task, executor.submit(task.task));
+      }
+
+      Map<Browser, Future<?>> killing = new HashMap<>();
+      for (Map.Entry<Browser, Future<?>> browser : closing.entrySet()) {
+        long timeoutMs = browser.getKey().timeoutMs;
+        if (!await(browser.getValue(), start + timeoutMs, "close webdriver")) {
+          log.warning("Webdriver " + browser.getKey().name + " has not been closed in " + timeoutMs + " ms. Let's kill it.");
+          killing.put(browser.getKey(), executor.submit(browser.getKey().kill));
+        }
+      }
+      long killStart = System.currentTimeMillis();
+      for (Map.Entry<Browser, Future<?>> browser : killing.entrySet()) {
+        if (!await(browser.getValue(), killStart + KILL_TIMEOUT_MS, "kill webdriver")) {
+          log.warning("Failed to kill webdriver " + browser.getKey().name + " in " + KILL_TIMEOUT_MS + " ms");
+        }
+      }
+      for (Map.Entry<Task, Future<?>> task : running.entrySet()) {
+        if (!await(task.getValue(), start + TASK_TIMEOUT_MS, task.getKey().name)) {
+          log.warning("Failed to " + task.getKey().name + " in " + TASK_TIMEOUT_MS + " ms");
+        }
+      }
+      log.info("Closed " + browsers.size() + " webdrivers in " + (System.currentTimeMillis() - start) + " ms");
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * @return false if the work has not been completed before the deadline
+   */
+  private boolean await(Future<?> future, long deadline, String action) {
+    try {
+      future.get(Math.max(0, deadline - System.currentTimeMillis()), MILLISECONDS);
+      return true;
+    }
+    catch (TimeoutException e) {
+      return false;
+    }
+    catch (ExecutionException e) {
+      log.log(SEVERE, "Failed to " + action, e.getCause());
+      return true;
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * Browser to close when JVM exits
+   */
+  static final class Browser {
+    private final String name;
+    private final long timeoutMs;
+    private final Runnable close;
+    private final Runnable kill;
+
+    /**
+     * @param timeoutMs how long to wait for {@code close} before running {@code kill}
+     */
+    Browser(String name, long timeoutMs, Runnable close, Runnable kill) {
+      this.name = name;
+      this.timeoutMs = timeoutMs;
+      this.close = close;
+      this.kill = kill;
+    }
+  }
+
+  private static class Task {
+    private final String name;
+    private final Runnable task;
+
+    private Task(String name, Runnable task) {
+      this.name = name;
+      this.task = task;
+    }
+  }
+
+  private static class ShutdownThreadFactory implements ThreadFactory {
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "selenide-shutdown-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
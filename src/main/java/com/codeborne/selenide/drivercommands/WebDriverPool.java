@@ -0,0 +1,318 @@
+package com.codeborne.selenide.drivercommands;
+
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.impl.Cleanup;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Proxy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.events.WebDriverEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Pool of browsers (see {@link Config#browserPoolSize()}).
+ * <p>
+ * Instead of quitting a browser when the test closes it, the browser is reset and kept idle,
+ * so that the next test with the same browser settings doesn't need to start a new browser.
+ * <p>
+ * Reset closes all windows except the first one, clears cookies, local and session storage
+ * of every open window and opens "about:blank".
+ * Note that WebDriver can clear cookies and storage only for the currently opened sites.
+ * <p>
+ * Browsers are quit instead of reuse when they fail the health check or the reset,
+ * have been used by {@link Config#browserPoolMaxUses()} tests or are older than {@link Config#browserPoolMaxAge()}.
+ * <p>
+ * Browsers with Selenide proxy ({@link Config#proxyEnabled()}) are not pooled: request and response filters
+ * added by a test to the proxy cannot be removed, so a new browser with a new proxy is started for every test.
+ */
+public class WebDriverPool {
+  private static final Logger log = Logger.getLogger(WebDriverPool.class.getName());
+
+  public static WebDriverPool instance = new WebDriverPool();
+
+  private static final String CLEAR_STORAGE = "try {window.localStorage.clear();} catch (e) {}" +
+      "try {window.sessionStorage.clear();} catch (e) {}";
+
+  private final BrowserHealthChecker browserHealthChecker;
+  private final Map<List<Object>, Deque<PooledBrowser>> idle = new HashMap<>();
+  private final Map<WebDriver, PooledBrowser> inUse = new IdentityHashMap<>();
+  private final Statistics statistics = new Statistics();
+  private int idleCount;
+  private boolean shutdown;
+
+  WebDriverPool() {
+    this(new BrowserHealthChecker());
+  }
+
+  WebDriverPool(BrowserHealthChecker browserHealthChecker) {
+    this.browserHealthChecker = browserHealthChecker;
+    ShutdownCoordinator.instance.closeOnShutdown(this::stop);
+  }
+
+  /**
+   * @param createBrowser used to start a new browser if there is no idle browser with the same settings
+   * @return idle browser with the same settings, or a new browser
+   */
+  public CreateDriverCommand.Result checkout(Config config, Proxy userProvidedProxy,
+                                             List<WebDriverEventListener> listeners,
+                                             Supplier<CreateDriverCommand.Result> createBrowser) {
+    if (config.proxyEnabled()) {
+      return createBrowser.get();
+    }
+
+    List<Object> key = key(config, userProvidedProxy, listeners);
+    PooledBrowser browser;
+    while ((browser = takeIdle(key)) != null) {
+      if (browser.isExpired(config)) {
+        log.info("Quit pooled browser " + browser + " used by " + browser.uses + " tests");
+        statistics.expired.incrementAndGet();
+        quit(browser);
+      }
+      else if (!browserHealthChecker.isBrowserStillOpen(browser.browser.webDriver)) {
+        log.info("Pooled browser " + browser + " has been closed meanwhile");
+        statistics.unhealthy.incrementAndGet();
+        quit(browser);
+      }
+      else {
+        browser.uses++;
+        statistics.reused.incrementAndGet();
+        return markInUse(browser);
+      }
+    }
+
+    CreateDriverCommand.Result created = createBrowser.get();
+    statistics.created.incrementAndGet();
+    return markInUse(new PooledBrowser(key, config, created, System.currentTimeMillis()));
+  }
+
+  /**
+   * Resets the browser and keeps it for the next test, or quits it (if it cannot be reused).
+   */
+  public void release(Config config, CreateDriverCommand.Result browser) {
+    PooledBrowser pooled;
+    boolean stopped;
+    synchronized (this) {
+      pooled = inUse.remove(browser.webDriver);
+      stopped = shutdown;
+    }
+    if (pooled == null) {
+      new CloseDriverCommand(browser.webDriver, browser.selenideProxyServer).run();
+      return;
+    }
+
+    if (stopped) {
+      quit(pooled);
+      return;
+    }
+
+    if (pooled.uses >= config.browserPoolMaxUses() || pooled.isExpired(config)) {
+      log.info("Quit pooled browser " + pooled + " used by " + pooled.uses + " tests");
+      statistics.expired.incrementAndGet();
+      quit(pooled);
+      return;
+    }
+
+    try {
+      long start = System.currentTimeMillis();
+      reset(pooled.browser.webDriver);
+      log.info("Reset pooled browser " + pooled + " in " + (System.currentTimeMillis() - start) + " ms");
+    }
+    catch (WebDriverException e) {
+      log.warning("Failed to reset pooled browser " + pooled + ": " + Cleanup.of.webdriverExceptionMessage(e));
+      statistics.resetFailed.incrementAndGet();
+      quit(pooled);
+      return;
+    }
+
+    if (!returnIdle(pooled, config.browserPoolSize())) {
+      quit(pooled);
+    }
+  }
+
+  /**
+   * Quits all idle browsers. Browsers released after shutdown are quit immediately (without reset).
+   */
+  public void shutdown() {
+    for (PooledBrowser browser : drainIdle()) {
+      quit(browser);
+    }
+  }
+
+  /**
+   * Stops the pool when JVM exits: idle browsers are returned to be closed in parallel
+   * with other browsers (see {@link ShutdownCoordinator}), and browsers released later are quit without reset.
+   */
+  List<ShutdownCoordinator.Browser> stop() {
+    List<ShutdownCoordinator.Browser> browsers = new ArrayList<>();
+    for (PooledBrowser browser : drainIdle()) {
+      browsers.add(new ShutdownCoordinator.Browser(browser.toString(), browser.config.shutdownTimeout(),
+          () -> quit(browser),
+          () -> new KillDriverCommand(browser.browser.webDriver, browser.browser.selenideProxyServer).run()));
+    }
+    return browsers;
+  }
+
+  public Statistics statistics() {
+    return statistics;
+  }
+
+  public synchronized int idleBrowsers() {
+    return idleCount;
+  }
+
+  void reset(WebDriver webDriver) {
+    List<String> windows = new ArrayList<>(webDriver.getWindowHandles());
+    for (int i = windows.size() - 1; i >= 0; i--) {
+      webDriver.switchTo().window(windows.get(i));
+      if (webDriver instanceof JavascriptExecutor) {
+        ((JavascriptExecutor) webDriver).executeScript(CLEAR_STORAGE);
+      }
+      webDriver.manage().deleteAllCookies();
+      if (i > 0) {
+        webDriver.close();
+      }
+    }
+    webDriver.get("about:blank");
+  }
+
+  private synchronized List<PooledBrowser> drainIdle() {
+    shutdown = true;
+    List<PooledBrowser> browsers = new ArrayList<>(idleCount);
+    for (Deque<PooledBrowser> queue : idle.values()) {
+      browsers.addAll(queue);
+    }
+    idle.clear();
+    idleCount = 0;
+    return browsers;
+  }
+
+  private synchronized PooledBrowser takeIdle(List<Object> key) {
+    Deque<PooledBrowser> queue = idle.get(key);
+    PooledBrowser browser = queue == null ? null : queue.pollFirst();
+    if (browser != null) {
+      idleCount--;
+    }
+    return browser;
+  }
+
+  private synchronized boolean returnIdle(PooledBrowser browser, int maxIdleBrowsers) {
+    if (shutdown || idleCount >= maxIdleBrowsers) {
+      return false;
+    }
+    idle.computeIfAbsent(browser.key, k -> new ArrayDeque<>()).addFirst(browser);
+    idleCount++;
+    return true;
+  }
+
+  private synchronized CreateDriverCommand.Result markInUse(PooledBrowser browser) {
+    inUse.put(browser.browser.webDriver, browser);
+    return browser.browser;
+  }
+
+  private void quit(PooledBrowser browser) {
+    statistics.quit.incrementAndGet();
+    new CloseDriverCommand(browser.browser.webDriver, browser.browser.selenideProxyServer).run();
+  }
+
+  /**
+   * Browsers can be reused only by tests with the same browser settings
+   */
+  static List<Object> key(Config config, Proxy userProvidedProxy, List<WebDriverEventListener> listeners) {
+    return Arrays.asList(config.browser(), config.browserVersion(), config.headless(), config.remote(),
+        config.browserBinary(), config.browserSize(), config.browserPosition(), config.startMaximized(),
+        config.pageLoadStrategy(), config.browserCapabilities(), config.proxyEnabled(), config.proxyHost(),
+        config.proxyPort(), config.fileDownload(), userProvidedProxy, new ArrayList<>(listeners));
+  }
+
+  private static class PooledBrowser {
+    private final List<Object> key;
+    private final Config config;
+    private final CreateDriverCommand.Result browser;
+    private final long createdAt;
+    private int uses = 1;
+
+    private PooledBrowser(List<Object> key, Config config, CreateDriverCommand.Result browser, long createdAt) {
+      this.key = key;
+      this.config = config;
+      this.browser = browser;
+      this.createdAt = createdAt;
+    }
+
+    boolean isExpired(Config config) {
+      return System.currentTimeMillis() - createdAt >= config.browserPoolMaxAge();
+    }
+
+    @Override
+    public String toString() {
+      return String.valueOf(browser.webDriver);
+    }
+  }
+
+  public static class Statistics {
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong reused = new AtomicLong();
+    private final AtomicLong expired = new AtomicLong();
+    private final AtomicLong unhealthy = new AtomicLong();
+    private final AtomicLong resetFailed = new AtomicLong();
+    private final AtomicLong quit = new AtomicLong();
+
+    /**
+     * @return number of started browsers
+     */
+    public long created() {
+      return created.get();
+    }
+
+    /**
+     * @return number of times an idle browser was given to a test instead of starting a new one
+     */
+    public long reused() {
+      return reused.get();
+    }
+
+    /**
+     * @return number of browsers quit because of {@link Config#browserPoolMaxUses()} or {@link Config#browserPoolMaxAge()}
+     */
+    public long expired() {
+      return expired.get();
+    }
+
+    /**
+     * @return number of idle browsers that failed the health check
+     */
+    public long unhealthy() {
+      return unhealthy.get();
+    }
+
+    /**
+     * @return number of browsers that failed to reset
+     */
+    public long resetFailed() {
+      return resetFailed.get();
+    }
+
+    /**
+     * @return number of browsers quit by the pool
+     */
+    public long quit() {
+      return quit.get();
+    }
+
+    @Override
+    public String toString() {
+      return "created: " + created + ", reused: " + reused + ", expired: " + expired +
+          ", unhealthy: " + unhealthy + ", reset failed: " + resetFailed + ", quit: " + quit;
+    }
+  }
+}
@@ -2,10 +2,9 @@ package com.codeborne.selenide.ex;
 
 import com.codeborne.selenide.Condition;
 import com.codeborne.selenide.Driver;
-import com.codeborne.selenide.impl.Describe;
 import org.openqa.selenium.WebElement;
 
-import static com.codeborne.selenide.ex.ErrorMessages.actualValue;
+import static com.codeborne.selenide.ex.ErrorMessages.elementDetails;
 
 public class ElementShould extends UIAssertionError {
   public ElementShould(Driver driver, String searchCriteria, String prefix, Condition expectedCondition,
@@ -15,11 +14,10 @@ public class ElementShould extends UIAssertionError {
 
   public ElementShould(Driver driver, String searchCriteria, String prefix, String message, Condition expectedCondition,
                        WebElement element, Throwable lastError) {
-    super(driver,
+    super(driver, elementDetails(
       "Element should " + prefix + expectedCondition + " {" + searchCriteria + "}" +
-        (message != null ? " because " + message : "") +
-        "\nElement: '" + Describe.describe(driver, element) + '\'' +
-        actualValue(expectedCondition, driver, element), lastError);
+        (message != null ? " because " + message : ""),
+      driver, expectedCondition, element), lastError);
   }
 
   @Override
@@ -2,19 +2,17 @@ package com.codeborne.selenide.ex;
 
 import com.codeborne.selenide.Condition;
 import com.codeborne.selenide.Driver;
-import com.codeborne.selenide.impl.Describe;
 import org.openqa.selenium.WebElement;
 
-import static com.codeborne.selenide.ex.ErrorMessages.actualValue;
+import static com.codeborne.selenide.ex.ErrorMessages.elementDetails;
 
 public class ElementShouldNot extends UIAssertionError {
   public ElementShouldNot(Driver driver, String searchCriteria, String prefix, String message, Condition expectedCondition,
                           WebElement element, Throwable lastError) {
-    super(driver,
+    super(driver, elementDetails(
       "Element should not " + prefix + expectedCondition + " {" + searchCriteria + '}' +
-        (message != null ? " because " + message : "") +
-        "\nElement: '" + Describe.describe(driver, element) + '\'' +
-        actualValue(expectedCondition, driver, element), lastError);
+        (message != null ? " because " + message : ""),
+      driver, expectedCondition, element), lastError);
   }
 
   @Override
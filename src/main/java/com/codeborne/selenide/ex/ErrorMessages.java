@@ -4,10 +4,13 @@ import com.codeborne.selenide.Condition;
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.impl.Cleanup;
+import com.codeborne.selenide.impl.Describe;
 import com.codeborne.selenide.impl.ScreenShotLaboratory;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
+import java.util.function.Supplier;
+
 public class ErrorMessages {
   protected static String timeout(long timeoutMs) {
     if (timeoutMs < 1000) {
@@ -20,6 +23,12 @@ public class ErrorMessages {
     return "\nTimeout: " + String.format("%.3f", timeoutMs / 1000.0) + " s.";
   }
 
+  static Supplier<String> elementDetails(String header, Driver driver, Condition condition, WebElement element) {
+    return () -> header +
+      "\nElement: '" + Describe.describe(driver, element) + '\'' +
+      actualValue(condition, driver, element);
+  }
+
   static String actualValue(Condition condition, Driver driver, WebElement element) {
     if (element != null) {
       String actualValue = condition.actualValue(driver, element);
@@ -43,11 +52,11 @@ public class ErrorMessages {
       return "\nScreenshot: " + screenshotPath;
     }
 
-    if (config.savePageSource() && !screenshotPath.endsWith(".html")) {
-      String htmlFilePath = getHtmlFilePath(screenshotPath);
+    if (config.savePageSource() && !isPageSource(screenshotPath)) {
+      String htmlFilePath = getHtmlFilePath(config, screenshotPath);
       return "\nScreenshot: " + screenshotPath + "\nPage source: " + htmlFilePath;
     }
-    else if (screenshotPath.endsWith(".html")) {
+    else if (isPageSource(screenshotPath)) {
       return "\nPage source: " + screenshotPath;
     }
     else {
@@ -65,7 +74,11 @@ public class ErrorMessages {
     return "\nCaused by: " + cause;
   }
 
-  private static String getHtmlFilePath(String screenshotPath) {
-    return screenshotPath.substring(0, screenshotPath.lastIndexOf('.')) + ".html";
+  private static boolean isPageSource(String path) {
+    return path.endsWith(".html") || path.endsWith(".html.gz");
+  }
+
+  private static String getHtmlFilePath(Config config, String screenshotPath) {
+    return screenshotPath.substring(0, screenshotPath.lastIndexOf('.')) + (config.compressPageSources() ? ".html.gz" : ".html");
   }
 }
@@ -0,0 +1,22 @@
+package com.codeborne.selenide.ex;
+
+import com.codeborne.selenide.impl.WebElementsCollection;
+
+import java.util.List;
+
+public class ImagesMismatch extends UIAssertionError {
+  public ImagesMismatch(WebElementsCollection collection, List<String> actualImages,
+                        List<String> expectedImages, String explanation, long timeoutMs) {
+    super(collection.driver(),
+      "\nActual: " + actualImages +
+        "\nExpected: " + expectedImages +
+        (explanation == null ? "" : "\nBecause: " + explanation) +
+        "\nCollection: " + collection.description());
+    super.timeoutMs = timeoutMs;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + ' ' + getMessage() + uiDetails();
+  }
+}
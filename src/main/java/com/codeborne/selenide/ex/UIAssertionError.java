@@ -4,6 +4,8 @@ import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.impl.Cleanup;
 import com.codeborne.selenide.impl.ScreenShotLaboratory;
 
+import java.util.function.Supplier;
+
 import static com.codeborne.selenide.ex.ErrorMessages.causedBy;
 import static com.codeborne.selenide.ex.ErrorMessages.screenshot;
 import static com.codeborne.selenide.ex.ErrorMessages.timeout;
@@ -11,6 +13,8 @@ import static com.codeborne.selenide.ex.ErrorMessages.timeout;
 
 public class UIAssertionError extends AssertionError {
   private final Driver driver;
+  private transient Supplier<String> lazyMessage;
+  private String message;
 
   private String screenshot;
   public long timeoutMs;
@@ -29,6 +33,30 @@ public class UIAssertionError extends AssertionError {
     this.driver = driver;
   }
 
+  /**
+   * Message is evaluated only when somebody reads it.
+   * Retry loops throw and drop such errors on every failed poll, and describing an element
+   * costs several extra calls to webdriver - it makes sense only for the error which is finally reported.
+   */
+  protected UIAssertionError(Driver driver, Supplier<String> lazyMessage, Throwable cause) {
+    super(null, cause);
+    this.driver = driver;
+    this.lazyMessage = lazyMessage;
+  }
+
+  @Override
+  public String getMessage() {
+    evaluateMessage();
+    return message == null ? super.getMessage() : message;
+  }
+
+  private synchronized void evaluateMessage() {
+    if (lazyMessage != null) {
+      message = lazyMessage.get();
+      lazyMessage = null;
+    }
+  }
+
   @Override
   public String toString() {
     return getClass().getSimpleName() + " " + getLocalizedMessage() + uiDetails();
@@ -57,6 +85,7 @@ public class UIAssertionError extends AssertionError {
   private static Error wrapThrowable(Driver driver, Throwable error, long timeoutMs) {
     UIAssertionError uiError = error instanceof UIAssertionError ? (UIAssertionError) error : new UIAssertionError(driver, error);
     uiError.timeoutMs = timeoutMs;
+    uiError.evaluateMessage();
     uiError.screenshot = ScreenShotLaboratory.getInstance().formatScreenShotPath(driver);
     return uiError;
   }
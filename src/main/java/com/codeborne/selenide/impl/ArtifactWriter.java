@@ -0,0 +1,201 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.drivercommands.ShutdownCoordinator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import static com.google.common.hash.Hashing.sha256;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.logging.Level.SEVERE;
+
+/**
+ * Writes reports of failing tests (screenshots, page sources) to disk.
+ * <p>
+ * If {@link Config#asyncArtifacts()} is enabled, files are written by a small pool of background threads,
+ * so that test thread only needs to get the content from browser.
+ * When the queue is full, test thread writes the file itself.
+ * <p>
+ * Call {@link #flush()} to make sure all files requested by current thread have been written (e.g. at the end of test).
+ * <p>
+ * If {@link Config#deduplicateArtifacts()} is enabled, identical files are stored only once
+ * (in folder "blobs" under SHA-256 hash of their content), and the requested files are hard links to them.
+ */
+public class ArtifactWriter {
+  private static final Logger log = Logger.getLogger(ArtifactWriter.class.getName());
+
+  public static ArtifactWriter instance = new ArtifactWriter();
+
+  private static final int WORKERS = 2;
+  private static final int QUEUE_SIZE = 64;
+  private static final long DEFAULT_FLUSH_TIMEOUT_MS = 60_000;
+  private static final String BLOBS_FOLDER = "blobs";
+
+  private final ThreadPoolExecutor executor;
+  private final Object lock = new Object();
+  private final Counter allPending = new Counter();
+  private final ThreadLocal<Counter> ownPending = ThreadLocal.withInitial(Counter::new);
+
+  ArtifactWriter() {
+    executor = new ThreadPoolExecutor(WORKERS, WORKERS, 10, SECONDS,
+        new ArrayBlockingQueue<>(QUEUE_SIZE), new WriterThreadFactory(), new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.allowCoreThreadTimeOut(true);
+    ShutdownCoordinator.instance.onShutdown("write reports", this::flushAll);
+  }
+
+  /**
+   * Writes given content to file (creating parent folders if needed)
+   */
+  public void write(Config config, File file, byte[] content) {
+    write(config, file, () -> content);
+  }
+
+  /**
+   * Writes content to file (creating parent folders if needed).
+   * Content is produced (e.g. compressed) by the same thread that writes it.
+   */
+  public void write(Config config, File file, Supplier<byte[]> content) {
+    if (!config.asyncArtifacts()) {
+      writeNow(config, file, content);
+      return;
+    }
+
+    Counter own = ownPending.get();
+    synchronized (lock) {
+      own.value++;
+      allPending.value++;
+    }
+    executor.execute(() -> {
+      try {
+        writeNow(config, file, content);
+      }
+      finally {
+        synchronized (lock) {
+          own.value--;
+          allPending.value--;
+          lock.notifyAll();
+        }
+      }
+    });
+  }
+
+  /**
+   * Waits until all files requested by current thread have been written
+   *
+   * @return false if some files have not been written in 1 minute
+   */
+  public boolean flush() {
+    return flush(DEFAULT_FLUSH_TIMEOUT_MS);
+  }
+
+  /**
+   * Waits until all files requested by current thread have been written
+   *
+   * @return false if some files have not been written in given time
+   */
+  public boolean flush(long timeoutMs) {
+    return await(ownPending.get(), timeoutMs);
+  }
+
+  /**
+   * Waits until all files requested by any thread have been written
+   *
+   * @return false if some files have not been written in 1 minute
+   */
+  public boolean flushAll() {
+    return await(allPending, DEFAULT_FLUSH_TIMEOUT_MS);
+  }
+
+  private boolean await(Counter pending, long timeoutMs) {
+    long deadline = System.currentTimeMillis() + timeoutMs;
+    synchronized (lock) {
+      while (pending.value > 0) {
+        long remainingMs = deadline - System.currentTimeMillis();
+        if (remainingMs <= 0) {
+          log.warning("Failed to write " + pending.value + " reports in " + timeoutMs + " ms");
+          return false;
+        }
+        try {
+          lock.wait(remainingMs);
+        }
+        catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private void writeNow(Config config, File file, Supplier<byte[]> content) {
+    try {
+      ensureFolderExists(file);
+      if (config.deduplicateArtifacts() && config.reportsFolder() != null) {
+        writeDeduplicated(new File(config.reportsFolder(), BLOBS_FOLDER), file, content.get());
+      }
+      else {
+        Files.write(file.toPath(), content.get());
+      }
+    }
+    catch (IOException | RuntimeException e) {
+      log.log(SEVERE, "Failed to write file " + file.getAbsolutePath(), e);
+    }
+  }
+
+  /**
+   * Stores content in given folder under its hash (if it's not stored yet),
+   * and links the file to it
+   */
+  private void writeDeduplicated(File blobs, File file, byte[] content) throws IOException {
+    String name = file.getName();
+    String extension = name.contains(".") ? name.substring(name.lastIndexOf('.')) : "";
+    File blob = new File(blobs, sha256().hashBytes(content) + extension);
+    if (!blob.exists()) {
+      ensureFolderExists(blob);
+      Path temporaryFile = Files.createTempFile(blobs.toPath(), "blob", extension);
+      Files.write(temporaryFile, content);
+      Files.move(temporaryFile, blob.toPath(), REPLACE_EXISTING);
+    }
+
+    Files.deleteIfExists(file.toPath());
+    try {
+      Files.createLink(file.toPath(), blob.toPath());
+    }
+    catch (IOException | UnsupportedOperationException linksAreNotSupported) {
+      Files.copy(blob.toPath(), file.toPath());
+    }
+  }
+
+  private void ensureFolderExists(File file) throws IOException {
+    File folder = file.getAbsoluteFile().getParentFile();
+    if (!folder.exists()) {
+      log.info("Creating folder: " + folder);
+      Files.createDirectories(folder.toPath());
+    }
+  }
+
+  private static class Counter {
+    private int value;
+  }
+
+  private static class WriterThreadFactory implements ThreadFactory {
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "selenide-artifacts-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
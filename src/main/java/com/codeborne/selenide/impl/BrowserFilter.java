@@ -0,0 +1,136 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.Driver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filters collection elements in browser with a single javascript call,
+ * instead of checking condition for every element over the wire.
+ * <p>
+ * Works only for conditions which can be compiled to javascript (see {@link Condition#toJavascript()}).
+ * Javascript expression of condition refers to the element as variable {@code e}
+ * and may use the following functions:
+ * <ul>
+ *   <li>{@code isDisplayed(e)}, {@code getAttribute(e, name)} - Selenium atoms</li>
+ *   <li>{@code attr(e, name)} - attribute value, or empty string if attribute is missing</li>
+ *   <li>{@code text(e)} - text of element (empty for invisible element), {@code selectedText(e)} - the same,
+ *   but for {@code <select>} returns texts of selected options</li>
+ *   <li>{@code contains(text, subtext)}, {@code containsCaseSensitive(text, subtext)},
+ *   {@code equals(text, expected)}, {@code equalsCaseSensitive(text, expected)} - the same as in {@link Html}</li>
+ *   <li>{@code enabled(e)}, {@code selected(e)}</li>
+ * </ul>
+ */
+public class BrowserFilter {
+  public static BrowserFilter instance = new BrowserFilter();
+
+  private static final String FUNCTIONS =
+      "function attr(e, name) { var v = getAttribute(e, name); return v === null || v === undefined ? '' : String(v); }" +
+      "function text(e) { return isDisplayed(e) ? (e.innerText || '') : ''; }" +
+      "function selectedText(e) {" +
+      "  if (e.tagName.toLowerCase() !== 'select') return text(e);" +
+      "  var texts = '';" +
+      "  for (var i = 0; i < e.options.length; i++) { if (e.options[i].selected) texts += e.options[i].text; }" +
+      "  return texts;" +
+      "}" +
+      "function reduceSpaces(s) { return s.replace(/[\\s\\n\\r\\u00a0]+/g, ' ').trim(); }" +
+      "function contains(text, subtext) { return reduceSpaces(text.toLowerCase()).indexOf(reduceSpaces(subtext.toLowerCase())) >= 0; }" +
+      "function containsCaseSensitive(text, subtext) { return reduceSpaces(text).indexOf(reduceSpaces(subtext)) >= 0; }" +
+      "function equals(text, expected) { return reduceSpaces(text).toLowerCase() === reduceSpaces(expected).toLowerCase(); }" +
+      "function equalsCaseSensitive(text, expected) { return reduceSpaces(text) === reduceSpaces(expected); }" +
+      "function enabled(e) { return e.matches ? !e.matches(':disabled') : !e.disabled; }" +
+      "function selected(e) { return !!(e.selected || e.checked); }";
+
+  private static ScriptRegistry.Library library;
+
+  private static final String FILTER =
+      "var elements = arguments[0], findFirst = arguments[1], result = [];" +
+      "for (var n = 0; n < elements.length; n++) {" +
+      "  var e = elements[n];" +
+      "  if (%s) {" +
+      "    result.push(e);" +
+      "    if (findFirst) break;" +
+      "  }" +
+      "}" +
+      "return result;";
+
+  /**
+   * @return javascript string literal for given value
+   */
+  public static String literal(String value) {
+    StringBuilder sb = new StringBuilder(value.length() + 2).append('\'');
+    for (char c : value.toCharArray()) {
+      switch (c) {
+        case '\'': sb.append("\\'"); break;
+        case '\\': sb.append("\\\\"); break;
+        case '\n': sb.append("\\n"); break;
+        case '\r': sb.append("\\r"); break;
+        case '\u2028': sb.append("\\u2028"); break;
+        case '\u2029': sb.append("\\u2029"); break;
+        default: sb.append(c);
+      }
+    }
+    return sb.append('\'').toString();
+  }
+
+  public boolean canFilter(Driver driver, Condition condition) {
+    return condition != null && driver.supportsJavascript() && !driver.browser().isHtmlUnit() &&
+        condition.toJavascript() != null;
+  }
+
+  /**
+   * Filters elements of given collection in browser.
+   * If collection itself is filtered by compilable conditions, the whole chain of filters is checked by one script.
+   *
+   * @throws org.openqa.selenium.WebDriverException if script fails (e.g. some element has disappeared)
+   */
+  public List<WebElement> filter(WebElementsCollection collection, Condition condition) {
+    return filter(collection, condition, false);
+  }
+
+  /**
+   * @return the first element of given collection which matches given condition, or null if there is no such element
+   * @throws org.openqa.selenium.WebDriverException if script fails (e.g. some element has disappeared)
+   */
+  public WebElement findFirst(WebElementsCollection collection, Condition condition) {
+    List<WebElement> found = filter(collection, condition, true);
+    return found.isEmpty() ? null : found.get(0);
+  }
+
+  private List<WebElement> filter(WebElementsCollection collection, Condition condition, boolean findFirst) {
+    Driver driver = collection.driver();
+    StringBuilder predicate = new StringBuilder("(").append(condition.toJavascript()).append(')');
+
+    WebElementsCollection source = collection;
+    while (source instanceof FilteringCollection && canFilter(driver, ((FilteringCollection) source).condition())) {
+      FilteringCollection filteringCollection = (FilteringCollection) source;
+      predicate.insert(0, "(" + filteringCollection.condition().toJavascript() + ") && ");
+      source = filteringCollection.originalCollection();
+    }
+
+    List<WebElement> elements = source.getElements();
+    if (elements.isEmpty()) {
+      return new ArrayList<>(0);
+    }
+    return ScriptRegistry.instance.execute(driver, script(predicate.toString()), new ArrayList<>(elements), findFirst);
+  }
+
+  private ScriptRegistry.PinnedScript script(String predicate) {
+    return ScriptRegistry.pin("filter", library(), String.format(FILTER, predicate));
+  }
+
+  /**
+   * @return all functions which javascript of conditions may use (installed in browser once)
+   */
+  static synchronized ScriptRegistry.Library library() {
+    if (library == null) {
+      library = ScriptRegistry.library("conditionFunctions", SeleniumAtoms.functions() + FUNCTIONS,
+          "isDisplayed", "getAttribute", "attr", "text", "selectedText", "reduceSpaces", "contains",
+          "containsCaseSensitive", "equals", "equalsCaseSensitive", "enabled", "selected");
+    }
+    return library;
+  }
+}
@@ -3,6 +3,7 @@ package com.codeborne.selenide.impl;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideElement;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebElement;
 
@@ -26,10 +27,45 @@ public class BySelectorCollection implements WebElementsCollection {
 
   @Override
   public List<WebElement> getElements() {
+    LocatorChain.Chain chain = LocatorChain.instance.compile(driver, parent, selector, 0);
+    if (chain != null) {
+      try {
+        return LocatorChain.instance.findAll(driver, chain);
+      }
+      catch (JavascriptException cannotResolveChainInBrowser) {
+        // fall back to searching elements one by one
+      }
+    }
     SearchContext searchContext = parent == null ? driver.getWebDriver() : parent;
     return WebElementSelector.instance.findElements(driver, searchContext, selector);
   }
 
+  /**
+   * @return element of this collection with given index, found together with all its parents by a single javascript call,
+   * or null if it cannot be found this way
+   * @throws IndexOutOfBoundsException if the collection has less elements than needed
+   */
+  WebElement getElement(int index) {
+    LocatorChain.Chain chain = LocatorChain.instance.compile(driver, parent, selector, index);
+    if (chain != null) {
+      try {
+        return LocatorChain.instance.find(driver, chain);
+      }
+      catch (JavascriptException cannotResolveChainInBrowser) {
+        // fall back to searching elements one by one
+      }
+    }
+    return null;
+  }
+
+  SearchContext parent() {
+    return parent;
+  }
+
+  By selector() {
+    return selector;
+  }
+
   @Override
   public String description() {
     return parent == null ? Describe.selector(selector) :
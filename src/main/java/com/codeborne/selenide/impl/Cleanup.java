@@ -1,6 +1,8 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.ex.UIAssertionError;
 import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.StaleElementReferenceException;
 
 public class Cleanup {
   public static Cleanup of = new Cleanup();
@@ -21,13 +23,18 @@ public class Cleanup {
 
   public boolean isInvalidSelectorError(Throwable error) {
     if (error == null) return false;
+    if (error instanceof UIAssertionError) return isCausedByInvalidSelector(error);
 
     String message = error.getMessage();
     if (message == null) return false;
 
     return (error instanceof InvalidSelectorException && !message.contains("\"Element is not selectable\"")) ||
       isInvalidSelectorMessage(message) ||
-      error.getCause() != null && error.getCause() != error && isInvalidSelectorError(error.getCause());
+      isCausedByInvalidSelector(error);
+  }
+
+  private boolean isCausedByInvalidSelector(Throwable error) {
+    return error.getCause() != null && error.getCause() != error && isInvalidSelectorError(error.getCause());
   }
 
   private boolean isInvalidSelectorMessage(String message) {
@@ -39,6 +46,16 @@ public class Cleanup {
       message.contains("INVALID_EXPRESSION_ERR");
   }
 
+  /**
+   * @return true if given error (or its cause) means that found element has disappeared from page
+   */
+  public boolean isStaleElementError(Throwable error) {
+    for (Throwable e = error; e != null; e = e.getCause() == e ? null : e.getCause()) {
+      if (e instanceof StaleElementReferenceException) return true;
+    }
+    return false;
+  }
+
   public InvalidSelectorException wrap(Throwable error) {
     return (error instanceof InvalidSelectorException) ?
       (InvalidSelectorException) error :
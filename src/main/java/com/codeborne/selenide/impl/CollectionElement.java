@@ -32,9 +32,23 @@ public class CollectionElement extends WebElementSource {
 
   @Override
   public WebElement getWebElement() {
+    if (collection instanceof BySelectorCollection) {
+      WebElement element = ((BySelectorCollection) collection).getElement(index);
+      if (element != null) {
+        return element;
+      }
+    }
     return collection.getElements().get(index);
   }
 
+  WebElementsCollection collection() {
+    return collection;
+  }
+
+  int index() {
+    return index;
+  }
+
   @Override
   public String getSearchCriteria() {
     return collection.description() + '[' + index  + ']';
@@ -4,6 +4,7 @@ import com.codeborne.selenide.Condition;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.ex.ElementNotFound;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
 import java.lang.reflect.Proxy;
@@ -34,6 +35,19 @@ public class CollectionElementByCondition extends WebElementSource {
 
   @Override
   public WebElement getWebElement() {
+    if (BrowserFilter.instance.canFilter(driver(), condition)) {
+      try {
+        WebElement element = BrowserFilter.instance.findFirst(collection, condition);
+        if (element == null) {
+          throw new ElementNotFound(driver(), getSearchCriteria(), condition);
+        }
+        return element;
+      }
+      catch (WebDriverException cannotFilterInBrowser) {
+        // fall back to checking elements one by one
+      }
+    }
+
     List<WebElement> list = collection.getElements();
 
     for (WebElement element : list) {
@@ -2,16 +2,40 @@ package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.ScriptRegistry.PinnedScript;
 import org.openqa.selenium.By;
 import org.openqa.selenium.InvalidElementStateException;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
+import static java.util.Collections.singletonList;
+
+/**
+ * Describes elements for error messages (e.g. {@code <input id="name" type="text" value="John" displayed:false></input>}).
+ * <p>
+ * If browser supports javascript, description of one element or a whole batch of elements
+ * is collected by a single javascript call. Otherwise every property is asked from webdriver separately.
+ */
 public class Describe {
+  private static final PinnedScript ALL_ATTRIBUTES = ScriptRegistry.pin("allAttributes",
+      "var s = {};" +
+          "var attrs = arguments[0].attributes;" +
+          "for (var i = 0; i < attrs.length; i++) {" +
+          "   var a = attrs[i]; " +
+          "   if (a.name != 'style') {" +
+          "     s[a.name] = a.value;" +
+          "   }" +
+          "}" +
+          "return s;");
+
+  private static PinnedScript describeScript;
+
   private final Driver driver;
   private final WebElement element;
   private final StringBuilder sb = new StringBuilder();
@@ -34,16 +58,7 @@ public class Describe {
   }
 
   private Describe appendAllAttributes() {
-    Map<String, String> map = driver.executeJavaScript(
-        "var s = {};" +
-            "var attrs = arguments[0].attributes;" +
-            "for (var i = 0; i < attrs.length; i++) {" +
-            "   var a = attrs[i]; " +
-            "   if (a.name != 'style') {" +
-            "     s[a.name] = a.value;" +
-            "   }" +
-            "}" +
-            "return s;", element);
+    Map<String, String> map = ScriptRegistry.instance.execute(driver, ALL_ATTRIBUTES, element);
 
     SortedMap<String, String> sortedByName = new TreeMap<>();
     if (map != null) {
@@ -83,7 +98,7 @@ public class Describe {
   }
 
   private String serialize() {
-    String text = element.getText();
+    String text = truncate(element.getText(), driver.config().describeMaxTextLength());
     sb.append('>').append(text == null ? "" : text).append("</").append(element.getTagName()).append('>');
     return sb.toString();
   }
@@ -98,6 +113,39 @@ public class Describe {
   }
 
   public static String describe(Driver driver, WebElement element) {
+    if (element != null && canDescribeAtOnce(driver)) {
+      List<Map<String, Object>> descriptions = describeAtOnce(driver, singletonList(element), true);
+      if (descriptions != null) {
+        return describe(descriptions.get(0));
+      }
+    }
+    return describeStepByStep(driver, element);
+  }
+
+  /**
+   * Describes all given elements by a single javascript call (if possible)
+   *
+   * @return descriptions of given elements in the same order
+   */
+  public static List<String> describe(Driver driver, List<WebElement> elements) {
+    List<String> result = new ArrayList<>(elements.size());
+    if (!elements.isEmpty() && !elements.contains(null) && canDescribeAtOnce(driver)) {
+      List<Map<String, Object>> descriptions = describeAtOnce(driver, elements, true);
+      if (descriptions != null) {
+        for (Map<String, Object> description : descriptions) {
+          result.add(describe(description));
+        }
+        return result;
+      }
+    }
+    // e.g. some of elements has disappeared - describe them one by one
+    for (WebElement element : elements) {
+      result.add(describeStepByStep(driver, element));
+    }
+    return result;
+  }
+
+  private static String describeStepByStep(Driver driver, WebElement element) {
     try {
       if (element == null) {
         return "null";
@@ -123,6 +171,12 @@ public class Describe {
       if (element instanceof SelenideElement) {
         return shortly(driver, ((SelenideElement) element).toWebElement());
       }
+      if (canDescribeAtOnce(driver)) {
+        List<Map<String, Object>> descriptions = describeAtOnce(driver, singletonList(element), false);
+        if (descriptions != null) {
+          return shortly(descriptions.get(0));
+        }
+      }
       return new Describe(driver, element).attr("id").attr("name").flush();
     } catch (WebDriverException elementDoesNotExist) {
       return Cleanup.of.webdriverExceptionMessage(elementDoesNotExist);
@@ -156,6 +210,95 @@ public class Describe {
     return this;
   }
 
+  private static boolean canDescribeAtOnce(Driver driver) {
+    return driver != null && driver.supportsJavascript() && !driver.browser().isHtmlUnit();
+  }
+
+  /**
+   * @return descriptions of given elements, or null if browser could not describe them
+   */
+  @SuppressWarnings("unchecked")
+  private static List<Map<String, Object>> describeAtOnce(Driver driver, List<WebElement> elements, boolean full) {
+    try {
+      Object descriptions = ScriptRegistry.instance.execute(driver, describeScript(),
+          new ArrayList<>(elements), full, driver.config().describeMaxTextLength());
+      return descriptions instanceof List && ((List<?>) descriptions).size() == elements.size() ?
+          (List<Map<String, Object>>) descriptions : null;
+    }
+    catch (WebDriverException | UnsupportedOperationException cannotDescribeAtOnce) {
+      return null;
+    }
+  }
+
+  private static synchronized PinnedScript describeScript() {
+    if (describeScript == null) {
+      describeScript = ScriptRegistry.pin("describe", BrowserFilter.library(),
+          "var elements = arguments[0], full = arguments[1], maxTextLength = arguments[2], result = [];" +
+          "for (var i = 0; i < elements.length; i++) {" +
+          "  var e = elements[i], attributes = {};" +
+          "  if (full) {" +
+          "    for (var j = 0; j < e.attributes.length; j++) {" +
+          "      if (e.attributes[j].name != 'style') attributes[e.attributes[j].name] = e.attributes[j].value;" +
+          "    }" +
+          "    attributes['value'] = getAttribute(e, 'value');" +
+          "    if (!attributes.hasOwnProperty('type')) attributes['type'] = getAttribute(e, 'type');" +
+          "  }" +
+          "  else {" +
+          "    attributes['id'] = getAttribute(e, 'id');" +
+          "    attributes['name'] = getAttribute(e, 'name');" +
+          "  }" +
+          "  var displayed = full && isDisplayed(e);" +
+          "  var text = displayed ? (e.innerText || '').trim() : '';" +
+          "  if (maxTextLength > 0 && text.length > maxTextLength) text = text.substring(0, maxTextLength) + '...';" +
+          "  result.push({" +
+          "    tag: e.tagName.toLowerCase()," +
+          "    attributes: attributes," +
+          "    selected: full && !!(e.selected || e.checked)," +
+          "    displayed: displayed," +
+          "    text: text" +
+          "  });" +
+          "}" +
+          "return result;");
+    }
+    return describeScript;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static String describe(Map<String, Object> description) {
+    String tag = (String) description.get("tag");
+    StringBuilder sb = new StringBuilder().append('<').append(tag);
+    Map<String, Object> attributes = new TreeMap<>((Map<String, Object>) description.get("attributes"));
+    for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+      appendAttribute(sb, attribute.getKey(), attribute.getValue());
+    }
+    if (Boolean.TRUE.equals(description.get("selected"))) {
+      sb.append(' ').append("selected:true");
+    }
+    if (!Boolean.TRUE.equals(description.get("displayed"))) {
+      sb.append(' ').append("displayed:false");
+    }
+    return sb.append('>').append(description.get("text")).append("</").append(tag).append('>').toString();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static String shortly(Map<String, Object> description) {
+    StringBuilder sb = new StringBuilder().append('<').append(description.get("tag"));
+    Map<String, Object> attributes = (Map<String, Object>) description.get("attributes");
+    appendAttribute(sb, "id", attributes.get("id"));
+    appendAttribute(sb, "name", attributes.get("name"));
+    return sb.append('>').toString();
+  }
+
+  private static void appendAttribute(StringBuilder sb, String name, Object value) {
+    if (value != null && value.toString().length() > 0) {
+      sb.append(' ').append(name).append("=\"").append(value).append('"');
+    }
+  }
+
+  static String truncate(String text, int maxLength) {
+    return text == null || maxLength <= 0 || text.length() <= maxLength ? text : text.substring(0, maxLength) + "...";
+  }
+
   static String shortly(By selector) {
     if (selector instanceof By.ByCssSelector) {
       return selector.toString()
@@ -0,0 +1,66 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.logevents.SelenideLog;
+import com.codeborne.selenide.logevents.SelenideLogger;
+import com.google.common.collect.MapMaker;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
+
+/**
+ * Tracks validity of web elements cached by {@link ElementFinder} (see {@link Config#cacheElements()}).
+ * <p>
+ * Every browser has its "generation" which is increased on navigation and on switching frames/windows:
+ * elements found in previous generation are not used anymore.
+ * When the cache is reset, number of cache hits and misses is reported to {@link SelenideLogger}.
+ */
+public class ElementCache {
+  public static ElementCache instance = new ElementCache();
+
+  private final ConcurrentMap<WebDriver, Stats> browsers = new MapMaker().weakKeys().makeMap();
+
+  /**
+   * Mark all elements found in given browser as outdated
+   * @param reason e.g. "open", "switch to frame"
+   */
+  public void reset(Config config, WebDriver webDriver, String reason) {
+    if (!config.cacheElements() || webDriver == null) return;
+
+    Stats stats = stats(webDriver);
+    stats.generation.incrementAndGet();
+    long hits = stats.hits.sumThenReset();
+    long misses = stats.misses.sumThenReset();
+    if (hits + misses > 0) {
+      SelenideLog log = SelenideLogger.beginStep("element cache",
+          "reset on " + reason + " (hits: " + hits + ", misses: " + misses + ")");
+      SelenideLogger.commitStep(log, PASS);
+    }
+  }
+
+  long generation(WebDriver webDriver) {
+    return stats(webDriver).generation.get();
+  }
+
+  void hit(WebDriver webDriver) {
+    stats(webDriver).hits.increment();
+  }
+
+  void miss(WebDriver webDriver) {
+    stats(webDriver).misses.increment();
+  }
+
+  private Stats stats(WebDriver webDriver) {
+    return browsers.computeIfAbsent(webDriver, b -> new Stats());
+  }
+
+  private static class Stats {
+    final AtomicLong generation = new AtomicLong();
+    final LongAdder hits = new LongAdder();
+    final LongAdder misses = new LongAdder();
+  }
+}
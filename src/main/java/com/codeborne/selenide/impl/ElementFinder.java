@@ -5,8 +5,10 @@ import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.ex.ElementNotFound;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
 import java.lang.reflect.Proxy;
@@ -48,6 +50,7 @@ public class ElementFinder extends WebElementSource {
   private final SearchContext parent;
   private final By criteria;
   private final int index;
+  private volatile CachedElement cached;
 
   ElementFinder(Driver driver, SearchContext parent, By criteria, int index) {
     this.driver = driver;
@@ -70,6 +73,34 @@ public class ElementFinder extends WebElementSource {
 
   @Override
   public WebElement getWebElement() throws NoSuchElementException, IndexOutOfBoundsException {
+    if (!driver.config().cacheElements()) {
+      return findWebElement();
+    }
+
+    WebDriver webDriver = driver.getWebDriver();
+    long generation = ElementCache.instance.generation(webDriver);
+    CachedElement cachedElement = cached;
+    if (cachedElement != null && cachedElement.generation == generation) {
+      ElementCache.instance.hit(webDriver);
+      return cachedElement.element;
+    }
+
+    ElementCache.instance.miss(webDriver);
+    WebElement element = findWebElement();
+    cached = new CachedElement(element, generation);
+    return element;
+  }
+
+  private WebElement findWebElement() {
+    LocatorChain.Chain chain = LocatorChain.instance.compile(driver, parent, criteria, index);
+    if (chain != null) {
+      try {
+        return LocatorChain.instance.find(driver, chain);
+      }
+      catch (JavascriptException cannotResolveChainInBrowser) {
+        // fall back to searching elements one by one (e.g. to get a proper "invalid selector" error)
+      }
+    }
     return index == 0 ?
         WebElementSelector.instance.findElement(driver, getSearchContext(), criteria) :
         WebElementSelector.instance.findElements(driver, getSearchContext(), criteria).get(index);
@@ -77,17 +108,69 @@ public class ElementFinder extends WebElementSource {
 
   @Override
   public List<WebElement> findAll() throws NoSuchElementException, IndexOutOfBoundsException {
+    if (index == 0) {
+      LocatorChain.Chain chain = LocatorChain.instance.compile(driver, parent, criteria, index);
+      if (chain != null) {
+        try {
+          return LocatorChain.instance.findAll(driver, chain);
+        }
+        catch (JavascriptException cannotResolveChainInBrowser) {
+          // fall back to searching elements one by one
+        }
+      }
+    }
     return index == 0 ?
         WebElementSelector.instance.findElements(driver(), getSearchContext(), criteria) :
         super.findAll();
   }
 
+  /**
+   * Forgets cached element after any failure, because conditions like {@code exist} may fail on stale element
+   * without throwing StaleElementReferenceException.
+   * Cached parent is forgotten if it has become stale.
+   */
+  @Override
+  public void onFailure(Throwable error) {
+    cached = null;
+    WebElementSource parentSource = SelenideElementProxy.sourceOf(parent);
+    if (parentSource != null && Cleanup.of.isStaleElementError(error)) {
+      parentSource.onFailure(error);
+    }
+  }
+
+  /**
+   * Conditions which are met by absent element (like {@code hidden}) are also met by stale element.
+   * Cached element is not used for checking them: a stale element could hide a re-rendered one.
+   */
+  @Override
+  public WebElement checkConditions(String prefix, String message, List<Condition> conditions, boolean invert) {
+    for (Condition condition : conditions) {
+      if (condition.applyNull() != invert) {
+        cached = null;
+        break;
+      }
+    }
+    return super.checkConditions(prefix, message, conditions, invert);
+  }
+
   private SearchContext getSearchContext() {
     return parent == null ? driver().getWebDriver() :
         (parent instanceof SelenideElement) ? ((SelenideElement) parent).toWebElement() :
         parent;
   }
 
+  SearchContext parent() {
+    return parent;
+  }
+
+  By criteria() {
+    return criteria;
+  }
+
+  int index() {
+    return index;
+  }
+
   @Override
   public ElementNotFound createElementNotFoundError(Condition condition, Throwable lastError) {
     if (parent instanceof SelenideElement) {
@@ -111,4 +194,18 @@ public class ElementFinder extends WebElementSource {
   public String toString() {
     return "{" + getSearchCriteria() + '}';
   }
+
+  /**
+   * Element together with the generation of page it was found in (see {@link ElementCache}).
+   * Both are stored in one volatile field, so that they are never read inconsistently.
+   */
+  private static final class CachedElement {
+    private final WebElement element;
+    private final long generation;
+
+    private CachedElement(WebElement element, long generation) {
+      this.element = element;
+      this.generation = generation;
+    }
+  }
 }
@@ -0,0 +1,227 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.Driver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * State of web element (tag, text, visibility, attributes etc.) collected by a single javascript call.
+ * <p>
+ * Built-in conditions are checked against the snapshot instead of asking webdriver for every property separately.
+ * Everything that is not collected (e.g. attributes missing in html, css values, or actions like click)
+ * is delegated to the live element.
+ * <p>
+ * Visibility and attributes are calculated by the same javascript "atoms" that Selenium itself uses.
+ */
+public class ElementSnapshot implements WebElement, WrapsElement {
+  private static ScriptRegistry.PinnedScript script;
+
+  /**
+   * @return snapshot of given element, if it makes sense for given conditions.
+   * Otherwise (or if snapshot cannot be taken) returns the element itself.
+   */
+  public static WebElement of(Driver driver, WebElement element, List<Condition> conditions) {
+    if (!driver.config().conditionSnapshots() || !supportsSnapshots(driver)) {
+      return element;
+    }
+
+    if (!anyCanCheckSnapshot(conditions)) {
+      return element;
+    }
+
+    try {
+      Map<String, Object> state = ScriptRegistry.instance.execute(driver, script(), element);
+      return state == null ? element : new ElementSnapshot(element, state);
+    }
+    catch (WebDriverException | IllegalStateException cannotTakeSnapshot) {
+      return element;
+    }
+  }
+
+  private static boolean anyCanCheckSnapshot(List<Condition> conditions) {
+    for (Condition condition : conditions) {
+      if (condition.canCheckSnapshot()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean supportsSnapshots(Driver driver) {
+    return driver.supportsJavascript() && !driver.browser().isHtmlUnit();
+  }
+
+  private static synchronized ScriptRegistry.PinnedScript script() {
+    if (script == null) {
+      script = ScriptRegistry.pin("elementSnapshot", BrowserFilter.library(),
+          "var element = arguments[0];" +
+          "var displayed = isDisplayed(element);" +
+          "var attributes = {};" +
+          "for (var i = 0; i < element.attributes.length; i++) {" +
+          "  var name = element.attributes[i].name.toLowerCase();" +
+          "  attributes[name] = getAttribute(element, name);" +
+          "}" +
+          "attributes['value'] = getAttribute(element, 'value');" +
+          "var rect = element.getBoundingClientRect();" +
+          "return {" +
+          "  tagName: element.tagName.toLowerCase()," +
+          "  text: displayed ? (element.innerText || '').trim() : ''," +
+          "  displayed: displayed," +
+          "  enabled: element.matches ? !element.matches(':disabled') : !element.disabled," +
+          "  selected: !!(element.selected || element.checked)," +
+          "  rect: [rect.left + window.pageXOffset, rect.top + window.pageYOffset, rect.width, rect.height]," +
+          "  attributes: attributes" +
+          "};");
+    }
+    return script;
+  }
+
+  private final WebElement delegate;
+  private final String tagName;
+  private final String text;
+  private final boolean displayed;
+  private final boolean enabled;
+  private final boolean selected;
+  private final Rectangle rect;
+  private final Map<String, String> attributes;
+
+  @SuppressWarnings("unchecked")
+  ElementSnapshot(WebElement delegate, Map<String, Object> state) {
+    this.delegate = delegate;
+    this.tagName = (String) state.get("tagName");
+    this.text = (String) state.get("text");
+    this.displayed = Boolean.TRUE.equals(state.get("displayed"));
+    this.enabled = Boolean.TRUE.equals(state.get("enabled"));
+    this.selected = Boolean.TRUE.equals(state.get("selected"));
+    this.rect = toRectangle((List<Number>) state.get("rect"));
+    this.attributes = (Map<String, String>) state.get("attributes");
+  }
+
+  private static Rectangle toRectangle(List<Number> rect) {
+    return new Rectangle(rect.get(0).intValue(), rect.get(1).intValue(), rect.get(3).intValue(), rect.get(2).intValue());
+  }
+
+  @Override
+  public WebElement getWrappedElement() {
+    return delegate;
+  }
+
+  @Override
+  public String getTagName() {
+    return tagName;
+  }
+
+  @Override
+  public String getText() {
+    return text;
+  }
+
+  @Override
+  public boolean isDisplayed() {
+    return displayed;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  @Override
+  public boolean isSelected() {
+    return selected;
+  }
+
+  /**
+   * Attributes present in html are taken from snapshot.
+   * Other names are delegated to the live element, because webdriver may resolve them to element's properties.
+   */
+  @Override
+  public String getAttribute(String name) {
+    String key = name.toLowerCase();
+    return attributes.containsKey(key) ? attributes.get(key) : delegate.getAttribute(name);
+  }
+
+  /**
+   * Css values are always read from the live element: webdriver normalizes them (e.g. colors to "rgba(...)"),
+   * so raw computed style would differ from what {@link WebElement#getCssValue} returns.
+   */
+  @Override
+  public String getCssValue(String propertyName) {
+    return delegate.getCssValue(propertyName);
+  }
+
+  @Override
+  public Point getLocation() {
+    return rect.getPoint();
+  }
+
+  @Override
+  public Dimension getSize() {
+    return rect.getDimension();
+  }
+
+  @Override
+  public Rectangle getRect() {
+    return rect;
+  }
+
+  @Override
+  public void click() {
+    delegate.click();
+  }
+
+  @Override
+  public void submit() {
+    delegate.submit();
+  }
+
+  @Override
+  public void sendKeys(CharSequence... keysToSend) {
+    delegate.sendKeys(keysToSend);
+  }
+
+  @Override
+  public void clear() {
+    delegate.clear();
+  }
+
+  @Override
+  public List<WebElement> findElements(By by) {
+    return delegate.findElements(by);
+  }
+
+  @Override
+  public WebElement findElement(By by) {
+    return delegate.findElement(by);
+  }
+
+  @Override
+  public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+    return delegate.getScreenshotAs(target);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof ElementSnapshot ? delegate.equals(((ElementSnapshot) o).delegate) : delegate.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    return delegate.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return delegate.toString();
+  }
+}
@@ -0,0 +1,63 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Retrieves texts of all collection elements with a single javascript call,
+ * instead of calling {@link WebElement#getText()} for every element.
+ * <p>
+ * Text of element is its rendered {@code innerText}, and it's empty for element which is not displayed.
+ * Visibility is checked by the same javascript atom that webdriver uses, so hidden elements
+ * (e.g. with zero size or {@code opacity: 0}) have empty text - the same as {@link WebElement#getText()} returns.
+ */
+public class ElementTexts {
+  public static ElementTexts instance = new ElementTexts();
+
+  private static final String TEXTS = "var elements = arguments[0], reduceSpaces = arguments[1], texts = [];" +
+      "for (var i = 0; i < elements.length; i++) {" +
+      "  var t = text(elements[i]);" +
+      "  texts.push(reduceSpaces ? t.replace(/[\\s\\n\\r\\u00a0]+/g, ' ').trim() : t.trim());" +
+      "}" +
+      "return texts;";
+
+  private static ScriptRegistry.PinnedScript script;
+
+  public boolean canRetrieveAtOnce(Driver driver) {
+    return driver.supportsJavascript() && !driver.browser().isHtmlUnit();
+  }
+
+  /**
+   * @return texts of given elements (line breaks are preserved)
+   * @throws org.openqa.selenium.WebDriverException if any of elements has disappeared
+   */
+  public List<String> texts(Driver driver, Collection<WebElement> elements) {
+    return texts(driver, elements, false);
+  }
+
+  /**
+   * @return texts of given elements with whitespaces reduced in the same way as {@link Html} does before comparing texts
+   * @throws org.openqa.selenium.WebDriverException if any of elements has disappeared
+   */
+  public List<String> reducedTexts(Driver driver, Collection<WebElement> elements) {
+    return texts(driver, elements, true);
+  }
+
+  private List<String> texts(Driver driver, Collection<WebElement> elements, boolean reduceSpaces) {
+    if (elements.isEmpty()) {
+      return new ArrayList<>(0);
+    }
+    return ScriptRegistry.instance.execute(driver, script(), new ArrayList<>(elements), reduceSpaces);
+  }
+
+  private static synchronized ScriptRegistry.PinnedScript script() {
+    if (script == null) {
+      script = ScriptRegistry.pin("texts", BrowserFilter.library(), TEXTS);
+    }
+    return script;
+  }
+}
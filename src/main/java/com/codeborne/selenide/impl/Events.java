@@ -1,6 +1,7 @@
 package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.impl.ScriptRegistry.PinnedScript;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
 
@@ -12,7 +13,7 @@ public class Events {
   public static Events events = new Events();
 
   Logger log = Logger.getLogger(Events.class.getName());
-  private final String jsCodeToTriggerEvent =
+  private final PinnedScript jsCodeToTriggerEvent = ScriptRegistry.pin("triggerEvent",
       "var webElement = arguments[0];\n" +
           "var eventNames = arguments[1];\n" +
           "for (var i = 0; i < eventNames.length; i++) {" +
@@ -25,7 +26,7 @@ public class Events {
           "    evt.initEvent(eventNames[i], true, true );\n " +
           "    webElement.dispatchEvent(evt);\n" +
           "  }\n" +
-          '}';
+          '}');
 
   public void fireEvent(Driver driver, WebElement element, final String... event) {
     try {
@@ -39,6 +40,6 @@ public class Events {
   }
 
   void executeJavaScript(Driver driver, WebElement element, String... event) {
-    driver.executeJavaScript(jsCodeToTriggerEvent, element, event);
+    ScriptRegistry.instance.execute(driver, jsCodeToTriggerEvent, element, event);
   }
 }
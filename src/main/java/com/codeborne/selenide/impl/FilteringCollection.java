@@ -4,6 +4,7 @@ import com.codeborne.selenide.Condition;
 import com.codeborne.selenide.Driver;
 import com.google.common.base.Predicate;
 import org.checkerframework.checker.nullness.compatqual.NullableDecl;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
 import java.util.ArrayList;
@@ -14,22 +15,44 @@ import static com.google.common.collect.Collections2.filter;
 public class FilteringCollection implements WebElementsCollection {
   private final WebElementsCollection originalCollection;
   private final Predicate<WebElement> filter;
+  private final Condition condition;
 
   public FilteringCollection(WebElementsCollection originalCollection, Predicate<WebElement> filter) {
     this.originalCollection = originalCollection;
     this.filter = filter;
+    this.condition = null;
   }
 
   public FilteringCollection(WebElementsCollection originalCollection, Condition filter) {
     this.originalCollection = originalCollection;
     this.filter = new ConditionPredicate(driver(), filter);
+    this.condition = filter;
   }
 
   @Override
   public List<WebElement> getElements() {
+    if (BrowserFilter.instance.canFilter(driver(), condition)) {
+      try {
+        return BrowserFilter.instance.filter(originalCollection, condition);
+      }
+      catch (WebDriverException cannotFilterInBrowser) {
+        // fall back to checking elements one by one
+      }
+    }
     return new ArrayList<>(filter(originalCollection.getElements(), filter));
   }
 
+  WebElementsCollection originalCollection() {
+    return originalCollection;
+  }
+
+  /**
+   * @return condition used for filtering, or null if collection is filtered by a custom predicate
+   */
+  Condition condition() {
+    return condition;
+  }
+
   @Override
   public String description() {
     return originalCollection.description() + ".filter(" + filter + ')';
@@ -0,0 +1,43 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.SelenideElement;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Element of collection bound to already found {@link WebElement}.
+ * Commands are applied to this web element without searching the collection again.
+ * The collection is searched again (and element taken by index) only after the web element has become stale.
+ */
+public class FixedCollectionElement extends CollectionElement {
+  public static SelenideElement wrap(WebElementsCollection collection, WebElement element, int index) {
+    return (SelenideElement) Proxy.newProxyInstance(
+        collection.getClass().getClassLoader(), new Class<?>[]{SelenideElement.class},
+        new SelenideElementProxy(new FixedCollectionElement(collection, element, index)));
+  }
+
+  private volatile WebElement element;
+
+  FixedCollectionElement(WebElementsCollection collection, WebElement element, int index) {
+    super(collection, index);
+    this.element = element;
+  }
+
+  @Override
+  public WebElement getWebElement() {
+    WebElement found = element;
+    if (found == null) {
+      found = super.getWebElement();
+      element = found;
+    }
+    return found;
+  }
+
+  @Override
+  public void onFailure(Throwable error) {
+    if (Cleanup.of.isStaleElementError(error)) {
+      element = null;
+    }
+  }
+}
@@ -0,0 +1,171 @@
+package com.codeborne.selenide.impl;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pixel-by-pixel comparison of images (e.g. screenshot of element and its baseline).
+ * <p>
+ * Images are split into horizontal bands which are compared in parallel on a fork/join pool.
+ * Every band is converted to a primitive {@code int[]} raster once, and comparison stops
+ * as soon as the number of different pixels exceeds the allowed limit.
+ * <p>
+ * Alpha channel is ignored.
+ */
+public class ImageDiff {
+  public static ImageDiff instance = new ImageDiff();
+
+  static final int BAND_HEIGHT = 32;
+  private static final int DIFFERENT_PIXEL = 0xFF0000;
+
+  private final ForkJoinPool pool;
+
+  public ImageDiff() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  ImageDiff(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
+  /**
+   * @param tolerance the part of pixels that are allowed to differ (from 0.0 to 1.0)
+   * @return true if images have the same size and not more than {@code tolerance} of their pixels differ
+   */
+  public boolean matches(BufferedImage actual, BufferedImage expected, double tolerance) {
+    if (!sameSize(actual, expected)) {
+      return false;
+    }
+    long maxMismatches = maxMismatches(actual, tolerance);
+    return countMismatches(actual, expected, maxMismatches) <= maxMismatches;
+  }
+
+  /**
+   * @param maxMismatches comparison stops when number of different pixels exceeds this limit
+   * @return number of different pixels (if it's greater than {@code maxMismatches}, it's not necessarily exact)
+   * @throws IllegalArgumentException if images have different size
+   */
+  public long countMismatches(BufferedImage actual, BufferedImage expected, long maxMismatches) {
+    if (!sameSize(actual, expected)) {
+      throw new IllegalArgumentException("Cannot compare image " + size(actual) + " with image " + size(expected));
+    }
+    AtomicLong mismatches = new AtomicLong();
+    Bands bands = new Bands(actual, expected, 0, actual.getHeight(), maxMismatches, mismatches);
+    if (actual.getHeight() <= BAND_HEIGHT) {
+      bands.compute();
+    }
+    else {
+      pool.invoke(bands);
+    }
+    return mismatches.get();
+  }
+
+  /**
+   * @return image with different pixels marked red on top of faded {@code actual} image
+   */
+  public BufferedImage diffImage(BufferedImage actual, BufferedImage expected) {
+    int width = Math.max(actual.getWidth(), expected.getWidth());
+    int height = Math.max(actual.getHeight(), expected.getHeight());
+    BufferedImage diff = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    int[] actualRow = new int[width];
+    int[] expectedRow = new int[width];
+    int[] diffRow = new int[width];
+    for (int y = 0; y < height; y++) {
+      int actualWidth = readRow(actual, y, actualRow);
+      int expectedWidth = readRow(expected, y, expectedRow);
+      for (int x = 0; x < width; x++) {
+        boolean same = x < actualWidth && x < expectedWidth && sameColor(actualRow[x], expectedRow[x]);
+        diffRow[x] = same ? faded(actualRow[x]) : DIFFERENT_PIXEL;
+      }
+      diff.setRGB(0, y, width, 1, diffRow, 0, width);
+    }
+    return diff;
+  }
+
+  public static boolean sameSize(BufferedImage actual, BufferedImage expected) {
+    return actual.getWidth() == expected.getWidth() && actual.getHeight() == expected.getHeight();
+  }
+
+  public static String size(BufferedImage image) {
+    return image.getWidth() + "x" + image.getHeight();
+  }
+
+  static long maxMismatches(BufferedImage image, double tolerance) {
+    if (tolerance < 0 || tolerance > 1) {
+      throw new IllegalArgumentException("Tolerance should be between 0.0 and 1.0, but was: " + tolerance);
+    }
+    return (long) Math.floor((long) image.getWidth() * image.getHeight() * tolerance);
+  }
+
+  private static boolean sameColor(int actual, int expected) {
+    return ((actual ^ expected) & 0xFFFFFF) == 0;
+  }
+
+  private static int faded(int rgb) {
+    int gray = (((rgb >> 16) & 0xFF) + ((rgb >> 8) & 0xFF) + (rgb & 0xFF)) / 3;
+    int light = 0xAA + gray / 3;
+    return light << 16 | light << 8 | light;
+  }
+
+  /**
+   * @return number of pixels read (0 if the image has no such row)
+   */
+  private static int readRow(BufferedImage image, int y, int[] row) {
+    if (y >= image.getHeight()) {
+      return 0;
+    }
+    image.getRGB(0, y, image.getWidth(), 1, row, 0, image.getWidth());
+    return image.getWidth();
+  }
+
+  private static class Bands extends RecursiveAction {
+    private final BufferedImage actual;
+    private final BufferedImage expected;
+    private final int fromRow;
+    private final int toRow;
+    private final long maxMismatches;
+    private final AtomicLong mismatches;
+
+    private Bands(BufferedImage actual, BufferedImage expected, int fromRow, int toRow,
+                  long maxMismatches, AtomicLong mismatches) {
+      this.actual = actual;
+      this.expected = expected;
+      this.fromRow = fromRow;
+      this.toRow = toRow;
+      this.maxMismatches = maxMismatches;
+      this.mismatches = mismatches;
+    }
+
+    @Override
+    protected void compute() {
+      if (mismatches.get() > maxMismatches) {
+        return;
+      }
+      if (toRow - fromRow > BAND_HEIGHT) {
+        int middle = fromRow + (toRow - fromRow) / 2;
+        invokeAll(new Bands(actual, expected, fromRow, middle, maxMismatches, mismatches),
+            new Bands(actual, expected, middle, toRow, maxMismatches, mismatches));
+        return;
+      }
+
+      int width = actual.getWidth();
+      int rows = toRow - fromRow;
+      int[] actualPixels = actual.getRGB(0, fromRow, width, rows, null, 0, width);
+      int[] expectedPixels = expected.getRGB(0, fromRow, width, rows, null, 0, width);
+      for (int row = 0; row < rows; row++) {
+        int differentPixels = 0;
+        for (int i = row * width, end = i + width; i < end; i++) {
+          if (!sameColor(actualPixels[i], expectedPixels[i])) {
+            differentPixels++;
+          }
+        }
+        long total = differentPixels > 0 ? mismatches.addAndGet(differentPixels) : mismatches.get();
+        if (total > maxMismatches) {
+          return;
+        }
+      }
+    }
+  }
+}
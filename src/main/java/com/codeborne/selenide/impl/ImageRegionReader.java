@@ -0,0 +1,63 @@
+package com.codeborne.selenide.impl;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.RasterFormatException;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Reads a part of image (e.g. an element on a screenshot of the whole page)
+ * without decoding the whole image into memory.
+ * <p>
+ * Size of the image is read from its header, so that region can be calculated before decoding.
+ */
+class ImageRegionReader implements Closeable {
+  private final ImageInputStream input;
+  private final ImageReader reader;
+
+  ImageRegionReader(byte[] image) throws IOException {
+    input = ImageIO.createImageInputStream(new ByteArrayInputStream(image));
+    Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+    if (!readers.hasNext()) {
+      input.close();
+      throw new IOException("Unknown image format");
+    }
+    reader = readers.next();
+    reader.setInput(input, true, true);
+  }
+
+  int width() throws IOException {
+    return reader.getWidth(0);
+  }
+
+  int height() throws IOException {
+    return reader.getHeight(0);
+  }
+
+  /**
+   * @throws RasterFormatException if given region is not inside the image
+   *                               (the same way as {@link BufferedImage#getSubimage(int, int, int, int)})
+   */
+  BufferedImage read(int x, int y, int width, int height) throws IOException {
+    Rectangle region = new Rectangle(x, y, width, height);
+    if (region.isEmpty() || x < 0 || y < 0 || !new Rectangle(0, 0, width(), height()).contains(region)) {
+      throw new RasterFormatException("Region " + region + " is outside of image " + width() + 'x' + height());
+    }
+    ImageReadParam param = reader.getDefaultReadParam();
+    param.setSourceRegion(region);
+    return reader.read(0, param);
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.dispose();
+    input.close();
+  }
+}
@@ -0,0 +1,214 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideElement;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static com.codeborne.selenide.SelectorMode.Sizzle;
+
+/**
+ * Resolves a chain of nested elements (like {@code $("#grid").$(".body").$$("tr").get(5).$("td.name")})
+ * with a single javascript call, instead of searching every element of the chain separately.
+ * <p>
+ * Only links with css, xpath, id, name, class name or tag name selectors can be compiled.
+ * Chain starts from the nearest element which cannot be compiled (it's searched in Java as usual), or from the document.
+ */
+public class LocatorChain {
+  public static LocatorChain instance = new LocatorChain();
+
+  private static final ScriptRegistry.PinnedScript SCRIPT = ScriptRegistry.pin("locatorChain",
+      "var root = arguments[0] || document, links = arguments[1], sizzle = arguments[2], all = arguments[3];" +
+      "if (sizzle && typeof Sizzle === 'undefined') return {sizzleMissing: true};" +
+      "function find(context, type, selector) {" +
+      "  if (type === 'css') {" +
+      "    return sizzle ? Sizzle(selector, context) : Array.prototype.slice.call(context.querySelectorAll(selector));" +
+      "  }" +
+      "  var result = document.evaluate(selector, context, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), found = [];" +
+      "  for (var i = 0; i < result.snapshotLength; i++) {" +
+      "    if (result.snapshotItem(i).nodeType === 1) found.push(result.snapshotItem(i));" +
+      "  }" +
+      "  return found;" +
+      "}" +
+      "var context = root;" +
+      "for (var i = 0; i < links.length; i++) {" +
+      "  var found = find(context, links[i][0], links[i][1]), index = links[i][2];" +
+      "  if (all && i === links.length - 1) return {elements: found};" +
+      "  if (found.length <= index) return {failedLink: i, size: found.length};" +
+      "  context = found[index];" +
+      "}" +
+      "return {elements: [context]};");
+
+  /**
+   * @return compiled chain of given element and its parents, or null if there is nothing to compile
+   * (element itself cannot be compiled, or it has no compilable parents)
+   */
+  Chain compile(Driver driver, SearchContext parent, By selector, int index) {
+    if (driver.config().cacheElements() || !driver.supportsJavascript() || driver.browser().isHtmlUnit()) {
+      return null;
+    }
+    Link last = link(selector, index);
+    if (last == null) {
+      return null;
+    }
+
+    LinkedList<Link> links = new LinkedList<>();
+    links.add(last);
+    SearchContext root = parent;
+    WebElementSource source = SelenideElementProxy.sourceOf(root);
+    while (source != null) {
+      Link link;
+      SearchContext next;
+      if (source instanceof ElementFinder) {
+        ElementFinder finder = (ElementFinder) source;
+        link = link(finder.criteria(), finder.index());
+        next = finder.parent();
+      }
+      else if (source.getClass() == CollectionElement.class &&
+          ((CollectionElement) source).collection() instanceof BySelectorCollection) {
+        CollectionElement element = (CollectionElement) source;
+        BySelectorCollection collection = (BySelectorCollection) element.collection();
+        link = link(collection.selector(), element.index());
+        next = collection.parent();
+      }
+      else {
+        break;
+      }
+      if (link == null) {
+        break;
+      }
+      links.addFirst(link);
+      root = next;
+      source = SelenideElementProxy.sourceOf(root);
+    }
+    boolean searchableRoot = root == null || root instanceof WebDriver || root instanceof WebElement;
+    return links.size() < 2 || !searchableRoot ? null : new Chain(root, links);
+  }
+
+  /**
+   * @return the last element of the chain
+   * @throws NoSuchElementException if some element of the chain is not found
+   * @throws IndexOutOfBoundsException if a collection in the chain has less elements than needed
+   */
+  WebElement find(Driver driver, Chain chain) {
+    return execute(driver, chain, false).get(0);
+  }
+
+  /**
+   * @return all elements matching the last selector of the chain
+   */
+  List<WebElement> findAll(Driver driver, Chain chain) {
+    return execute(driver, chain, true);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<WebElement> execute(Driver driver, Chain chain, boolean all) {
+    boolean sizzle = driver.config().selectorMode() == Sizzle;
+    List<List<Object>> links = new ArrayList<>(chain.links.size());
+    for (Link link : chain.links) {
+      links.add(link.toScriptArgument());
+    }
+    WebElement root = chain.rootElement();
+    Map<String, Object> result = ScriptRegistry.instance.execute(driver, SCRIPT, root, links, sizzle, all);
+    if (result != null && result.containsKey("sizzleMissing")) {
+      result = ScriptRegistry.instance.executeAfter(driver, WebElementSelector.instance.sizzleSource(), SCRIPT,
+          root, links, sizzle, all);
+    }
+    if (result == null) {
+      throw new WebDriverException("Failed to locate " + chain + ": script returned null (e.g. the page is being reloaded)");
+    }
+
+    if (result.containsKey("failedLink")) {
+      Link failedLink = chain.links.get(((Number) result.get("failedLink")).intValue());
+      int size = ((Number) result.get("size")).intValue();
+      if (failedLink.index > 0) {
+        throw new IndexOutOfBoundsException("Index: " + failedLink.index + ", Size: " + size);
+      }
+      throw new NoSuchElementException("Cannot locate an element " + failedLink);
+    }
+    return new ArrayList<>((List<WebElement>) result.get("elements"));
+  }
+
+  private Link link(By selector, int index) {
+    String value = selector.toString();
+    Class<?> type = selector.getClass();
+    if (type == By.ByCssSelector.class) return new Link(selector, "css", value.replace("By.cssSelector: ", ""), index);
+    if (type == By.ByXPath.class) return new Link(selector, "xpath", value.replace("By.xpath: ", ""), index);
+    if (type == By.ById.class) return new Link(selector, "css", attribute("id", value.replace("By.id: ", "")), index);
+    if (type == By.ByName.class) return new Link(selector, "css", attribute("name", value.replace("By.name: ", "")), index);
+    if (type == By.ByClassName.class) {
+      return new Link(selector, "css", "[class~=" + quote(value.replace("By.className: ", "")) + "]", index);
+    }
+    if (type == By.ByTagName.class) return new Link(selector, "css", value.replace("By.tagName: ", ""), index);
+    return null;
+  }
+
+  private String attribute(String name, String value) {
+    return "*[" + name + "=" + quote(value) + "]";
+  }
+
+  private String quote(String value) {
+    return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+  }
+
+  static class Chain {
+    private final SearchContext root;
+    private final List<Link> links;
+
+    Chain(SearchContext root, List<Link> links) {
+      this.root = root;
+      this.links = links;
+    }
+
+    private WebElement rootElement() {
+      return root == null || root instanceof WebDriver ? null :
+          (root instanceof SelenideElement) ? ((SelenideElement) root).toWebElement() :
+          (WebElement) root;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder();
+      for (Link link : links) {
+        sb.append(sb.length() == 0 ? "" : " -> ").append(link);
+      }
+      return sb.toString();
+    }
+  }
+
+  private static class Link {
+    private final By selector;
+    private final String type;
+    private final String value;
+    private final int index;
+
+    private Link(By selector, String type, String value, int index) {
+      this.selector = selector;
+      this.type = type;
+      this.value = value;
+      this.index = index;
+    }
+
+    private List<Object> toScriptArgument() {
+      List<Object> argument = new ArrayList<>(3);
+      argument.add(type);
+      argument.add(value);
+      argument.add(index);
+      return argument;
+    }
+
+    @Override
+    public String toString() {
+      return index == 0 ? Describe.selector(selector) : Describe.selector(selector) + '[' + index + ']';
+    }
+  }
+}
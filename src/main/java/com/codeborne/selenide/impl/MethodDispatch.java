@@ -0,0 +1,142 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.PollingStrategy;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.commands.Commands;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Everything {@link SelenideElementProxy} needs to know about a method of {@link SelenideElement},
+ * calculated once per method instead of on every call.
+ */
+final class MethodDispatch {
+  private static final Set<String> methodsToSkipLogging = new HashSet<>(asList(
+      "toWebElement",
+      "toString",
+      "getSearchCriteria"
+  ));
+
+  private static final Set<String> methodsForSoftAssertion = new HashSet<>(asList(
+      "should",
+      "shouldBe",
+      "shouldHave",
+      "shouldNot",
+      "shouldNotHave",
+      "shouldNotBe",
+      "waitUntil",
+      "waitWhile"
+  ));
+
+  private static final Set<String> methodsWithInvertedConditions = new HashSet<>(asList(
+      "shouldNot",
+      "shouldNotHave",
+      "shouldNotBe",
+      "waitWhile"
+  ));
+
+  private static final Map<Method, MethodDispatch> table = new ConcurrentHashMap<>(256);
+
+  static MethodDispatch of(Method method) {
+    MethodDispatch dispatch = table.get(method);
+    if (dispatch == null) {
+      dispatch = new MethodDispatch(method);
+      table.put(method, dispatch);
+    }
+    return dispatch;
+  }
+
+  final String name;
+  final boolean skipLogging;
+  final boolean softAssertion;
+  final boolean selenideCommand;
+  private final boolean waitCommand;
+  private final boolean checksConditions;
+  private final boolean invertedConditions;
+  private volatile CachedCommand cachedCommand;
+
+  private MethodDispatch(Method method) {
+    this.name = method.getName();
+    this.skipLogging = methodsToSkipLogging.contains(name);
+    this.softAssertion = methodsForSoftAssertion.contains(name);
+    this.selenideCommand = SelenideElement.class.isAssignableFrom(method.getDeclaringClass());
+    this.waitCommand = "waitUntil".equals(name) || "waitWhile".equals(name);
+    this.checksConditions = methodsForSoftAssertion.contains(name);
+    this.invertedConditions = methodsWithInvertedConditions.contains(name);
+  }
+
+  /**
+   * Executes Selenide command for this method.
+   * Command is looked up once, and again only after commands have been changed (e.g. overridden by user).
+   */
+  Object execute(Object proxy, WebElementSource webElementSource, Object[] args) throws IOException {
+    return command().execute((SelenideElement) proxy, webElementSource, args);
+  }
+
+  private Command command() {
+    Commands commands = Commands.getInstance();
+    CachedCommand cached = cachedCommand;
+    int version = commands.version();
+    if (cached == null || cached.version != version) {
+      cached = new CachedCommand(commands.get(name), version);
+      cachedCommand = cached;
+    }
+    return cached.command;
+  }
+
+  long timeoutMs(Config config, Object[] args) {
+    return waitCommand ?
+        args.length == 3 ? (Long) args[args.length - 2] : (Long) args[args.length - 1] :
+        config.timeout();
+  }
+
+  long pollingIntervalMs(Config config, Object[] args) {
+    return waitCommand && args.length == 3 && args[2] instanceof Long ? (Long) args[2] : config.pollingInterval();
+  }
+
+  PollingStrategy pollingStrategy(Config config, Object[] args) {
+    return waitCommand && args.length == 3 && args[2] instanceof PollingStrategy ?
+        (PollingStrategy) args[2] : config.pollingStrategy();
+  }
+
+  /**
+   * @return javascript of conditions checked by this method (see {@link Condition#toJavascript()}),
+   * or null if this method doesn't check conditions or some of them cannot be checked by javascript
+   */
+  String conditionsJavascript(Object[] args) {
+    if (!checksConditions) return null;
+
+    StringBuilder predicate = new StringBuilder();
+    for (Object arg : args) {
+      Condition[] conditions = arg instanceof Condition ? new Condition[]{(Condition) arg} :
+          arg instanceof Condition[] ? (Condition[]) arg : new Condition[0];
+      for (Condition condition : conditions) {
+        String javascript = condition.toJavascript();
+        if (javascript == null) return null;
+        if (predicate.length() > 0) predicate.append(" && ");
+        predicate.append(invertedConditions ? "!(" : "(").append(javascript).append(')');
+      }
+    }
+    return predicate.length() == 0 ? null : predicate.toString();
+  }
+
+  private static final class CachedCommand {
+    private final Command command;
+    private final int version;
+
+    private CachedCommand(Command command, int version) {
+      this.command = command;
+      this.version = version;
+    }
+  }
+}
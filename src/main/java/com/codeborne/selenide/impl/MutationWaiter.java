@@ -0,0 +1,96 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.Stopwatch;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import static java.lang.System.currentTimeMillis;
+
+/**
+ * Pause between checks of a waiting command (see {@link Config#waitForMutations()}).
+ * <p>
+ * Instead of sleeping for {@link Config#pollingInterval()}, browser waits (using {@code MutationObserver})
+ * until the page changes, or - if javascript of condition is known (see {@link com.codeborne.selenide.Condition#toJavascript()}) -
+ * until the element matches it or disappears from the page.
+ * Condition is still checked by Selenide after the pause, so javascript is only a hint for the browser.
+ * <p>
+ * Some changes are not visible to {@code MutationObserver} (e.g. {@code input.value} set as a property).
+ * That's why javascript of condition is also re-checked in browser every polling interval,
+ * and browser waits for any change of the page (without javascript of condition) no longer than polling interval.
+ * <p>
+ * If the browser cannot wait (e.g. script timeout is too short), it falls back to sleeping.
+ */
+public class MutationWaiter {
+  public static MutationWaiter instance = new MutationWaiter();
+
+  private static final String WAIT =
+      "var e = arguments[0], timeout = arguments[1], pollingInterval = arguments[2], done = arguments[arguments.length - 1];" +
+      "function attached(e) { return document.documentElement.contains(e); }" +
+      "if (hasPredicate && e && (!attached(e) || matches(e))) { done(false); return; }" +
+      "var finished = false, events = ['transitionend', 'animationend', 'load'], observer, timer, poller;" +
+      "function finish() {" +
+      "  if (finished) return;" +
+      "  finished = true;" +
+      "  observer.disconnect();" +
+      "  clearTimeout(timer);" +
+      "  clearInterval(poller);" +
+      "  for (var i = 0; i < events.length; i++) document.removeEventListener(events[i], check, true);" +
+      "  done(true);" +
+      "}" +
+      "function check() {" +
+      "  try { if (!hasPredicate || !e || !attached(e) || matches(e)) finish(); } catch (error) { finish(); }" +
+      "}" +
+      "observer = new MutationObserver(check);" +
+      "observer.observe(document.documentElement, {childList: true, subtree: true, attributes: true, characterData: true});" +
+      "for (var i = 0; i < events.length; i++) document.addEventListener(events[i], check, true);" +
+      "if (hasPredicate) poller = setInterval(check, pollingInterval);" +
+      "timer = setTimeout(finish, timeout);";
+
+  private static final ScriptRegistry.PinnedScript WAIT_FOR_ANY_CHANGE = ScriptRegistry.pin("waitForMutations",
+      "var hasPredicate = false; function matches(e) { return false; }" + WAIT);
+
+  public boolean canWait(Driver driver) {
+    return driver.config().waitForMutations() && driver.supportsJavascript() && !driver.browser().isHtmlUnit();
+  }
+
+  /**
+   * Waits until the page changes, or until timeout of given stopwatch is reached.
+   *
+   * @param element     the element being checked, or null if it's not found (or not relevant for the command)
+   * @param predicate   javascript of expected condition (referring to the element as {@code e}),
+   *                    or null to wait for any change of the page
+   */
+  public void pause(Driver driver, Stopwatch stopwatch, long pollingIntervalMs, WebElement element, String predicate) {
+    if (!canWait(driver)) {
+      stopwatch.sleep(pollingIntervalMs);
+      return;
+    }
+
+    long start = currentTimeMillis();
+    try {
+      long timeoutMs = predicate == null ? pollingIntervalMs : Math.max(pollingIntervalMs, stopwatch.remainingMillis());
+      Boolean waited = ScriptRegistry.instance.executeAsync(driver, script(predicate), element, timeoutMs, pollingIntervalMs);
+      if (Boolean.TRUE.equals(waited)) {
+        return;
+      }
+    }
+    catch (ScriptTimeoutException timeout) {
+      // script timeout of webdriver is shorter than ours - sleep the rest of polling interval
+    }
+    catch (WebDriverException e) {
+      // e.g. the page is being reloaded - just sleep as usual
+    }
+    long remainingPollingMs = pollingIntervalMs - (currentTimeMillis() - start);
+    if (remainingPollingMs > 0) {
+      stopwatch.sleep(remainingPollingMs);
+    }
+  }
+
+  private ScriptRegistry.PinnedScript script(String predicate) {
+    return predicate == null ? WAIT_FOR_ANY_CHANGE : ScriptRegistry.pin("waitForMutations",
+        BrowserFilter.library(), "var hasPredicate = true; function matches(e) { return " + predicate + "; }" + WAIT);
+  }
+}
@@ -0,0 +1,112 @@
+package com.codeborne.selenide.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compressed page sources (see {@link com.codeborne.selenide.Config#compressPageSources()}).
+ * <p>
+ * Every page source is a gzipped file "*.html.gz".
+ * It contains either the whole html, or - for the following page sources of the same test - only its difference
+ * from the first page source of the test: a header comment (with path to the first page source
+ * and lengths of the common beginning and end) followed by the changed part.
+ * <p>
+ * Usage: {@code java -cp selenide.jar com.codeborne.selenide.impl.PageSourceArchive build/reports/tests/1539.2.html.gz}
+ */
+public class PageSourceArchive {
+  private static final String DIFF_HEADER = "<!--selenide:diff ";
+  private static final Pattern DIFF = Pattern.compile("<!--selenide:diff base=\"(.*)\" prefix=(\\d+) suffix=(\\d+)-->\n");
+
+  /**
+   * Prints restored page sources of given files
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length == 0) {
+      System.err.println("Usage: PageSourceArchive <file.html.gz>...");
+      System.exit(1);
+    }
+    for (String fileName : args) {
+      System.out.println(read(new File(fileName)));
+    }
+  }
+
+  /**
+   * @return the whole page source stored in given file (gzipped or not)
+   */
+  public static String read(File file) throws IOException {
+    String content = file.getName().endsWith(".gz") ? new String(gunzip(file), UTF_8) :
+        new String(Files.readAllBytes(file.toPath()), UTF_8);
+    if (!content.startsWith(DIFF_HEADER)) {
+      return content;
+    }
+
+    Matcher header = DIFF.matcher(content);
+    if (!header.lookingAt()) {
+      throw new IOException("Invalid header of page source diff " + file);
+    }
+    String base = read(new File(file.getAbsoluteFile().getParentFile(), header.group(1)));
+    int prefix = Integer.parseInt(header.group(2));
+    int suffix = Integer.parseInt(header.group(3));
+    return base.substring(0, prefix) + content.substring(header.end()) + base.substring(base.length() - suffix);
+  }
+
+  /**
+   * @return difference of page source from the base page source (that is stored in file {@code baseFile})
+   */
+  static String diff(File baseFile, String baseSource, File file, String source) {
+    int maxLength = Math.min(baseSource.length(), source.length());
+    int prefix = 0;
+    while (prefix < maxLength && baseSource.charAt(prefix) == source.charAt(prefix)) {
+      prefix++;
+    }
+    if (prefix > 0 && Character.isHighSurrogate(source.charAt(prefix - 1))) {
+      prefix--; // don't cut a surrogate pair (e.g. emoji) into halves
+    }
+    int suffix = 0;
+    while (suffix < maxLength - prefix &&
+        baseSource.charAt(baseSource.length() - 1 - suffix) == source.charAt(source.length() - 1 - suffix)) {
+      suffix++;
+    }
+    if (suffix > 0 && Character.isLowSurrogate(source.charAt(source.length() - suffix))) {
+      suffix--;
+    }
+    String basePath = file.getAbsoluteFile().getParentFile().toPath()
+        .relativize(baseFile.getAbsoluteFile().toPath()).toString().replace('\\', '/');
+    return DIFF_HEADER + "base=\"" + basePath + "\" prefix=" + prefix + " suffix=" + suffix + "-->\n" +
+        source.substring(prefix, source.length() - suffix);
+  }
+
+  static byte[] gzip(String content) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(content.length() / 4 + 64);
+    try (OutputStream out = new GZIPOutputStream(bytes, 64 * 1024)) {
+      out.write(content.getBytes(UTF_8));
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  static byte[] gunzip(File file) throws IOException {
+    try (InputStream in = new GZIPInputStream(Files.newInputStream(file.toPath()), 64 * 1024)) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      byte[] buffer = new byte[64 * 1024];
+      int len;
+      while ((len = in.read(buffer)) != -1) {
+        out.write(buffer, 0, len);
+      }
+      return out.toByteArray();
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.codeborne.selenide.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.DeflaterOutputStream;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * Encodes PNG image (24-bit RGB) row by row, so that the whole image never needs to be in memory.
+ * <p>
+ * Usage: create writer with the size of image, call {@link #writeRow(int[])} exactly {@code height} times
+ * and close the writer.
+ */
+class PngStreamWriter implements Closeable {
+  private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+  private static final int CHUNK_SIZE = 64 * 1024;
+
+  private final DataOutputStream out;
+  private final int width;
+  private final int height;
+  private final ByteArrayOutputStream compressed = new ByteArrayOutputStream(CHUNK_SIZE + 1024);
+  private final DeflaterOutputStream idat = new DeflaterOutputStream(compressed);
+  private final byte[] row;
+  private int rowsWritten;
+
+  PngStreamWriter(OutputStream out, int width, int height) throws IOException {
+    if (width <= 0 || height <= 0) {
+      throw new IllegalArgumentException("Invalid size of image: " + width + 'x' + height);
+    }
+    this.out = new DataOutputStream(out);
+    this.width = width;
+    this.height = height;
+    this.row = new byte[1 + width * 3];
+
+    this.out.write(SIGNATURE);
+    ByteArrayOutputStream header = new ByteArrayOutputStream(13);
+    DataOutputStream ihdr = new DataOutputStream(header);
+    ihdr.writeInt(width);
+    ihdr.writeInt(height);
+    ihdr.writeByte(8);  // bit depth
+    ihdr.writeByte(2);  // color type: RGB
+    ihdr.writeByte(0);  // compression: deflate
+    ihdr.writeByte(0);  // filter method: adaptive
+    ihdr.writeByte(0);  // no interlace
+    writeChunk("IHDR", header.toByteArray(), header.size());
+  }
+
+  /**
+   * @param pixels row of image in format of {@link java.awt.image.BufferedImage#getRGB(int, int, int, int, int[], int, int)}
+   */
+  void writeRow(int[] pixels) throws IOException {
+    if (rowsWritten == height) {
+      throw new IllegalStateException("All " + height + " rows have already been written");
+    }
+    row[0] = 0;  // filter: none
+    for (int x = 0; x < width; x++) {
+      int rgb = pixels[x];
+      row[1 + x * 3] = (byte) (rgb >> 16);
+      row[2 + x * 3] = (byte) (rgb >> 8);
+      row[3 + x * 3] = (byte) rgb;
+    }
+    idat.write(row);
+    rowsWritten++;
+    if (compressed.size() >= CHUNK_SIZE) {
+      flushData();
+    }
+  }
+
+  int rowsWritten() {
+    return rowsWritten;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      if (rowsWritten != height) {
+        throw new IllegalStateException("Written " + rowsWritten + " rows of " + height);
+      }
+      idat.finish();
+      flushData();
+      writeChunk("IEND", new byte[0], 0);
+      out.flush();
+    }
+    finally {
+      idat.close();
+    }
+  }
+
+  private void flushData() throws IOException {
+    if (compressed.size() > 0) {
+      writeChunk("IDAT", compressed.toByteArray(), compressed.size());
+      compressed.reset();
+    }
+  }
+
+  private void writeChunk(String type, byte[] data, int length) throws IOException {
+    byte[] typeBytes = type.getBytes(US_ASCII);
+    CRC32 crc = new CRC32();
+    crc.update(typeBytes);
+    crc.update(data, 0, length);
+    out.writeInt(length);
+    out.write(typeBytes);
+    out.write(data, 0, length);
+    out.writeInt((int) crc.getValue());
+  }
+}
@@ -17,6 +17,7 @@ import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.awt.image.RasterFormatException;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -25,8 +26,9 @@ import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicLong;
@@ -43,14 +45,36 @@ public class ScreenShotLaboratory {
   private static final Logger log = Logger.getLogger(ScreenShotLaboratory.class.getName());
   private static final ScreenShotLaboratory instance = new ScreenShotLaboratory();
 
+  private static final String PAGE_METRICS = "return {" +
+      "viewportWidth: window.innerWidth, viewportHeight: window.innerHeight," +
+      "pageHeight: Math.max(document.body ? document.body.scrollHeight : 0, document.documentElement.scrollHeight)," +
+      "scrollX: window.pageXOffset, scrollY: window.pageYOffset" +
+      "};";
+  private static final String SCROLL_TO = "window.scrollTo(0, arguments[0]); return window.pageYOffset;";
+  private static final String HIDE_FIXED_ELEMENTS =
+      "var hidden = window.__selenideHiddenElements = [], elements = document.querySelectorAll('body *');" +
+      "for (var i = 0; i < elements.length; i++) {" +
+      "  var position = window.getComputedStyle(elements[i]).position;" +
+      "  if (position === 'fixed' || position === 'sticky') {" +
+      "    hidden.push([elements[i], elements[i].style.visibility]);" +
+      "    elements[i].style.visibility = 'hidden';" +
+      "  }" +
+      "}";
+  private static final String RESTORE_PAGE =
+      "var hidden = window.__selenideHiddenElements || [];" +
+      "for (var i = 0; i < hidden.length; i++) hidden[i][0].style.visibility = hidden[i][1];" +
+      "delete window.__selenideHiddenElements;" +
+      "window.scrollTo(arguments[0], arguments[1]);";
+
   public static ScreenShotLaboratory getInstance() {
     return instance;
   }
 
-  protected final List<File> allScreenshots = new ArrayList<>();
+  protected final ScreenshotHistory history = new ScreenshotHistory();
   protected AtomicLong screenshotCounter = new AtomicLong();
   protected ThreadLocal<String> currentContext = ThreadLocal.withInitial(() -> "");
   protected ThreadLocal<List<File>> currentContextScreenshots = new ThreadLocal<>();
+  private final ThreadLocal<PageSource> firstPageSource = new ThreadLocal<>();
   protected Set<String> printedErrors = new ConcurrentSkipListSet<>();
 
   public String takeScreenShot(Driver driver, String className, String methodName) {
@@ -78,6 +102,7 @@ public class ScreenShotLaboratory {
 
     return ifWebDriverStarted(driver, () ->
       ifReportsFolderNotNull(config, () -> {
+        history.indexIn(new File(config.reportsFolder()));
         File screenshot = null;
         if (config.savePageSource()) {
           screenshot = savePageSourceToFile(config, fileName, driver.getWebDriver());
@@ -111,6 +136,28 @@ public class ScreenShotLaboratory {
     }
   }
 
+  /**
+   * Saves given image (e.g. difference between screenshot of element and its baseline) to reports folder
+   *
+   * @param suffix added to generated file name, e.g. ".diff"
+   * @return the file, or null if failed to save the image
+   */
+  public File saveImage(Config config, BufferedImage image, String suffix) {
+    return ifReportsFolderNotNull(config, () -> {
+      File file = new File(config.reportsFolder(), generateScreenshotFileName() + suffix + ".png");
+      try {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", png);
+        ArtifactWriter.instance.write(config, file, png.toByteArray());
+        return file;
+      }
+      catch (IOException e) {
+        log.log(SEVERE, "Failed to save image to " + file, e);
+        return null;
+      }
+    });
+  }
+
   public BufferedImage takeScreenshotAsImage(Driver driver, WebElement element) {
     Config config = driver.config();
     return ifWebDriverStarted(driver, () ->
@@ -124,17 +171,16 @@ public class ScreenShotLaboratory {
         byte[] screen = ((TakesScreenshot) webdriver).getScreenshotAs(OutputType.BYTES);
 
         Point elementLocation = element.getLocation();
-        try {
-          BufferedImage img = ImageIO.read(new ByteArrayInputStream(screen));
+        try (ImageRegionReader img = new ImageRegionReader(screen)) {
           int elementWidth = element.getSize().getWidth();
           int elementHeight = element.getSize().getHeight();
-          if (elementWidth > img.getWidth()) {
-            elementWidth = img.getWidth() - elementLocation.getX();
+          if (elementWidth > img.width()) {
+            elementWidth = img.width() - elementLocation.getX();
           }
-          if (elementHeight > img.getHeight()) {
-            elementHeight = img.getHeight() - elementLocation.getY();
+          if (elementHeight > img.height()) {
+            elementHeight = img.height() - elementLocation.getY();
           }
-          return img.getSubimage(elementLocation.getX(), elementLocation.getY(), elementWidth, elementHeight);
+          return img.read(elementLocation.getX(), elementLocation.getY(), elementWidth, elementHeight);
         }
         catch (IOException e) {
           log.log(SEVERE, "Failed to take screenshot of " + element, e);
@@ -147,6 +193,25 @@ public class ScreenShotLaboratory {
       }));
   }
 
+  /**
+   * Takes screenshot of element by the element itself (when driver is not available)
+   *
+   * @return null if the screenshot cannot be taken
+   */
+  public BufferedImage takeScreenshotAsImage(WebElement element) {
+    try {
+      return ImageIO.read(new ByteArrayInputStream(element.getScreenshotAs(OutputType.BYTES)));
+    }
+    catch (IOException e) {
+      log.log(SEVERE, "Failed to take screenshot of " + element, e);
+      return null;
+    }
+    catch (WebDriverException | UnsupportedOperationException e) {
+      log.warning("Cannot take screenshot of " + element + ": " + e);
+      return null;
+    }
+  }
+
   protected String generateScreenshotFileName() {
     return currentContext.get() + timestamp() + "." + screenshotCounter.getAndIncrement();
   }
@@ -200,47 +265,130 @@ public class ScreenShotLaboratory {
     }
     byte[] screen = ((TakesScreenshot) webdriver).getScreenshotAs(OutputType.BYTES);
     Point iframeLocation = iframe.getLocation();
-    BufferedImage img;
-    try {
-      img = ImageIO.read(new ByteArrayInputStream(screen));
+    try (ImageRegionReader img = new ImageRegionReader(screen)) {
+      int iframeHeight = iframe.getSize().getHeight();
+      SelenideTargetLocator switchTo = new SelenideTargetLocator(driver.config(), driver.getWebDriver());
+      switchTo.frame(iframe);
+      int iframeWidth = ((Long) ((JavascriptExecutor) webdriver).executeScript("return document.body.clientWidth")).intValue();
+      if (iframeHeight > img.height()) {
+        iframeHeight = img.height() - iframeLocation.getY();
+      }
+      if (iframeWidth > img.width()) {
+        iframeWidth = img.width() - iframeLocation.getX();
+      }
+      Point elementLocation = element.getLocation();
+      int elementWidth = element.getSize().getWidth();
+      int elementHeight = element.getSize().getHeight();
+      if (elementWidth > iframeWidth) {
+        elementWidth = iframeWidth - elementLocation.getX();
+      }
+      if (elementHeight > iframeHeight) {
+        elementHeight = iframeHeight - elementLocation.getY();
+      }
+      switchTo.defaultContent();
+      try {
+        return img.read(iframeLocation.getX() + elementLocation.getX(), iframeLocation.getY() + elementLocation.getY(),
+          elementWidth, elementHeight);
+      }
+      catch (RasterFormatException ex) {
+        log.warning("Cannot take screenshot because element is not displayed in iframe");
+        return null;
+      }
     }
     catch (IOException e) {
       log.log(SEVERE, "Failed to take screenshot of " + element + " inside frame " + iframe, e);
       return null;
     }
-    catch (RasterFormatException ex) {
-      log.warning("Cannot take screenshot because iframe is not displayed");
-      return null;
-    }
-    int iframeHeight = iframe.getSize().getHeight();
-    SelenideTargetLocator switchTo = new SelenideTargetLocator(driver.config(), driver.getWebDriver());
-    switchTo.frame(iframe);
-    int iframeWidth = ((Long) ((JavascriptExecutor) webdriver).executeScript("return document.body.clientWidth")).intValue();
-    if (iframeHeight > img.getHeight()) {
-      iframeHeight = img.getHeight() - iframeLocation.getY();
-    }
-    if (iframeWidth > img.getWidth()) {
-      iframeWidth = img.getWidth() - iframeLocation.getX();
-    }
-    Point elementLocation = element.getLocation();
-    int elementWidth = element.getSize().getWidth();
-    int elementHeight = element.getSize().getHeight();
-    if (elementWidth > iframeWidth) {
-      elementWidth = iframeWidth - elementLocation.getX();
-    }
-    if (elementHeight > iframeHeight) {
-      elementHeight = iframeHeight - elementLocation.getY();
+  }
+
+  /**
+   * Takes screenshot of the whole page (not only of its visible part).
+   * Page is scrolled from top to bottom, and screenshots of viewport are stitched together row by row,
+   * so that only one screenshot of viewport is in memory at a time.
+   * <p>
+   * Elements with fixed or sticky position (e.g. headers) are captured only on the top of the page.
+   *
+   * @return absolute path of the screenshot, or null if failed to take screenshot
+   */
+  public String takeFullPageScreenshot(Driver driver) {
+    return takeFullPageScreenshot(driver, generateScreenshotFileName());
+  }
+
+  /**
+   * @param fileName name of file (without extension) to store screenshot to
+   * @see #takeFullPageScreenshot(Driver)
+   */
+  public String takeFullPageScreenshot(Driver driver, String fileName) {
+    Config config = driver.config();
+    return ifReportsFolderNotNull(config, () -> {
+      WebDriver webdriver = checkIfFullyValidDriver(driver);
+      if (webdriver == null) {
+        return null;
+      }
+      try {
+        byte[] png = stitchFullPage(driver, (TakesScreenshot) webdriver);
+        File screenshot = new File(config.reportsFolder(), fileName + ".png");
+        ArtifactWriter.instance.write(config, screenshot, png);
+        return addToHistory(screenshot).getAbsolutePath();
+      }
+      catch (IOException | RuntimeException e) {
+        log.log(SEVERE, "Failed to take full page screenshot to " + fileName, e);
+        return null;
+      }
+    });
+  }
+
+  private byte[] stitchFullPage(Driver driver, TakesScreenshot webdriver) throws IOException {
+    Map<String, Object> page = driver.executeJavaScript(PAGE_METRICS);
+    int viewportWidth = ((Number) page.get("viewportWidth")).intValue();
+    int viewportHeight = ((Number) page.get("viewportHeight")).intValue();
+    int pageHeight = ((Number) page.get("pageHeight")).intValue();
+    if (viewportWidth <= 0 || viewportHeight <= 0) {
+      throw new IOException("Invalid size of viewport: " + viewportWidth + 'x' + viewportHeight);
     }
-    switchTo.defaultContent();
+
+    ByteArrayOutputStream png = new ByteArrayOutputStream();
     try {
-      img = img.getSubimage(iframeLocation.getX() + elementLocation.getX(), iframeLocation.getY() + elementLocation.getY(),
-        elementWidth, elementHeight);
+      PngStreamWriter writer = null;
+      int width = 0;
+      int height = 0;
+      for (int y = 0; y < pageHeight && (writer == null || writer.rowsWritten() < height); y += viewportHeight) {
+        int scrolledTo = ((Number) driver.executeJavaScript(SCROLL_TO, y)).intValue();
+        if (y == viewportHeight) {
+          driver.executeJavaScript(HIDE_FIXED_ELEMENTS);
+        }
+        BufferedImage tile = ImageIO.read(new ByteArrayInputStream(webdriver.getScreenshotAs(OutputType.BYTES)));
+        if (writer == null) {
+          width = tile.getWidth();
+          height = (int) Math.round((double) pageHeight * width / viewportWidth);
+          writer = new PngStreamWriter(png, width, height);
+        }
+        if (tile.getWidth() != width) {
+          throw new IOException("Width of screenshot has changed from " + width + " to " + tile.getWidth());
+        }
+
+        int skip = Math.max(0, (int) Math.round((double) (y - scrolledTo) * width / viewportWidth));
+        int rows = Math.min(tile.getHeight() - skip, height - writer.rowsWritten());
+        int[] pixels = new int[width];
+        for (int row = 0; row < rows; row++) {
+          tile.getRGB(0, skip + row, width, 1, pixels, 0, width);
+          writer.writeRow(pixels);
+        }
+      }
+      if (writer == null) {
+        throw new IOException("Page is empty");
+      }
+      int[] white = new int[width];
+      Arrays.fill(white, 0xFFFFFF);
+      while (writer.rowsWritten() < height) {
+        writer.writeRow(white);
+      }
+      writer.close();
     }
-    catch (RasterFormatException ex) {
-      log.warning("Cannot take screenshot because element is not displayed in iframe");
-      return null;
+    finally {
+      driver.executeJavaScript(RESTORE_PAGE, page.get("scrollX"), page.get("scrollY"));
     }
-    return img;
+    return png.toByteArray();
   }
 
   private WebDriver checkIfFullyValidDriver(Driver driver) {
@@ -277,12 +425,13 @@ public class ScreenShotLaboratory {
   }
 
   protected File addToHistory(File screenshot) {
+    if (screenshot == null) {
+      return null;
+    }
     if (currentContextScreenshots.get() != null) {
       currentContextScreenshots.get().add(screenshot);
     }
-    synchronized (allScreenshots) {
-      allScreenshots.add(screenshot);
-    }
+    history.add(currentContext.get(), screenshot);
     return screenshot;
   }
 
@@ -309,10 +458,10 @@ public class ScreenShotLaboratory {
   }
 
   protected File savePageSourceToFile(Config config, String fileName, WebDriver webdriver, boolean retryIfAlert) {
-    File pageSource = new File(config.reportsFolder(), fileName + ".html");
+    File pageSource = new File(config.reportsFolder(), fileName + (config.compressPageSources() ? ".html.gz" : ".html"));
 
     try {
-      writeToFile(webdriver.getPageSource(), pageSource);
+      writePageSource(config, webdriver.getPageSource(), pageSource);
     }
     catch (UnhandledAlertException e) {
       if (retryIfAlert) {
@@ -332,26 +481,21 @@ public class ScreenShotLaboratory {
     }
     catch (WebDriverException e) {
       log.log(WARNING, "Failed to save page source to " + fileName + " because of " + e);
-      writeToFile(e.toString(), pageSource);
+      writeToFile(config, e.toString(), pageSource);
       return pageSource;
     }
     catch (RuntimeException e) {
       log.log(SEVERE, "Failed to save page source to " + fileName, e);
-      writeToFile(e.toString(), pageSource);
+      writeToFile(config, e.toString(), pageSource);
     }
     return pageSource;
   }
 
   protected File takeScreenshotImage(Config config, TakesScreenshot driver, String fileName) {
     try {
-      File scrFile = driver.getScreenshotAs(FILE);
+      byte[] screenshot = driver.getScreenshotAs(OutputType.BYTES);
       File imageFile = new File(config.reportsFolder(), fileName + ".png");
-      try {
-        copyFile(scrFile, imageFile);
-      }
-      catch (IOException e) {
-        log.log(SEVERE, "Failed to save screenshot to " + imageFile, e);
-      }
+      ArtifactWriter.instance.write(config, imageFile, screenshot);
       return imageFile;
     }
     catch (WebDriverException e) {
@@ -370,7 +514,7 @@ public class ScreenShotLaboratory {
     ensureFolderExists(targetFile);
 
     try (FileOutputStream out = new FileOutputStream(targetFile)) {
-      byte[] buffer = new byte[1024];
+      byte[] buffer = new byte[64 * 1024];
       int len;
       while ((len = in.read(buffer)) != -1) {
         out.write(buffer, 0, len);
@@ -378,6 +522,37 @@ public class ScreenShotLaboratory {
     }
   }
 
+  /**
+   * If {@link Config#compressPageSources()} is enabled, only the first page source of a test is stored in full,
+   * and the following ones - as differences from it (see {@link PageSourceArchive}).
+   */
+  private void writePageSource(Config config, String source, File file) {
+    if (config.compressPageSources() && currentContextScreenshots.get() != null) {
+      PageSource first = firstPageSource.get();
+      if (first == null) {
+        firstPageSource.set(new PageSource(file, source));
+      }
+      else if (!first.file.equals(file)) {
+        writeToFile(config, PageSourceArchive.diff(first.file, first.source, file, source), file);
+        return;
+      }
+    }
+    writeToFile(config, source, file);
+  }
+
+  /**
+   * Writes given content to file (gzipped if file name ends with ".gz") -
+   * in background if {@link Config#asyncArtifacts()} is enabled
+   */
+  protected void writeToFile(Config config, String content, File targetFile) {
+    if (targetFile.getName().endsWith(".gz")) {
+      ArtifactWriter.instance.write(config, targetFile, () -> PageSourceArchive.gzip(content));
+    }
+    else {
+      ArtifactWriter.instance.write(config, targetFile, content.getBytes(UTF_8));
+    }
+  }
+
   protected void writeToFile(String content, File targetFile) {
     try (ByteArrayInputStream in = new ByteArrayInputStream(content.getBytes(UTF_8))) {
       copyFile(in, targetFile);
@@ -388,32 +563,52 @@ public class ScreenShotLaboratory {
   }
 
   public void startContext(String className, String methodName) {
-    String context = className.replace('.', separatorChar) + separatorChar + methodName + separatorChar;
-    startContext(context);
+    startContext(context(className, methodName));
+  }
+
+  private String context(String className, String methodName) {
+    return className.replace('.', separatorChar) + separatorChar + methodName + separatorChar;
   }
 
   public void startContext(String context) {
     currentContext.set(context);
     currentContextScreenshots.set(new ArrayList<>());
+    firstPageSource.remove();
+  }
+
+  /**
+   * Waits until all screenshots and page sources taken by current thread have been written to disk
+   * (see {@link Config#asyncArtifacts()}).
+   */
+  public void flush() {
+    ArtifactWriter.instance.flush();
   }
 
   public List<File> finishContext() {
+    flush();
     List<File> result = currentContextScreenshots.get();
     currentContext.set("");
     currentContextScreenshots.remove();
+    firstPageSource.remove();
     return result;
   }
 
+  /**
+   * @return all screenshots taken during the test run (read from index file in reports folder)
+   */
   public List<File> getScreenshots() {
-    synchronized (allScreenshots) {
-      return Collections.unmodifiableList(allScreenshots);
-    }
+    return history.all();
+  }
+
+  /**
+   * @return all screenshots taken during given test (see {@link #startContext(String, String)})
+   */
+  public List<File> getScreenshots(String className, String methodName) {
+    return history.byContext(context(className, methodName));
   }
 
   public File getLastScreenshot() {
-    synchronized (allScreenshots) {
-      return allScreenshots.isEmpty() ? null : allScreenshots.get(allScreenshots.size() - 1);
-    }
+    return history.last();
   }
 
   public String formatScreenShotPath(Driver driver) {
@@ -464,4 +659,14 @@ public class ScreenShotLaboratory {
     }
     return lambda.get();
   }
+
+  private static final class PageSource {
+    private final File file;
+    private final String source;
+
+    private PageSource(File file, String source) {
+      this.file = file;
+      this.source = source;
+    }
+  }
 }
@@ -0,0 +1,215 @@
+package com.codeborne.selenide.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.util.Collections.singletonList;
+import static java.util.logging.Level.SEVERE;
+
+/**
+ * History of screenshots taken during the test run.
+ * <p>
+ * Only the latest screenshots are kept in memory (in a few ring buffers, one per group of threads),
+ * so that memory usage doesn't grow with the number of tests.
+ * All screenshots are appended to an index file in reports folder (one file per run),
+ * which is read when the whole history is requested.
+ */
+public class ScreenshotHistory {
+  private static final Logger log = Logger.getLogger(ScreenshotHistory.class.getName());
+  private static final AtomicInteger instances = new AtomicInteger();
+
+  static final int DEFAULT_CAPACITY = 1024;
+  private static final int STRIPES = 16;
+
+  private final String indexFileName;
+  private final Stripe[] stripes;
+  private final AtomicLong counter = new AtomicLong();
+  private final Map<File, Object> indexes = new ConcurrentHashMap<>();
+  private final File temporaryFolder = new File(System.getProperty("java.io.tmpdir"));
+  private volatile File indexFolder = temporaryFolder;
+
+  public ScreenshotHistory() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * @param capacity number of latest screenshots kept in memory
+   */
+  public ScreenshotHistory(int capacity) {
+    indexFileName = "selenide-screenshots." + System.currentTimeMillis() + '.' + instances.incrementAndGet() + ".index";
+    stripes = new Stripe[STRIPES];
+    for (int i = 0; i < STRIPES; i++) {
+      stripes[i] = new Stripe(Math.max(1, capacity / STRIPES));
+    }
+  }
+
+  /**
+   * Screenshots added after this call are indexed in given folder (usually reports folder)
+   */
+  public void indexIn(File folder) {
+    if (folder != null) {
+      indexFolder = folder;
+    }
+  }
+
+  /**
+   * @param screenshot is ignored if null (e.g. webdriver failed to take screenshot)
+   */
+  public void add(String context, File screenshot) {
+    if (screenshot == null) {
+      return;
+    }
+    Entry entry = new Entry(counter.incrementAndGet(), context, screenshot);
+    stripes[(int) (Thread.currentThread().getId() % STRIPES)].add(entry);
+    appendToIndex(entry);
+  }
+
+  /**
+   * @return all screenshots taken during the run (in the order they were taken)
+   */
+  public List<File> all() {
+    return files(readIndex(null));
+  }
+
+  /**
+   * @param context test context, see {@link ScreenShotLaboratory#startContext(String)}
+   * @return all screenshots taken in given context (in the order they were taken)
+   */
+  public List<File> byContext(String context) {
+    return files(readIndex(context));
+  }
+
+  /**
+   * @return the latest screenshot, or null if no screenshots have been taken
+   */
+  public File last() {
+    Entry last = null;
+    for (Stripe stripe : stripes) {
+      Entry entry = stripe.last();
+      if (entry != null && (last == null || entry.id > last.id)) {
+        last = entry;
+      }
+    }
+    return last == null ? null : last.screenshot;
+  }
+
+  /**
+   * @return the latest screenshots kept in memory (in the order they were taken)
+   */
+  List<File> recent() {
+    List<Entry> entries = new ArrayList<>();
+    for (Stripe stripe : stripes) {
+      stripe.copyTo(entries);
+    }
+    return files(entries);
+  }
+
+  private void appendToIndex(Entry entry) {
+    File folder = indexFolder;
+    File index = new File(folder, indexFileName);
+    Object lock = indexes.computeIfAbsent(index, f -> {
+      if (folder == temporaryFolder) f.deleteOnExit();
+      return new Object();
+    });
+    synchronized (lock) {
+      try {
+        Files.createDirectories(folder.toPath());
+        Files.write(index.toPath(), singletonList(entry.toString()), UTF_8, CREATE, APPEND);
+      }
+      catch (IOException e) {
+        log.log(SEVERE, "Failed to add screenshot " + entry.screenshot + " to " + index, e);
+      }
+    }
+  }
+
+  private List<Entry> readIndex(String context) {
+    List<Entry> entries = new ArrayList<>();
+    for (Map.Entry<File, Object> index : indexes.entrySet()) {
+      synchronized (index.getValue()) {
+        try {
+          for (String line : Files.readAllLines(index.getKey().toPath(), UTF_8)) {
+            Entry entry = Entry.parse(line);
+            if (entry != null && (context == null || context.equals(entry.context))) {
+              entries.add(entry);
+            }
+          }
+        }
+        catch (IOException e) {
+          log.log(SEVERE, "Failed to read screenshots from " + index.getKey(), e);
+        }
+      }
+    }
+    return entries;
+  }
+
+  private static List<File> files(Collection<Entry> entries) {
+    List<Entry> sorted = new ArrayList<>(entries);
+    sorted.sort(Comparator.comparingLong(entry -> entry.id));
+    List<File> result = new ArrayList<>(sorted.size());
+    for (Entry entry : sorted) {
+      result.add(entry.screenshot);
+    }
+    return result;
+  }
+
+  private static class Stripe {
+    private final Entry[] ring;
+    private int size;
+    private int next;
+
+    private Stripe(int capacity) {
+      ring = new Entry[capacity];
+    }
+
+    synchronized void add(Entry entry) {
+      ring[next] = entry;
+      next = (next + 1) % ring.length;
+      size = Math.min(size + 1, ring.length);
+    }
+
+    synchronized Entry last() {
+      return size == 0 ? null : ring[(next - 1 + ring.length) % ring.length];
+    }
+
+    synchronized void copyTo(List<Entry> entries) {
+      for (int i = 0; i < size; i++) {
+        entries.add(ring[i]);
+      }
+    }
+  }
+
+  private static class Entry {
+    private final long id;
+    private final String context;
+    private final File screenshot;
+
+    private Entry(long id, String context, File screenshot) {
+      this.id = id;
+      this.context = context;
+      this.screenshot = screenshot;
+    }
+
+    static Entry parse(String line) {
+      String[] parts = line.split("\t", 3);
+      return parts.length < 3 ? null : new Entry(Long.parseLong(parts[0]), parts[1], new File(parts[2]));
+    }
+
+    @Override
+    public String toString() {
+      return id + "\t" + context + '\t' + screenshot.getPath();
+    }
+  }
+}
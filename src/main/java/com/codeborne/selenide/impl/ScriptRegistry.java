@@ -0,0 +1,229 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import org.openqa.selenium.WebDriver;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import static com.google.common.hash.Hashing.murmur3_128;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Installs javascript functions in browser once per document (as {@code window.__selenide[handle]}),
+ * and then calls them by a short handle instead of sending the whole source with every call.
+ * <p>
+ * If the function is missing (e.g. another page has been opened), it's installed again transparently
+ * (the same call both installs and executes it), and other scripts of that browser are considered missing too.
+ * <p>
+ * Source of a pinned script is the body of a function: it gets the same {@code arguments} as a usual script.
+ * Big functions used by many scripts (e.g. Selenium atoms) are installed once as a {@link Library}.
+ */
+public class ScriptRegistry {
+  public static ScriptRegistry instance = new ScriptRegistry();
+
+  static final String NOT_INSTALLED = "selenide:script-is-not-installed";
+  private static final int MAX_SCRIPTS_PER_BROWSER = 1000;
+
+  private static final String NAMESPACE = "window.__selenide = window.__selenide || {};";
+
+  private final Map<WebDriver, Set<String>> installed = new WeakHashMap<>();
+
+  /**
+   * @param name   readable name of the script (it's a part of handle)
+   * @param source body of javascript function
+   */
+  public static PinnedScript pin(String name, String source) {
+    return pin(name, null, source);
+  }
+
+  /**
+   * Pins a script which calls functions of given library.
+   * The library is installed in browser once and shared by all its scripts,
+   * so that every script sends only its own (usually short) source.
+   *
+   * @param name    readable name of the script (it's a part of handle)
+   * @param library functions available to the script, or null
+   * @param source  body of javascript function
+   */
+  public static PinnedScript pin(String name, Library library, String source) {
+    String hashed = library == null ? source : library.handle + source;
+    return new PinnedScript(name + '_' + murmur3_128().hashString(hashed, UTF_8), library, source);
+  }
+
+  /**
+   * @param name      readable name of the library (it's a part of handle)
+   * @param source    javascript declaring functions
+   * @param functions names of declared functions that scripts of the library may call
+   */
+  public static Library library(String name, String source, String... functions) {
+    return new Library(name + '_' + murmur3_128().hashString(source, UTF_8), source, functions);
+  }
+
+  /**
+   * Executes given script, installing it (and its library) in the current document if needed
+   */
+  public <T> T execute(Driver driver, PinnedScript script, Object... arguments) {
+    return execute(driver, script, false, arguments);
+  }
+
+  /**
+   * Executes given asynchronous script (the last argument of the function is callback),
+   * installing it (and its library) in the current document if needed
+   */
+  public <T> T executeAsync(Driver driver, PinnedScript script, Object... arguments) {
+    return execute(driver, script, true, arguments);
+  }
+
+  /**
+   * Executes given script (installing it and its library) right after another script in the same call to browser,
+   * e.g. after a third-party library which defines global variables
+   */
+  public <T> T executeAfter(Driver driver, String prelude, PinnedScript script, Object... arguments) {
+    T result = driver.executeJavaScript(prelude + ";\n" + script.installAllAndCall, arguments);
+    WebDriver webDriver = driver.getWebDriver();
+    if (script.library != null) {
+      markInstalled(webDriver, script.library.handle);
+    }
+    markInstalled(webDriver, script.handle);
+    return result;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T execute(Driver driver, PinnedScript script, boolean async, Object... arguments) {
+    WebDriver webDriver = driver.getWebDriver();
+    if (isInstalled(webDriver, script.handle)) {
+      Object result = execute(driver, async ? script.callAsync : script.call, async, arguments);
+      if (!NOT_INSTALLED.equals(result)) {
+        return (T) result;
+      }
+      // another document has been loaded without reset(): nothing installed earlier is there anymore
+      reset(webDriver);
+    }
+    else if (script.library != null && isInstalled(webDriver, script.library.handle)) {
+      Object result = execute(driver, async ? script.installAndCallAsync : script.installAndCall, async, arguments);
+      if (!NOT_INSTALLED.equals(result)) {
+        markInstalled(webDriver, script.handle);
+        return (T) result;
+      }
+      reset(webDriver);
+    }
+    T result = execute(driver, async ? script.installAllAndCallAsync : script.installAllAndCall, async, arguments);
+    if (script.library != null) {
+      markInstalled(webDriver, script.library.handle);
+    }
+    markInstalled(webDriver, script.handle);
+    return result;
+  }
+
+  private <T> T execute(Driver driver, String js, boolean async, Object... arguments) {
+    return async ? driver.executeAsyncJavaScript(js, arguments) : driver.executeJavaScript(js, arguments);
+  }
+
+  /**
+   * Forget scripts installed in given browser (e.g. after opening another page or switching to a frame).
+   * It's not required for correctness, but saves a call to browser which would find out that scripts are missing.
+   */
+  public synchronized void reset(WebDriver webDriver) {
+    if (webDriver != null) {
+      installed.remove(webDriver);
+    }
+  }
+
+  private synchronized boolean isInstalled(WebDriver webDriver, String handle) {
+    Set<String> handles = installed.get(webDriver);
+    return handles != null && handles.contains(handle);
+  }
+
+  private synchronized void markInstalled(WebDriver webDriver, String handle) {
+    if (webDriver == null) return;
+
+    Set<String> handles = installed.computeIfAbsent(webDriver, b -> new HashSet<>());
+    if (handles.size() >= MAX_SCRIPTS_PER_BROWSER) {
+      handles.clear();
+    }
+    handles.add(handle);
+  }
+
+  private static String reference(String handle) {
+    return "window.__selenide['" + handle + "']";
+  }
+
+  /**
+   * Functions shared by pinned scripts (see {@link #pin(String, Library, String)})
+   */
+  public static final class Library {
+    private final String handle;
+    private final String install;
+    private final String imports;
+
+    private Library(String handle, String source, String... functions) {
+      StringBuilder exports = new StringBuilder();
+      StringBuilder imports = new StringBuilder();
+      for (String function : functions) {
+        exports.append(exports.length() == 0 ? "" : ", ").append(function).append(": ").append(function);
+        imports.append(imports.length() == 0 ? "var " : ", ")
+            .append(function).append(" = ").append(reference(handle)).append('.').append(function);
+      }
+      this.handle = handle;
+      this.install = reference(handle) + " = (function() {\n" + source + "\nreturn {" + exports + "};\n})();";
+      this.imports = functions.length == 0 ? "" : imports.append(";\n").toString();
+    }
+
+    String handle() {
+      return handle;
+    }
+
+    @Override
+    public String toString() {
+      return handle;
+    }
+  }
+
+  public static final class PinnedScript {
+    private final String handle;
+    private final Library library;
+    private final String call;
+    private final String installAndCall;
+    private final String installAllAndCall;
+    private final String callAsync;
+    private final String installAndCallAsync;
+    private final String installAllAndCallAsync;
+
+    private PinnedScript(String handle, Library library, String source) {
+      String function = reference(handle);
+      String install = function + " = function() {\n" + (library == null ? "" : library.imports) + source + "\n};";
+      String missing = "!window.__selenide || !" + function + (library == null ? "" : " || !" + reference(library.handle));
+      String checkLibrary = library == null ? "" : "if (!" + reference(library.handle) + ") ";
+      String installLibrary = library == null ? "" : library.install;
+      String notInstalled = "'" + NOT_INSTALLED + "'";
+      String apply = function + ".apply(this, arguments);";
+
+      this.handle = handle;
+      this.library = library;
+      this.call = "if (" + missing + ") return " + notInstalled + ";" +
+          "return " + apply;
+      this.installAndCall = NAMESPACE + (library == null ? "" : checkLibrary + "return " + notInstalled + ";") +
+          install + "return " + apply;
+      this.installAllAndCall = NAMESPACE + installLibrary + install + "return " + apply;
+      this.callAsync = "if (" + missing + ") {" +
+          " arguments[arguments.length - 1](" + notInstalled + "); return; }" +
+          apply;
+      this.installAndCallAsync = NAMESPACE +
+          (library == null ? "" : checkLibrary + "{ arguments[arguments.length - 1](" + notInstalled + "); return; }") +
+          install + apply;
+      this.installAllAndCallAsync = NAMESPACE + installLibrary + install + apply;
+    }
+
+    String handle() {
+      return handle;
+    }
+
+    @Override
+    public String toString() {
+      return handle;
+    }
+  }
+}
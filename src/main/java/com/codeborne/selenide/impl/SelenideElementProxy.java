@@ -4,7 +4,6 @@ import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.Stopwatch;
-import com.codeborne.selenide.commands.Commands;
 import com.codeborne.selenide.ex.InvalidStateException;
 import com.codeborne.selenide.ex.UIAssertionError;
 import com.codeborne.selenide.logevents.SelenideLog;
@@ -12,38 +11,20 @@ import com.codeborne.selenide.logevents.SelenideLogger;
 import org.openqa.selenium.InvalidElementStateException;
 import org.openqa.selenium.JavascriptException;
 import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
 
 import java.io.FileNotFoundException;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.HashSet;
-import java.util.Set;
+import java.lang.reflect.Proxy;
 
 import static com.codeborne.selenide.Condition.exist;
 import static com.codeborne.selenide.AssertionMode.SOFT;
 import static com.codeborne.selenide.logevents.ErrorsCollector.validateAssertionMode;
 import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
-import static java.util.Arrays.asList;
 
 class SelenideElementProxy implements InvocationHandler {
-  private static final Set<String> methodsToSkipLogging = new HashSet<>(asList(
-      "toWebElement",
-      "toString",
-      "getSearchCriteria"
-  ));
-
-  private static final Set<String> methodsForSoftAssertion = new HashSet<>(asList(
-      "should",
-      "shouldBe",
-      "shouldHave",
-      "shouldNot",
-      "shouldNotHave",
-      "shouldNotBe",
-      "waitUntil",
-      "waitWhile"
-  ));
-
   private final WebElementSource webElementSource;
 
   protected SelenideElementProxy(WebElementSource webElementSource) {
@@ -52,23 +33,24 @@ class SelenideElementProxy implements InvocationHandler {
 
   @Override
   public Object invoke(Object proxy, Method method, Object... args) throws Throwable {
-    if (methodsToSkipLogging.contains(method.getName()))
-      return Commands.getInstance().execute(proxy, webElementSource, method.getName(), args);
+    MethodDispatch dispatch = MethodDispatch.of(method);
+    if (dispatch.skipLogging)
+      return dispatch.execute(proxy, webElementSource, args);
 
     validateAssertionMode(config());
 
-    long timeoutMs = getTimeoutMs(method, args);
-    long pollingIntervalMs = getPollingIntervalMs(method, args);
-    SelenideLog log = SelenideLogger.beginStep(webElementSource.getSearchCriteria(), method.getName(), args);
+    long timeoutMs = dispatch.timeoutMs(config(), args);
+    long pollingIntervalMs = dispatch.pollingIntervalMs(config(), args);
+    SelenideLog log = SelenideLogger.beginStep(webElementSource.getSearchCriteria(), dispatch.name, args);
     try {
-      Object result = dispatchAndRetry(timeoutMs, pollingIntervalMs, proxy, method, args);
+      Object result = dispatchAndRetry(timeoutMs, pollingIntervalMs, proxy, method, dispatch, args);
       SelenideLogger.commitStep(log, PASS);
       return result;
     }
     catch (Error error) {
       Error wrappedError = UIAssertionError.wrap(driver(), error, timeoutMs);
       SelenideLogger.commitStep(log, wrappedError);
-      if (config().assertionMode() == SOFT && methodsForSoftAssertion.contains(method.getName()))
+      if (config().assertionMode() == SOFT && dispatch.softAssertion)
         return proxy;
       else
         throw wrappedError;
@@ -83,19 +65,37 @@ class SelenideElementProxy implements InvocationHandler {
     return webElementSource.driver();
   }
 
+  /**
+   * @return source of given Selenide element, or null if given object is not a Selenide element proxy
+   */
+  static WebElementSource sourceOf(Object element) {
+    if (element instanceof SelenideElement && Proxy.isProxyClass(element.getClass())) {
+      InvocationHandler handler = Proxy.getInvocationHandler(element);
+      if (handler instanceof SelenideElementProxy) {
+        return ((SelenideElementProxy) handler).webElementSource;
+      }
+    }
+    return null;
+  }
+
   private Config config() {
     return driver().config();
   }
 
   protected Object dispatchAndRetry(long timeoutMs, long pollingIntervalMs,
                                     Object proxy, Method method, Object[] args) throws Throwable {
+    return dispatchAndRetry(timeoutMs, pollingIntervalMs, proxy, method, MethodDispatch.of(method), args);
+  }
+
+  private Object dispatchAndRetry(long timeoutMs, long pollingIntervalMs,
+                                  Object proxy, Method method, MethodDispatch dispatch, Object[] args) throws Throwable {
     Stopwatch stopwatch = new Stopwatch(timeoutMs);
 
     Throwable lastError;
-    do {
+    while (true) {
       try {
-        if (SelenideElement.class.isAssignableFrom(method.getDeclaringClass())) {
-          return Commands.getInstance().execute(proxy, webElementSource, method.getName(), args);
+        if (dispatch.selenideCommand) {
+          return dispatch.execute(proxy, webElementSource, args);
         }
 
         return method.invoke(webElementSource.getWebElement(), args);
@@ -106,6 +106,7 @@ class SelenideElementProxy implements InvocationHandler {
       catch (WebDriverException | IndexOutOfBoundsException | AssertionError e) {
         lastError = e;
       }
+      webElementSource.onFailure(lastError);
 
       if (Cleanup.of.isInvalidSelectorError(lastError)) {
         throw Cleanup.of.wrap(lastError);
@@ -113,9 +114,11 @@ class SelenideElementProxy implements InvocationHandler {
       else if (!shouldRetryAfterError(lastError)) {
         throw lastError;
       }
-      stopwatch.sleep(pollingIntervalMs);
+      if (stopwatch.isTimeoutReached()) {
+        break;
+      }
+      pause(stopwatch, pollingIntervalMs, dispatch, args);
     }
-    while (!stopwatch.isTimeoutReached());
 
     if (lastError instanceof UIAssertionError) {
       throw lastError;
@@ -129,6 +132,26 @@ class SelenideElementProxy implements InvocationHandler {
     throw lastError;
   }
 
+  private void pause(Stopwatch stopwatch, long pollingIntervalMs, MethodDispatch dispatch, Object[] args) {
+    long intervalMs = stopwatch.nextPollingInterval(dispatch.pollingStrategy(config(), args), pollingIntervalMs);
+    MutationWaiter waiter = MutationWaiter.instance;
+    if (!waiter.canWait(driver())) {
+      stopwatch.sleep(intervalMs);
+      return;
+    }
+    String predicate = dispatch.conditionsJavascript(args);
+    waiter.pause(driver(), stopwatch, intervalMs, predicate == null ? null : currentElement(), predicate);
+  }
+
+  private WebElement currentElement() {
+    try {
+      return webElementSource.getWebElement();
+    }
+    catch (WebDriverException | IndexOutOfBoundsException elementNotFound) {
+      return null;
+    }
+  }
+
   static boolean shouldRetryAfterError(Throwable e) {
     if (e instanceof FileNotFoundException) return false;
     if (e instanceof IllegalArgumentException) return false;
@@ -137,18 +160,4 @@ class SelenideElementProxy implements InvocationHandler {
 
     return e instanceof Exception || e instanceof AssertionError;
   }
-
-  private long getTimeoutMs(Method method, Object[] args) {
-    return isWaitCommand(method) ?
-      args.length == 3 ? (Long) args[args.length - 2] : (Long) args[args.length - 1] :
-      config().timeout();
-  }
-
-  private long getPollingIntervalMs(Method method, Object[] args) {
-    return isWaitCommand(method) && args.length == 3 ? (Long) args[args.length - 1] : config().pollingInterval();
-  }
-
-  private boolean isWaitCommand(Method method) {
-    return "waitUntil".equals(method.getName()) || "waitWhile".equals(method.getName());
-  }
 }
@@ -0,0 +1,47 @@
+package com.codeborne.selenide.impl;
+
+import org.apache.commons.io.IOUtils;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static java.lang.Thread.currentThread;
+
+/**
+ * Javascript "atoms" that Selenium itself uses for calculating element's visibility and attributes.
+ * Scripts which check element state in browser use them to get the same results as webdriver does.
+ */
+class SeleniumAtoms {
+  private static final String IS_DISPLAYED_ATOM = "/org/openqa/selenium/remote/isDisplayed.js";
+  private static final String GET_ATTRIBUTE_ATOM = "/org/openqa/selenium/remote/getAttribute.js";
+
+  private static String functions;
+
+  /**
+   * @return javascript declaring functions {@code isDisplayed(element)} and {@code getAttribute(element, name)}
+   */
+  static synchronized String functions() {
+    if (functions == null) {
+      functions = "var isDisplayed = " + atom(IS_DISPLAYED_ATOM) + ";\n" +
+          "var getAttribute = " + atom(GET_ATTRIBUTE_ATOM) + ";\n";
+    }
+    return functions;
+  }
+
+  private static String atom(String resource) {
+    URL url = SeleniumAtoms.class.getResource(resource);
+    if (url == null) {
+      url = currentThread().getContextClassLoader().getResource(resource.substring(1));
+    }
+    if (url == null) {
+      throw new IllegalStateException("Cannot load " + resource + " from classpath");
+    }
+    try {
+      return IOUtils.toString(url, StandardCharsets.UTF_8);
+    }
+    catch (IOException e) {
+      throw new IllegalStateException("Cannot load " + resource + " from classpath", e);
+    }
+  }
+}
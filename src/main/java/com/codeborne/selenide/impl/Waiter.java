@@ -1,19 +1,19 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.PollingStrategy;
+import com.codeborne.selenide.Stopwatch;
 import com.google.common.base.Predicate;
 
-import static java.lang.System.currentTimeMillis;
-
 public class Waiter {
   public <T> void wait(T subject, Predicate<T> condition, long timeout, long pollingInterval) {
-    for (long start = currentTimeMillis();
-         !isTimeoutExceeded(timeout, start) && !condition.apply(subject); ) {
-      sleep(pollingInterval);
-    }
+    wait(subject, condition, timeout, pollingInterval, PollingStrategy.constant());
   }
 
-  private boolean isTimeoutExceeded(long timeout, long start) {
-    return currentTimeMillis() - start > timeout;
+  public <T> void wait(T subject, Predicate<T> condition, long timeout, long pollingInterval, PollingStrategy strategy) {
+    Stopwatch stopwatch = new Stopwatch(timeout);
+    while (!stopwatch.isTimeoutReached() && !condition.apply(subject)) {
+      sleep(Math.min(stopwatch.nextPollingInterval(strategy, pollingInterval), stopwatch.remainingMillis()));
+    }
   }
 
   void sleep(long milliseconds) {
@@ -21,6 +21,9 @@ import static java.lang.Thread.currentThread;
 public class WebElementSelector {
   public static WebElementSelector instance = new WebElementSelector();
 
+  private static final String SIZZLE_QUERY = "if (typeof Sizzle === 'undefined') return null;" +
+      "return arguments[1] ? Sizzle(arguments[0], arguments[1]) : Sizzle(arguments[0]);";
+
   protected String sizzleSource;
 
   public WebElement findElement(Driver driver, SearchContext context, By selector) {
@@ -40,25 +43,40 @@ public class WebElementSelector {
     return evaluateSizzleSelector(driver, context, (ByCssSelector) selector);
   }
 
+  /**
+   * Checks that Sizzle is loaded in the same script which runs the query, so usually there is only one call to browser.
+   * Sizzle is injected (together with repeated query) only if current document doesn't have it yet.
+   */
   protected List<WebElement> evaluateSizzleSelector(Driver driver, SearchContext context, ByCssSelector sizzleCssSelector) {
-    injectSizzleIfNeeded(driver);
-
     String sizzleSelector = sizzleCssSelector.toString()
         .replace("By.selector: ", "")
         .replace("By.cssSelector: ", "");
+    WebElement contextElement = context instanceof WebElement ? (WebElement) context : null;
 
-    if (context instanceof WebElement)
-      return driver.executeJavaScript("return Sizzle(arguments[0], arguments[1])", sizzleSelector, context);
-    else
-      return driver.executeJavaScript("return Sizzle(arguments[0])", sizzleSelector);
+    List<WebElement> found = driver.executeJavaScript(SIZZLE_QUERY, sizzleSelector, contextElement);
+    if (found == null) {
+      found = driver.executeJavaScript(sizzleSource() + ';' + SIZZLE_QUERY, sizzleSelector, contextElement);
+    }
+    if (found == null) {
+      throw new WebDriverException("Failed to inject Sizzle for selector '" + sizzleSelector + "': window.Sizzle is not defined");
+    }
+    return found;
   }
 
+  /**
+   * @deprecated Sizzle is checked and injected by {@link #evaluateSizzleSelector} itself
+   */
+  @Deprecated
   protected void injectSizzleIfNeeded(Driver driver) {
     if (!sizzleLoaded(driver)) {
       injectSizzle(driver);
     }
   }
 
+  /**
+   * @deprecated Sizzle is checked and injected by {@link #evaluateSizzleSelector} itself
+   */
+  @Deprecated
   protected Boolean sizzleLoaded(Driver driver) {
     try {
       return driver.executeJavaScript("return typeof Sizzle != 'undefined'");
@@ -67,14 +85,27 @@ public class WebElementSelector {
     }
   }
 
-  protected synchronized void injectSizzle(Driver driver) {
+  /**
+   * @deprecated Sizzle is checked and injected by {@link #evaluateSizzleSelector} itself
+   */
+  @Deprecated
+  protected void injectSizzle(Driver driver) {
+    driver.executeJavaScript(sizzleSource());
+  }
+
+  /**
+   * Source of sizzle.js which always assigns {@code window.Sizzle},
+   * even if the page uses AMD ({@code define.amd}) or CommonJS ({@code module.exports}) modules.
+   */
+  protected synchronized String sizzleSource() {
     if (sizzleSource == null) {
       try {
-        sizzleSource = IOUtils.toString(currentThread().getContextClassLoader().getResource("sizzle.js"), StandardCharsets.UTF_8);
+        String source = IOUtils.toString(currentThread().getContextClassLoader().getResource("sizzle.js"), StandardCharsets.UTF_8);
+        sizzleSource = "(function(define, module) {\n" + source + "\n})();";
       } catch (IOException e) {
         throw new RuntimeException("Cannot load sizzle.js from classpath", e);
       }
     }
-    driver.executeJavaScript(sizzleSource);
+    return sizzleSource;
   }
 }
@@ -30,6 +30,13 @@ public abstract class WebElementSource {
     return singletonList(getWebElement());
   }
 
+  /**
+   * Called when a command has failed with given error (before it gets retried).
+   * Sources that keep found element can use it for searching the element again.
+   */
+  public void onFailure(Throwable error) {
+  }
+
   public ElementNotFound createElementNotFoundError(Condition condition, Throwable lastError) {
     return new ElementNotFound(driver(), getSearchCriteria(), condition, lastError);
   }
@@ -39,14 +46,32 @@ public abstract class WebElementSource {
   }
 
   public WebElement checkCondition(String prefix, String message, Condition condition, boolean invert) {
-    Condition check = invert ? not(condition) : condition;
+    return checkConditions(prefix, message, singletonList(condition), invert);
+  }
 
+  /**
+   * Checks all given conditions against the same element.
+   * Element is searched only once, and (if enabled in config) its state is collected by a single {@link ElementSnapshot}.
+   */
+  public WebElement checkConditions(String prefix, String message, List<Condition> conditions, boolean invert) {
     Throwable lastError = null;
     WebElement element = null;
+    Condition condition = null;
     try {
       element = getWebElement();
-      if (element != null && check.apply(driver(), element)) {
-        return element;
+      if (element != null) {
+        WebElement snapshot = ElementSnapshot.of(driver(), element, conditions);
+        for (Condition c : conditions) {
+          condition = c;
+          Condition check = invert ? not(c) : c;
+          if (!check.apply(driver(), check.canCheckSnapshot() ? snapshot : element)) {
+            break;
+          }
+          condition = null;
+        }
+        if (condition == null) {
+          return element;
+        }
       }
     }
     catch (WebDriverException | IndexOutOfBoundsException | AssertionError e) {
@@ -58,8 +83,11 @@ public abstract class WebElementSource {
     }
 
     if (element == null) {
-      if (!check.applyNull()) {
-        throw createElementNotFoundError(check, lastError);
+      for (Condition c : conditions) {
+        Condition check = invert ? not(c) : c;
+        if (!check.applyNull()) {
+          throw createElementNotFoundError(check, lastError);
+        }
       }
     }
     else if (invert) {
@@ -84,6 +84,30 @@ public class SelenideLogger {
     return listeners == null ? null : (T) listeners.remove(name);
   }
   
+  /**
+   * @return copy of listeners of the current thread (e.g. to bind them to another thread using {@link #setListeners(Map)})
+   */
+  public static Map<String, LogEventListener> getListeners() {
+    Map<String, LogEventListener> listeners = SelenideLogger.listeners.get();
+    return listeners == null ? new HashMap<>() : new HashMap<>(listeners);
+  }
+
+  /**
+   * Replace all listeners of the current thread.
+   * @param newListeners listeners by their unique names, or null to remove all listeners
+   * @return previous listeners of the current thread (null if none)
+   */
+  public static Map<String, LogEventListener> setListeners(Map<String, LogEventListener> newListeners) {
+    Map<String, LogEventListener> previous = SelenideLogger.listeners.get();
+    if (newListeners == null) {
+      SelenideLogger.listeners.remove();
+    }
+    else {
+      SelenideLogger.listeners.set(new HashMap<>(newListeners));
+    }
+    return previous;
+  }
+
   public static void removeAllListeners() {
     SelenideLogger.listeners.remove();
   }
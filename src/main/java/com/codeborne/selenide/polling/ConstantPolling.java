@@ -0,0 +1,15 @@
+package com.codeborne.selenide.polling;
+
+import com.codeborne.selenide.PollingStrategy;
+
+public class ConstantPolling implements PollingStrategy {
+  @Override
+  public long nextIntervalMs(long pollingIntervalMs, int attempt, long elapsedMs) {
+    return pollingIntervalMs;
+  }
+
+  @Override
+  public String toString() {
+    return "constant";
+  }
+}
@@ -0,0 +1,27 @@
+package com.codeborne.selenide.polling;
+
+import com.codeborne.selenide.PollingStrategy;
+
+public class ExponentialPolling implements PollingStrategy {
+  private final double factor;
+  private final long maxIntervalMs;
+
+  public ExponentialPolling(double factor, long maxIntervalMs) {
+    if (factor < 1.0) {
+      throw new IllegalArgumentException("Factor should be at least 1, but was: " + factor);
+    }
+    this.factor = factor;
+    this.maxIntervalMs = maxIntervalMs;
+  }
+
+  @Override
+  public long nextIntervalMs(long pollingIntervalMs, int attempt, long elapsedMs) {
+    double interval = pollingIntervalMs * Math.pow(factor, attempt - 1);
+    return (long) Math.min(interval, Math.max(maxIntervalMs, pollingIntervalMs));
+  }
+
+  @Override
+  public String toString() {
+    return "exponential(factor: " + factor + ", max: " + maxIntervalMs + " ms)";
+  }
+}
@@ -0,0 +1,23 @@
+package com.codeborne.selenide.polling;
+
+import com.codeborne.selenide.PollingStrategy;
+
+public class FastStartPolling implements PollingStrategy {
+  private final long fastIntervalMs;
+  private final long fastPeriodMs;
+
+  public FastStartPolling(long fastIntervalMs, long fastPeriodMs) {
+    this.fastIntervalMs = fastIntervalMs;
+    this.fastPeriodMs = fastPeriodMs;
+  }
+
+  @Override
+  public long nextIntervalMs(long pollingIntervalMs, int attempt, long elapsedMs) {
+    return elapsedMs < fastPeriodMs ? Math.min(fastIntervalMs, pollingIntervalMs) : pollingIntervalMs;
+  }
+
+  @Override
+  public String toString() {
+    return "fastStart(" + fastIntervalMs + " ms during " + fastPeriodMs + " ms)";
+  }
+}
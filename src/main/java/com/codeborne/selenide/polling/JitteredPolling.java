@@ -0,0 +1,30 @@
+package com.codeborne.selenide.polling;
+
+import com.codeborne.selenide.PollingStrategy;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public class JitteredPolling implements PollingStrategy {
+  private final PollingStrategy strategy;
+  private final double ratio;
+
+  public JitteredPolling(PollingStrategy strategy, double ratio) {
+    if (ratio < 0.0 || ratio > 1.0) {
+      throw new IllegalArgumentException("Ratio should be between 0 and 1, but was: " + ratio);
+    }
+    this.strategy = strategy;
+    this.ratio = ratio;
+  }
+
+  @Override
+  public long nextIntervalMs(long pollingIntervalMs, int attempt, long elapsedMs) {
+    long interval = strategy.nextIntervalMs(pollingIntervalMs, attempt, elapsedMs);
+    double jitter = ratio == 0.0 ? 0.0 : ThreadLocalRandom.current().nextDouble(-ratio, ratio);
+    return Math.max(0, Math.round(interval * (1 + jitter)));
+  }
+
+  @Override
+  public String toString() {
+    return "jittered(" + strategy + ", ratio: " + ratio + ")";
+  }
+}
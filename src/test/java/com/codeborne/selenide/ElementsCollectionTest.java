@@ -16,6 +16,7 @@ import java.util.stream.IntStream;
 import static com.codeborne.selenide.CollectionCondition.size;
 import static java.util.Arrays.asList;
 import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -190,6 +191,16 @@ class ElementsCollectionTest implements WithAssertions {
       .isEqualTo("[not loaded yet...]");
   }
 
+  @Test
+  void testElementsToStringDescribesOnlyFirstElements() {
+    DriverStub driver = new DriverStub(new SelenideConfig().describeMaxElements(2), new Browser("zopera", false), null, null);
+    when(element1.getText()).thenReturn("One");
+    when(element2.getText()).thenReturn("Two");
+
+    assertThat(ElementsCollection.elementsToString(driver, asList(element1, element2, element3)))
+      .isEqualTo("[\n\t<h1>One</h1>,\n\t<h2>Two</h2>,\n\t... and 1 more\n]");
+  }
+
   @Test
   void testFirstMethod() {
     ElementsCollection collection = new ElementsCollection(source);
@@ -308,6 +319,23 @@ class ElementsCollectionTest implements WithAssertions {
     verify(collection, times(2)).sleep(anyLong());
   }
 
+  @Test
+  void checksConditionOnceMore_afterPauseHasUsedUpTimeout() {
+    ElementsCollection collection = spy(new ElementsCollection(source));
+    doAnswer(invocation -> {
+      Thread.sleep(50);
+      return null;
+    }).when(collection).sleep(anyLong());
+    when(source.getElements()).thenReturn(
+      Collections.singletonList(element1),
+      asList(element1, element2)
+    );
+
+    collection.shouldHave(size(2), 10);
+    verify(collection, times(1)).sleep(anyLong());
+    verify(source, times(2)).getElements();
+  }
+
   @Test
   void toStringFetchedCollectionFromWebdriverIfNotFetchedYet() {
     ElementsCollection collection = new ElementsCollection(source);
@@ -323,6 +351,22 @@ class ElementsCollectionTest implements WithAssertions {
       .hasToString("[WebDriverException: Failed to fetch elements]");
   }
 
+  @Test
+  void fixedIterableSearchesCollectionOnlyOnce() {
+    when(source.getElements()).thenReturn(asList(element1, element2, element3));
+
+    List<String> tags = new ArrayList<>();
+    for (SelenideElement element : new ElementsCollection(source).asFixedIterable()) {
+      element.click();
+      tags.add(element.getTagName());
+    }
+
+    assertThat(tags).containsExactly("h1", "h2", "h3");
+    verify(source, times(1)).getElements();
+    verify(element1).click();
+    verify(element3).click();
+  }
+
   private WebElement element(String tag) {
     WebElement element = mock(WebElement.class);
     when(element.getTagName()).thenReturn(tag);
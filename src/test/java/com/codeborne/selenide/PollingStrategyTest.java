@@ -0,0 +1,68 @@
+package com.codeborne.selenide;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+class PollingStrategyTest implements WithAssertions {
+  @Test
+  void constant() {
+    PollingStrategy strategy = PollingStrategy.constant();
+
+    assertThat(strategy.nextIntervalMs(200, 1, 0)).isEqualTo(200);
+    assertThat(strategy.nextIntervalMs(200, 10, 3000)).isEqualTo(200);
+  }
+
+  @Test
+  void exponential_withCap() {
+    PollingStrategy strategy = PollingStrategy.exponential(2, 1000);
+
+    assertThat(strategy.nextIntervalMs(200, 1, 0)).isEqualTo(200);
+    assertThat(strategy.nextIntervalMs(200, 2, 200)).isEqualTo(400);
+    assertThat(strategy.nextIntervalMs(200, 3, 600)).isEqualTo(800);
+    assertThat(strategy.nextIntervalMs(200, 4, 1400)).isEqualTo(1000);
+    assertThat(strategy.nextIntervalMs(200, 100, 90000)).isEqualTo(1000);
+  }
+
+  @Test
+  void exponential_neverPollsFasterThanPollingInterval() {
+    assertThat(PollingStrategy.exponential(2, 100).nextIntervalMs(200, 5, 0)).isEqualTo(200);
+  }
+
+  @Test
+  void exponential_factorCannotBeLessThanOne() {
+    assertThatThrownBy(() -> PollingStrategy.exponential(0.5, 1000))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Factor should be at least 1, but was: 0.5");
+  }
+
+  @Test
+  void fastStart() {
+    PollingStrategy strategy = PollingStrategy.fastStart();
+
+    assertThat(strategy.nextIntervalMs(200, 1, 0)).isEqualTo(10);
+    assertThat(strategy.nextIntervalMs(200, 5, 99)).isEqualTo(10);
+    assertThat(strategy.nextIntervalMs(200, 10, 100)).isEqualTo(200);
+    assertThat(strategy.nextIntervalMs(5, 1, 0)).isEqualTo(5);
+  }
+
+  @Test
+  void jittered() {
+    PollingStrategy strategy = PollingStrategy.jittered(PollingStrategy.constant(), 0.25);
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(strategy.nextIntervalMs(200, i + 1, 0)).isBetween(150L, 250L);
+    }
+    assertThat(PollingStrategy.jittered(PollingStrategy.constant(), 0).nextIntervalMs(200, 1, 0)).isEqualTo(200);
+  }
+
+  @Test
+  void builtInStrategiesByName() {
+    assertThat(PollingStrategy.named("constant")).hasToString("constant");
+    assertThat(PollingStrategy.named("exponential")).hasToString("exponential(factor: 2.0, max: 2000 ms)");
+    assertThat(PollingStrategy.named("fastStart")).hasToString("fastStart(10 ms during 100 ms)");
+    assertThat(PollingStrategy.named("jittered")).hasToString("jittered(constant, ratio: 0.25)");
+    assertThatThrownBy(() -> PollingStrategy.named("random"))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Unknown polling strategy: random (expected one of: constant, exponential, fastStart, jittered)");
+  }
+}
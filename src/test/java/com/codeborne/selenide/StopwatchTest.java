@@ -18,4 +18,19 @@ public class StopwatchTest {
     Thread.sleep(101);
     assertThat(stopwatch.isTimeoutReached()).isTrue();
   }
+
+  @Test
+  void counts_attempts_for_polling_strategy() {
+    PollingStrategy attemptNumber = (pollingIntervalMs, attempt, elapsedMs) -> pollingIntervalMs * attempt;
+
+    assertThat(stopwatch.nextPollingInterval(attemptNumber, 10)).isEqualTo(10);
+    assertThat(stopwatch.nextPollingInterval(attemptNumber, 10)).isEqualTo(20);
+    assertThat(stopwatch.nextPollingInterval(attemptNumber, 10)).isEqualTo(30);
+  }
+
+  @Test
+  void remaining_time() {
+    assertThat(stopwatch.remainingMillis()).isBetween(0L, 100L);
+    assertThat(new Stopwatch(0).remainingMillis()).isEqualTo(0);
+  }
 }
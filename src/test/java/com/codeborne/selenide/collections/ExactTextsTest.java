@@ -2,17 +2,28 @@ package com.codeborne.selenide.collections;
 
 import java.util.List;
 
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
 import com.codeborne.selenide.ex.ElementNotFound;
 import com.codeborne.selenide.ex.TextsMismatch;
 import com.codeborne.selenide.impl.WebElementsCollection;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 class ExactTextsTest implements WithAssertions {
@@ -50,6 +61,40 @@ class ExactTextsTest implements WithAssertions {
       .isEqualTo(shouldMatch);
   }
 
+  @Test
+  void retrievesAllTextsWithSingleJavascriptCall() {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    Driver driver = new DriverStub(new SelenideConfig(), new Browser("chrome", false), webDriver, null);
+    List<WebElement> elements = asList(mock(WebElement.class), mock(WebElement.class));
+    when(webDriver.executeScript(anyString(), any(), any())).thenReturn(asList("One", "Two"));
+
+    assertThat(new ExactTexts("One", "Two").apply(driver, elements)).isTrue();
+    assertThat(new ExactTexts("One", "Three").apply(driver, elements)).isFalse();
+    assertThat(new Texts("On", "Tw").apply(driver, elements)).isTrue();
+    assertThat(new TextsInAnyOrder("Two", "One").apply(driver, elements)).isTrue();
+
+    verify(webDriver, times(4)).executeScript(anyString(), eq(elements), eq(true));
+    verifyZeroInteractions(elements.get(0), elements.get(1));
+  }
+
+  @Test
+  void doesNotRetrieveTextsIfSizeDoesNotMatch() {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    Driver driver = new DriverStub(new SelenideConfig(), new Browser("chrome", false), webDriver, null);
+
+    assertThat(new ExactTexts("One", "Two").apply(driver, singletonList(mock(WebElement.class)))).isFalse();
+    verifyZeroInteractions(webDriver);
+  }
+
+  @Test
+  void retrievesTextsOneByOneIfBrowserDoesNotSupportJavascript() {
+    WebElement element = mock(WebElement.class);
+    when(element.getText()).thenReturn("One");
+
+    assertThat(new ExactTexts("One").apply(new DriverStub(), singletonList(element))).isTrue();
+    verify(element).getText();
+  }
+
   @Test
   void testApplyOnCorrectListSizeButWrongElementsText() {
     testApplyMethodOnDifferentConditions(false);
@@ -86,6 +131,7 @@ class ExactTextsTest implements WithAssertions {
 
     WebElementsCollection mockedElementsCollection = mock(WebElementsCollection.class);
     when(mockedElementsCollection.description()).thenReturn("Collection description");
+    when(mockedElementsCollection.driver()).thenReturn(new DriverStub());
 
     try {
       exactTexts.fail(mockedElementsCollection,
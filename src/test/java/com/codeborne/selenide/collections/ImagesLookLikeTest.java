@@ -0,0 +1,70 @@
+package com.codeborne.selenide.collections;
+
+import com.codeborne.selenide.Driver;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.openqa.selenium.OutputType.BYTES;
+
+class ImagesLookLikeTest implements WithAssertions {
+  private final ImagesLookLike condition = new ImagesLookLike(asList(new File("first.png"), new File("second.png")), 0.01);
+
+  @Test
+  void doesNotMatchIfNumberOfElementsDiffers() {
+    assertThat(condition.apply(mock(Driver.class), singletonList(mock(WebElement.class)))).isFalse();
+  }
+
+  @Test
+  void takesScreenshotsByElementsThemselves_withoutDriver() throws IOException {
+    BufferedImage image = new BufferedImage(20, 10, TYPE_INT_RGB);
+    image.setRGB(5, 5, 0xFF0000);
+    File folder = new File("build/reports/tests/ImagesLookLikeTest/" + System.nanoTime());
+    assertThat(folder.mkdirs()).isTrue();
+    File baseline = new File(folder, "baseline.png");
+    ImageIO.write(image, "png", baseline);
+    WebElement same = mock(WebElement.class);
+    when(same.getScreenshotAs(BYTES)).thenReturn(png(image));
+    WebElement different = mock(WebElement.class);
+    when(different.getScreenshotAs(BYTES)).thenReturn(png(new BufferedImage(20, 10, TYPE_INT_RGB)));
+    WebElement broken = mock(WebElement.class);
+    when(broken.getScreenshotAs(BYTES)).thenThrow(new WebDriverException("cannot take screenshot"));
+    ImagesLookLike condition = new ImagesLookLike(singletonList(baseline), 0);
+
+    assertThat(condition.apply(singletonList(same))).isTrue();
+    assertThat(condition.apply(singletonList(different))).isFalse();
+    assertThat(condition.apply(singletonList(broken))).isFalse();
+    assertThat(condition.apply(asList(same, same))).isFalse();
+  }
+
+  private byte[] png(BufferedImage image) throws IOException {
+    ByteArrayOutputStream png = new ByteArrayOutputStream();
+    ImageIO.write(image, "png", png);
+    return png.toByteArray();
+  }
+
+  @Test
+  void needsAtLeastOneBaseline() {
+    assertThatThrownBy(() -> new ImagesLookLike(emptyList(), 0))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("No baseline images given");
+  }
+
+  @Test
+  void hasReadableName() {
+    assertThat(condition).hasToString("Look like [first.png, second.png] with tolerance 0.01");
+  }
+}
@@ -0,0 +1,124 @@
+package com.codeborne.selenide.conditions;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chrome.ChromeDriver;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.openqa.selenium.OutputType.BYTES;
+
+class LookLikeTest implements WithAssertions {
+  private final File folder = new File("build/reports/tests/LookLikeTest/" + System.nanoTime());
+  private final ChromeDriver webDriver = mock(ChromeDriver.class);
+  private final DriverStub driver = new DriverStub(new SelenideConfig().reportsFolder(folder.getPath()),
+    new Browser("chrome", false), webDriver, null);
+  private final WebElement element = mock(WebElement.class);
+  private final BufferedImage page = new BufferedImage(200, 100, TYPE_INT_RGB);
+
+  @BeforeEach
+  void mockBrowser() {
+    for (int y = 0; y < page.getHeight(); y++) {
+      for (int x = 0; x < page.getWidth(); x++) {
+        page.setRGB(x, y, x * 1000 + y);
+      }
+    }
+    when(webDriver.getScreenshotAs(BYTES)).thenAnswer(invocation -> png(page));
+    when(element.getLocation()).thenReturn(new Point(20, 10));
+    when(element.getSize()).thenReturn(new Dimension(50, 40));
+  }
+
+  @Test
+  void matchesIfScreenshotOfElementIsTheSameAsBaseline() throws IOException {
+    File baseline = baseline(page.getSubimage(20, 10, 50, 40));
+
+    assertThat(new LookLike(baseline, 0).apply(driver, element)).isTrue();
+  }
+
+  @Test
+  void allowsGivenPartOfPixelsToDiffer() throws IOException {
+    File baseline = baseline(page.getSubimage(20, 10, 50, 40));
+    for (int x = 20; x < 40; x++) {
+      page.setRGB(x, 10, 0xFFFFFF);
+    }
+
+    assertThat(new LookLike(baseline, 0.01).apply(driver, element)).isTrue();
+    assertThat(new LookLike(baseline, 0.005).apply(driver, element)).isFalse();
+  }
+
+  @Test
+  void doesNotMatchIfSizeDiffers() throws IOException {
+    File baseline = baseline(page.getSubimage(20, 10, 50, 41));
+
+    LookLike condition = new LookLike(baseline, 0.1);
+
+    assertThat(condition.apply(driver, element)).isFalse();
+    assertThat(condition.actualValue(driver, element)).startsWith("size 50x40 instead of 50x41, diff: ");
+  }
+
+  @Test
+  void writesDiffImageOnlyWhenCheckFails() throws IOException {
+    File baseline = baseline(page.getSubimage(20, 10, 50, 40));
+    page.setRGB(21, 11, 0xFFFFFF);
+    LookLike condition = new LookLike(baseline, 0);
+
+    assertThat(condition.apply(driver, element)).isFalse();
+    assertThat(folder.list((dir, name) -> name.endsWith(".diff.png"))).isEmpty();
+
+    String actualValue = condition.actualValue(driver, element);
+
+    assertThat(actualValue).startsWith("1 of 2000 pixels differ (0.05%), diff: ");
+    BufferedImage diff = ImageIO.read(new File(actualValue.substring(actualValue.indexOf("diff: ") + 6)));
+    assertThat(diff.getRGB(1, 1) & 0xFFFFFF).isEqualTo(0xFF0000);
+    assertThat(diff.getRGB(2, 2) & 0xFFFFFF).isNotEqualTo(0xFF0000);
+  }
+
+  @Test
+  void failsIfBaselineDoesNotExist() {
+    LookLike condition = new LookLike(new File(folder, "missing.png"), 0);
+
+    assertThatThrownBy(() -> condition.apply(driver, element))
+      .isInstanceOf(UncheckedIOException.class)
+      .hasMessageStartingWith("Failed to read baseline image ");
+  }
+
+  @Test
+  void toleranceShouldBeBetweenZeroAndOne() {
+    assertThatThrownBy(() -> new LookLike(new File("logo.png"), -0.1))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void hasReadableName() {
+    assertThat(new LookLike(new File("logo.png"), 0)).hasToString("look like 'logo.png'");
+    assertThat(new LookLike(new File("logo.png"), 0.05)).hasToString("look like 'logo.png' with tolerance 0.05");
+  }
+
+  private File baseline(BufferedImage image) throws IOException {
+    File file = new File(folder, "baseline.png");
+    file.getParentFile().mkdirs();
+    ImageIO.write(image, "png", file);
+    return file;
+  }
+
+  private static byte[] png(BufferedImage image) throws IOException {
+    ByteArrayOutputStream png = new ByteArrayOutputStream();
+    ImageIO.write(image, "png", png);
+    return png.toByteArray();
+  }
+}
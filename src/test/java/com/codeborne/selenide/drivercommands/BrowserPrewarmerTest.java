@@ -0,0 +1,184 @@
+package com.codeborne.selenide.drivercommands;
+
+import com.codeborne.selenide.SelenideConfig;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static java.lang.Thread.currentThread;
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BrowserPrewarmerTest implements WithAssertions {
+  private final BrowserHealthChecker browserHealthChecker = mock(BrowserHealthChecker.class);
+  private final BrowserPrewarmer prewarmer = new BrowserPrewarmer(browserHealthChecker);
+  private final SelenideConfig config = new SelenideConfig().browser("chrome").browserPrewarmCount(1);
+  private final List<WebDriver> startedInBackground = new CopyOnWriteArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    when(browserHealthChecker.isBrowserStillOpen(any())).thenReturn(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    prewarmer.shutdown();
+  }
+
+  @Test
+  void startsNextBrowserInBackground_whileTestIsRunning() {
+    CreateDriverCommand.Result first = prewarmer.take(config, null, emptyList(), this::newBrowser);
+    assertThat(prewarmer.warmBrowsers()).isEqualTo(1);
+
+    CreateDriverCommand.Result second = prewarmer.take(config, null, emptyList(), this::newBrowser);
+
+    assertThat(startedInBackground).doesNotContain(first.webDriver).contains(second.webDriver);
+    assertThat(prewarmer.warmBrowsers()).as("the next one").isEqualTo(1);
+  }
+
+  @Test
+  void startsLimitedNumberOfBrowsersInAdvance() {
+    prewarmer.take(config, null, emptyList(), this::newBrowser);
+    prewarmer.take(config.browser("firefox"), null, emptyList(), this::newBrowser);
+
+    assertThat(prewarmer.warmBrowsers()).isEqualTo(1);
+  }
+
+  @Test
+  void reportsFailureToStartBrowser_whenBrowserIsRequested() {
+    prewarmer.take(config, null, emptyList(), () -> {
+      if (isBackgroundThread()) {
+        throw new WebDriverException("chromedriver not found");
+      }
+      return newBrowser();
+    });
+
+    assertThatThrownBy(() -> prewarmer.take(config, null, emptyList(), this::newBrowser))
+      .isInstanceOf(WebDriverException.class)
+      .hasMessageStartingWith("chromedriver not found");
+  }
+
+  @Test
+  void replacesBrowser_closedMeanwhile() {
+    prewarmer.take(config, null, emptyList(), this::newBrowser);
+    when(browserHealthChecker.isBrowserStillOpen(any())).thenReturn(false);
+
+    CreateDriverCommand.Result browser = prewarmer.take(config, null, emptyList(), this::newBrowser);
+
+    assertThat(startedInBackground).doesNotContain(browser.webDriver);
+    verify(startedInBackground.get(0)).quit();
+  }
+
+  @Test
+  void quitsBrowser_notTakenWithinTtl() throws InterruptedException {
+    config.browserPrewarmTtl(10);
+    prewarmer.take(config, null, emptyList(), this::newBrowser);
+
+    while (startedInBackground.isEmpty()) {
+      Thread.sleep(10);
+    }
+    verify(startedInBackground.get(0), timeout(5000)).quit();
+    assertThat(prewarmer.warmBrowsers()).isEqualTo(0);
+  }
+
+  @Test
+  void shutdownWaitsForBrowserBeingStarted_andQuitsIt() throws InterruptedException {
+    CountDownLatch starting = new CountDownLatch(1);
+    prewarmer.take(config, null, emptyList(), () -> {
+      if (isBackgroundThread()) {
+        starting.countDown();
+        sleep(200);
+      }
+      return newBrowser();
+    });
+    assertThat(starting.await(5, SECONDS)).isTrue();
+
+    prewarmer.shutdown();
+
+    assertThat(startedInBackground).hasSize(1);
+    verify(startedInBackground.get(0)).quit();
+  }
+
+  @Test
+  void shutdownDoesNotWaitForBrowserBeingStarted_longerThanShutdownTimeout() throws InterruptedException {
+    config.shutdownTimeout(100);
+    CountDownLatch starting = new CountDownLatch(1);
+    CountDownLatch started = new CountDownLatch(1);
+    prewarmer.take(config, null, emptyList(), () -> {
+      if (isBackgroundThread()) {
+        starting.countDown();
+        await(started);
+      }
+      return newBrowser();
+    });
+    assertThat(starting.await(5, SECONDS)).isTrue();
+
+    long start = System.currentTimeMillis();
+    prewarmer.shutdown();
+    assertThat(System.currentTimeMillis() - start).isLessThan(5000);
+    assertThat(startedInBackground).isEmpty();
+
+    started.countDown();
+    while (startedInBackground.isEmpty()) {
+      Thread.sleep(10);
+    }
+    verify(startedInBackground.get(0), timeout(5000)).quit();
+  }
+
+  @Test
+  void browsersStartedInAdvanceAreClosedInParallelWithOtherBrowsers_whenJvmExits() throws InterruptedException {
+    prewarmer.take(config, null, emptyList(), this::newBrowser);
+    while (startedInBackground.isEmpty()) {
+      Thread.sleep(10);
+    }
+    ShutdownCoordinator coordinator = new ShutdownCoordinator();
+    coordinator.closeOnShutdown(prewarmer::stop);
+
+    coordinator.shutdown();
+
+    verify(startedInBackground.get(0)).quit();
+    assertThat(prewarmer.warmBrowsers()).isEqualTo(0);
+  }
+
+  private static void sleep(long ms) {
+    try {
+      Thread.sleep(ms);
+    }
+    catch (InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(10, SECONDS);
+    }
+    catch (InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private CreateDriverCommand.Result newBrowser() {
+    WebDriver webDriver = mock(WebDriver.class);
+    if (isBackgroundThread()) {
+      startedInBackground.add(webDriver);
+    }
+    return new CreateDriverCommand.Result(webDriver, null);
+  }
+
+  private static boolean isBackgroundThread() {
+    return currentThread().getName().startsWith("selenide-browser-prewarm-");
+  }
+}
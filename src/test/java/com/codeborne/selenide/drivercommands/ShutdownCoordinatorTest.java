@@ -0,0 +1,169 @@
+package com.codeborne.selenide.drivercommands;
+
+import com.codeborne.selenide.SelenideConfig;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ShutdownCoordinatorTest implements WithAssertions {
+  private final ShutdownCoordinator coordinator = new ShutdownCoordinator();
+
+  @Test
+  void closesAllRegisteredDriversInParallel() {
+    CountDownLatch closing = new CountDownLatch(2);
+    LazyDriver driver1 = driver(1000);
+    LazyDriver driver2 = driver(1000);
+    doAnswer(invocation -> awaitOthers(closing)).when(driver1).close();
+    doAnswer(invocation -> awaitOthers(closing)).when(driver2).close();
+    coordinator.register(driver1);
+    coordinator.register(driver2);
+
+    coordinator.shutdown();
+
+    assertThat(closing.getCount()).isZero();
+    verify(driver1, never()).kill();
+    verify(driver2, never()).kill();
+  }
+
+  @Test
+  void killsDriverThatIsNotClosedInTime() {
+    CountDownLatch stuck = new CountDownLatch(1);
+    LazyDriver driver = driver(100);
+    doAnswer(invocation -> stuck.await(10, SECONDS)).when(driver).close();
+    coordinator.register(driver);
+
+    long start = System.currentTimeMillis();
+    coordinator.shutdown();
+
+    assertThat(System.currentTimeMillis() - start).isLessThan(5000);
+    verify(driver).kill();
+    stuck.countDown();
+  }
+
+  @Test
+  void closesBrowsersOfOwnersInParallelWithDrivers() {
+    CountDownLatch closing = new CountDownLatch(3);
+    LazyDriver driver = driver(1000);
+    doAnswer(invocation -> awaitOthers(closing)).when(driver).close();
+    Runnable kill = mock(Runnable.class);
+    coordinator.register(driver);
+    coordinator.closeOnShutdown(() -> asList(
+      new ShutdownCoordinator.Browser("idle 1", 1000, () -> awaitOthers(closing), kill),
+      new ShutdownCoordinator.Browser("idle 2", 1000, () -> awaitOthers(closing), kill)
+    ));
+
+    coordinator.shutdown();
+
+    assertThat(closing.getCount()).isZero();
+    verify(driver, never()).kill();
+    verify(kill, never()).run();
+  }
+
+  @Test
+  void killsBrowserOfOwner_notClosedInTime() {
+    CountDownLatch stuck = new CountDownLatch(2);
+    Runnable kill = mock(Runnable.class);
+    coordinator.closeOnShutdown(() -> singletonList(
+      new ShutdownCoordinator.Browser("idle", 100, () -> awaitOthers(stuck), kill)
+    ));
+
+    coordinator.shutdown();
+
+    verify(kill).run();
+    stuck.countDown();
+  }
+
+  @Test
+  void asksOwnersForBrowsers_beforeClosingDrivers() {
+    AtomicBoolean ownerStopped = new AtomicBoolean();
+    AtomicBoolean ownerStoppedBeforeClose = new AtomicBoolean();
+    LazyDriver driver = driver(1000);
+    doAnswer(invocation -> {
+      ownerStoppedBeforeClose.set(ownerStopped.get());
+      return null;
+    }).when(driver).close();
+    coordinator.register(driver);
+    coordinator.closeOnShutdown(() -> {
+      ownerStopped.set(true);
+      return emptyList();
+    });
+
+    coordinator.shutdown();
+
+    assertThat(ownerStoppedBeforeClose).isTrue();
+  }
+
+  @Test
+  void doesNotCloseUnregisteredDrivers() {
+    LazyDriver driver = driver(1000);
+    coordinator.register(driver);
+    coordinator.unregister(driver);
+
+    coordinator.shutdown();
+
+    verify(driver, never()).close();
+  }
+
+  @Test
+  void closesEveryDriverOnlyOnce() {
+    LazyDriver driver = driver(1000);
+    coordinator.register(driver);
+
+    coordinator.shutdown();
+    coordinator.shutdown();
+
+    verify(driver).close();
+  }
+
+  @Test
+  void runsShutdownTasks() {
+    AtomicBoolean executed = new AtomicBoolean();
+    coordinator.onShutdown("test task", () -> executed.set(true));
+    coordinator.onShutdown("failing task", () -> {
+      throw new IllegalStateException("oops");
+    });
+
+    coordinator.shutdown();
+
+    assertThat(executed).isTrue();
+  }
+
+  @Test
+  void cannotKillDriverWithoutLocalProcess() {
+    WebDriver webDriver = mock(WebDriver.class);
+
+    assertThat(KillDriverCommand.driverService(webDriver)).isNull();
+    assertThat(KillDriverCommand.driverService(new EventFiringWebDriver(webDriver))).isNull();
+  }
+
+  private LazyDriver driver(long shutdownTimeout) {
+    LazyDriver driver = mock(LazyDriver.class);
+    when(driver.config()).thenReturn(new SelenideConfig().shutdownTimeout(shutdownTimeout));
+    return driver;
+  }
+
+  private Object awaitOthers(CountDownLatch closing) {
+    closing.countDown();
+    try {
+      closing.await(5, SECONDS);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return null;
+  }
+}
@@ -0,0 +1,201 @@
+package com.codeborne.selenide.drivercommands;
+
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.proxy.SelenideProxyServer;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.LinkedHashSet;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WebDriverPoolTest implements WithAssertions {
+  private final BrowserHealthChecker browserHealthChecker = mock(BrowserHealthChecker.class);
+  private final WebDriverPool pool = new WebDriverPool(browserHealthChecker);
+  private final SelenideConfig config = new SelenideConfig().browser("chrome").browserPoolSize(2);
+
+  @BeforeEach
+  void setUp() {
+    when(browserHealthChecker.isBrowserStillOpen(any())).thenReturn(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdown();
+  }
+
+  @Test
+  void reusesReleasedBrowser_afterReset() {
+    CreateDriverCommand.Result browser = pool.checkout(config, null, emptyList(), this::newBrowser);
+    pool.release(config, browser);
+
+    assertThat(pool.checkout(config, null, emptyList(), this::newBrowser)).isSameAs(browser);
+    verify(browser.webDriver.manage()).deleteAllCookies();
+    verify(browser.webDriver).get("about:blank");
+    verify(browser.webDriver, never()).quit();
+    assertThat(pool.statistics().created()).isEqualTo(1);
+    assertThat(pool.statistics().reused()).isEqualTo(1);
+  }
+
+  @Test
+  void reusesBrowsersOnlyWithSameSettings() {
+    CreateDriverCommand.Result chrome = pool.checkout(config, null, emptyList(), this::newBrowser);
+    pool.release(config, chrome);
+
+    SelenideConfig firefox = new SelenideConfig().browser("firefox").browserPoolSize(2);
+    assertThat(pool.checkout(firefox, null, emptyList(), this::newBrowser)).isNotSameAs(chrome);
+    assertThat(pool.idleBrowsers()).isEqualTo(1);
+  }
+
+  @Test
+  void resetClosesExtraWindows() {
+    CreateDriverCommand.Result browser = pool.checkout(config, null, emptyList(), this::newBrowser);
+    WebDriver webDriver = browser.webDriver;
+    when(webDriver.getWindowHandles()).thenReturn(new LinkedHashSet<>(asList("main", "popup1", "popup2")));
+
+    pool.release(config, browser);
+
+    InOrder inOrder = inOrder(webDriver, webDriver.switchTo());
+    inOrder.verify(webDriver.switchTo()).window("popup2");
+    inOrder.verify(webDriver).close();
+    inOrder.verify(webDriver.switchTo()).window("popup1");
+    inOrder.verify(webDriver).close();
+    inOrder.verify(webDriver.switchTo()).window("main");
+    inOrder.verify(webDriver).get("about:blank");
+    verify(webDriver.manage(), times(3)).deleteAllCookies();
+  }
+
+  @Test
+  void quitsBrowser_usedByMaxNumberOfTests() {
+    config.browserPoolMaxUses(2);
+    CreateDriverCommand.Result browser = pool.checkout(config, null, emptyList(), this::newBrowser);
+    pool.release(config, browser);
+    pool.release(config, pool.checkout(config, null, emptyList(), this::newBrowser));
+
+    verify(browser.webDriver).quit();
+    assertThat(pool.idleBrowsers()).isEqualTo(0);
+    assertThat(pool.statistics().expired()).isEqualTo(1);
+  }
+
+  @Test
+  void quitsBrowser_olderThanMaxAge() {
+    CreateDriverCommand.Result browser = pool.checkout(config, null, emptyList(), this::newBrowser);
+    pool.release(config, browser);
+    config.browserPoolMaxAge(0);
+
+    assertThat(pool.checkout(config, null, emptyList(), this::newBrowser)).isNotSameAs(browser);
+    verify(browser.webDriver).quit();
+  }
+
+  @Test
+  void replacesIdleBrowser_thatFailedHealthCheck() {
+    CreateDriverCommand.Result browser = pool.checkout(config, null, emptyList(), this::newBrowser);
+    pool.release(config, browser);
+    when(browserHealthChecker.isBrowserStillOpen(browser.webDriver)).thenReturn(false);
+
+    assertThat(pool.checkout(config, null, emptyList(), this::newBrowser)).isNotSameAs(browser);
+    verify(browser.webDriver).quit();
+    assertThat(pool.statistics().unhealthy()).isEqualTo(1);
+  }
+
+  @Test
+  void quitsBrowser_thatFailedToReset() {
+    CreateDriverCommand.Result browser = pool.checkout(config, null, emptyList(), this::newBrowser);
+    doThrow(new WebDriverException("session deleted")).when(browser.webDriver).get("about:blank");
+
+    pool.release(config, browser);
+
+    verify(browser.webDriver).quit();
+    assertThat(pool.idleBrowsers()).isEqualTo(0);
+    assertThat(pool.statistics().resetFailed()).isEqualTo(1);
+  }
+
+  @Test
+  void keepsLimitedNumberOfIdleBrowsers() {
+    CreateDriverCommand.Result browser1 = pool.checkout(config, null, emptyList(), this::newBrowser);
+    CreateDriverCommand.Result browser2 = pool.checkout(config, null, emptyList(), this::newBrowser);
+    CreateDriverCommand.Result browser3 = pool.checkout(config, null, emptyList(), this::newBrowser);
+
+    pool.release(config, browser1);
+    pool.release(config, browser2);
+    pool.release(config, browser3);
+
+    assertThat(pool.idleBrowsers()).isEqualTo(2);
+    verify(browser3.webDriver).quit();
+  }
+
+  @Test
+  void idleBrowsersAreClosedInParallelWithOtherBrowsers_whenJvmExits() {
+    CreateDriverCommand.Result browser1 = pool.checkout(config, null, emptyList(), this::newBrowser);
+    CreateDriverCommand.Result browser2 = pool.checkout(config, null, emptyList(), this::newBrowser);
+    pool.release(config, browser1);
+    pool.release(config, browser2);
+    ShutdownCoordinator coordinator = new ShutdownCoordinator();
+    coordinator.closeOnShutdown(pool::stop);
+
+    coordinator.shutdown();
+
+    verify(browser1.webDriver).quit();
+    verify(browser2.webDriver).quit();
+    assertThat(pool.idleBrowsers()).isEqualTo(0);
+  }
+
+  @Test
+  void browserReleasedWhenJvmExits_isQuitWithoutReset() {
+    CreateDriverCommand.Result browser = pool.checkout(config, null, emptyList(), this::newBrowser);
+    assertThat(pool.stop()).isEmpty();
+
+    pool.release(config, browser);
+
+    verify(browser.webDriver).quit();
+    verify(browser.webDriver, never()).get("about:blank");
+    verify(browser.webDriver, never()).getWindowHandles();
+  }
+
+  @Test
+  void shutdownQuitsIdleBrowsers() {
+    CreateDriverCommand.Result browser = pool.checkout(config, null, emptyList(), this::newBrowser);
+    pool.release(config, browser);
+
+    pool.shutdown();
+
+    verify(browser.webDriver).quit();
+    assertThat(pool.idleBrowsers()).isEqualTo(0);
+  }
+
+  @Test
+  void doesNotPoolBrowsersWithProxy() {
+    SelenideConfig proxyConfig = new SelenideConfig().browser("chrome").browserPoolSize(2).proxyEnabled(true);
+    SelenideProxyServer proxy = mock(SelenideProxyServer.class);
+    CreateDriverCommand.Result browser = pool.checkout(proxyConfig, null, emptyList(),
+      () -> new CreateDriverCommand.Result(mock(WebDriver.class, RETURNS_DEEP_STUBS), proxy));
+
+    pool.release(proxyConfig, browser);
+
+    verify(browser.webDriver).quit();
+    verify(proxy).shutdown();
+    assertThat(pool.idleBrowsers()).isZero();
+    assertThat(pool.checkout(proxyConfig, null, emptyList(), this::newBrowser)).isNotSameAs(browser);
+  }
+
+  private CreateDriverCommand.Result newBrowser() {
+    WebDriver webDriver = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+    when(webDriver.getWindowHandles()).thenReturn(new LinkedHashSet<>(asList("main")));
+    return new CreateDriverCommand.Result(webDriver, null);
+  }
+}
@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 import org.openqa.selenium.WebElement;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 class ElementShouldTest implements WithAssertions {
   @Test
@@ -26,4 +28,16 @@ class ElementShouldTest implements WithAssertions {
     assertThat(elementShould)
       .hasToString(expectedString);
   }
+
+  @Test
+  void describesElementOnlyWhenMessageIsRequested() {
+    Driver driver = new DriverStub();
+    WebElement webElementMock = mock(WebElement.class);
+    ElementShould elementShould = new ElementShould(driver, "#name", "be ", Condition.appear, webElementMock, null);
+    verifyZeroInteractions(webElementMock);
+
+    assertThat(elementShould.getMessage())
+      .isEqualTo("Element should be visible {#name}\nElement: '<null displayed:false></null>'");
+    verify(webElementMock).isDisplayed();
+  }
 }
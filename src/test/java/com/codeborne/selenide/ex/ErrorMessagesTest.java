@@ -4,6 +4,7 @@ import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.DriverStub;
 import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.impl.ArtifactWriter;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,12 +20,13 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import static org.openqa.selenium.OutputType.FILE;
+import static org.openqa.selenium.OutputType.BYTES;
 
 class ErrorMessagesTest implements WithAssertions {
   private final ChromeDriver webDriver = mock(ChromeDriver.class);
   private final SelenideConfig config = new SelenideConfig().reportsFolder("build/reports/tests");
   private final Driver driver = new DriverStub(config, new Browser("chrome", false), webDriver, null);
+  private final byte[] screenshot = {(byte) 0x89, 'P', 'N', 'G'};
 
   @BeforeEach
   void setUp() {
@@ -55,7 +57,7 @@ class ErrorMessagesTest implements WithAssertions {
   @Test
   void convertsScreenshotFileNameToCIUrl() {
     config.reportsUrl("http://ci.mycompany.com/job/666/artifact/");
-    doReturn(new File("src/test/resources/screenshot.png")).when(webDriver).getScreenshotAs(FILE);
+    doReturn(screenshot).when(webDriver).getScreenshotAs(BYTES);
 
     String screenshot = ErrorMessages.screenshot(driver);
     assertThat(screenshot)
@@ -71,7 +73,7 @@ class ErrorMessagesTest implements WithAssertions {
       currentDir = '/' + currentDir.replace('\\', '/');
     }
 
-    doReturn(new File("src/test/resources/screenshot.png")).when(webDriver).getScreenshotAs(FILE);
+    doReturn(screenshot).when(webDriver).getScreenshotAs(BYTES);
 
     String screenshot = ErrorMessages.screenshot(driver);
     assertThat(screenshot)
@@ -93,7 +95,7 @@ class ErrorMessagesTest implements WithAssertions {
     config.savePageSource(true);
     config.reportsUrl("http://ci.mycompany.com/job/666/artifact/");
     doReturn("<html>blah</html>").when(webDriver).getPageSource();
-    doReturn(new File("src/test/resources/screenshot.png")).when(webDriver).getScreenshotAs(FILE);
+    doReturn(screenshot).when(webDriver).getScreenshotAs(BYTES);
 
     String screenshot = ErrorMessages.screenshot(driver);
     assertThat(screenshot)
@@ -101,4 +103,21 @@ class ErrorMessagesTest implements WithAssertions {
       .contains(".png\nPage source: http://ci.mycompany.com/job/666/artifact/build/reports/tests/")
       .endsWith(".html");
   }
+
+  @Test
+  void writesScreenshotInBackground_if_asyncArtifactsAreEnabled() {
+    config.asyncArtifacts(true);
+    config.savePageSource(true);
+    config.reportsUrl(null);
+    doReturn(screenshot).when(webDriver).getScreenshotAs(BYTES);
+
+    String message = ErrorMessages.screenshot(driver);
+    assertThat(message).contains(".png\nPage source: file:");
+
+    assertThat(ArtifactWriter.instance.flush()).isTrue();
+    File screenshotFile = new File(config.reportsFolder(),
+      message.replaceFirst("(?s).*/build/reports/tests/(.*?\\.png).*", "$1"));
+    assertThat(screenshotFile).exists().hasBinaryContent(screenshot);
+    assertThat(new File(screenshotFile.getPath().replace(".png", ".html"))).hasContent("<html></html>");
+  }
 }
@@ -0,0 +1,57 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.SelenideConfig;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+class ArtifactWriterTest implements WithAssertions {
+  private final ArtifactWriter writer = new ArtifactWriter();
+  private final File folder = new File("build/reports/tests/ArtifactWriterTest/" + System.nanoTime());
+
+  @Test
+  void writesFileImmediately_ifAsyncArtifactsAreDisabled() {
+    File file = new File(folder, "sync/page.html");
+
+    writer.write(new SelenideConfig().asyncArtifacts(false), file, "<html></html>".getBytes(UTF_8));
+
+    assertThat(file).hasContent("<html></html>");
+  }
+
+  @Test
+  void flushWaitsUntilAllFilesAreWritten_ifAsyncArtifactsAreEnabled() {
+    SelenideConfig config = new SelenideConfig().asyncArtifacts(true);
+    for (int i = 0; i < 100; i++) {
+      writer.write(config, new File(folder, "async/" + i + ".html"), ("page #" + i).getBytes(UTF_8));
+    }
+
+    assertThat(writer.flush(10_000)).isTrue();
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(new File(folder, "async/" + i + ".html")).hasContent("page #" + i);
+    }
+  }
+
+  @Test
+  void storesIdenticalFilesOnlyOnce_ifDeduplicationIsEnabled() throws IOException {
+    SelenideConfig config = new SelenideConfig().deduplicateArtifacts(true).reportsFolder(folder.getPath());
+
+    writer.write(config, new File(folder, "test1/1.html"), "<html>same</html>".getBytes(UTF_8));
+    writer.write(config, new File(folder, "test1/2.html"), "<html>same</html>".getBytes(UTF_8));
+    writer.write(config, new File(folder, "test2/1.html"), "<html>same</html>".getBytes(UTF_8));
+    writer.write(config, new File(folder, "test2/2.html"), "<html>other</html>".getBytes(UTF_8));
+
+    assertThat(new File(folder, "blobs").list()).hasSize(2);
+    assertThat(new File(folder, "test1/1.html")).hasContent("<html>same</html>");
+    assertThat(new File(folder, "test1/2.html")).hasContent("<html>same</html>");
+    assertThat(new File(folder, "test2/1.html")).hasContent("<html>same</html>");
+    assertThat(new File(folder, "test2/2.html")).hasContent("<html>other</html>");
+    assertThat(Files.isSameFile(new File(folder, "test1/1.html").toPath(), new File(folder, "test2/1.html").toPath()))
+      .as("hard links to the same blob").isTrue();
+  }
+}
@@ -0,0 +1,123 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.conditions.Text;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.List;
+
+import static com.codeborne.selenide.Condition.and;
+import static com.codeborne.selenide.Condition.attribute;
+import static com.codeborne.selenide.Condition.cssClass;
+import static com.codeborne.selenide.Condition.enabled;
+import static com.codeborne.selenide.Condition.exactText;
+import static com.codeborne.selenide.Condition.hidden;
+import static com.codeborne.selenide.Condition.or;
+import static com.codeborne.selenide.Condition.text;
+import static com.codeborne.selenide.Condition.value;
+import static com.codeborne.selenide.Condition.visible;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+class BrowserFilterTest implements WithAssertions {
+  private final RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+  private final Driver driver = new DriverStub(new SelenideConfig(), new Browser("chrome", false), webDriver, null);
+  private final WebElement element1 = mock(WebElement.class);
+  private final WebElement element2 = mock(WebElement.class);
+  private final List<WebElement> elements = asList(element1, element2);
+  private final WebElementsCollection collection = new WebElementsCollectionWrapper(driver, elements);
+
+  private final Condition custom = new Condition("custom") {
+    @Override
+    public boolean apply(Driver driver, WebElement element) {
+      return element.isSelected();
+    }
+  };
+
+  @Test
+  void builtInConditionsAreCompiledToJavascript() {
+    assertThat(visible.toJavascript()).isEqualTo("isDisplayed(e)");
+    assertThat(Condition.not(visible).toJavascript()).isEqualTo("!(isDisplayed(e))");
+    assertThat(and("active", cssClass("active"), enabled).toJavascript())
+      .isEqualTo("((attr(e, 'class').split(' ').indexOf('active') >= 0) && (enabled(e)))");
+    assertThat(or("error", exactText("Error"), attribute("data-error")).toJavascript())
+      .isEqualTo("((equals(text(e), 'Error')) || (getAttribute(e, 'data-error') != null))");
+    assertThat(Condition.be(hidden).because("it's closed").toJavascript()).isEqualTo("!isDisplayed(e)");
+  }
+
+  @Test
+  void customConditionsAreNotCompiled() {
+    assertThat(custom.toJavascript()).isNull();
+    assertThat(Condition.not(custom).toJavascript()).isNull();
+    assertThat(and("all", visible, custom).toJavascript()).isNull();
+    assertThat(new Text("x") {}.toJavascript()).isNull();
+  }
+
+  @Test
+  void escapesStringLiterals() {
+    assertThat(BrowserFilter.literal("It's \\ \"quoted\"\nline")).isEqualTo("'It\\'s \\\\ \"quoted\"\\nline'");
+    assertThat(value("a'); alert('b").toJavascript()).isEqualTo("contains(attr(e, 'value'), 'a\\'); alert(\\'b')");
+  }
+
+  @Test
+  void wholeChainOfFiltersIsCheckedBySingleScript() {
+    when(webDriver.executeScript(anyString(), any(), any())).thenReturn(singletonList(element2));
+    FilteringCollection filtered = new FilteringCollection(
+      new FilteringCollection(collection, visible), Condition.not(text("X")));
+
+    assertThat(filtered.getElements()).containsExactly(element2);
+
+    verify(webDriver).executeScript(
+      argThat(script -> script.contains("(isDisplayed(e)) && (!(contains(selectedText(e), 'X')))")),
+      eq(elements), eq(false));
+    verifyZeroInteractions(element1, element2);
+  }
+
+  @Test
+  void findsFirstMatchingElementBySingleScript() {
+    when(webDriver.executeScript(anyString(), any(), any())).thenReturn(singletonList(element2));
+    CollectionElementByCondition element = new CollectionElementByCondition(
+      new FilteringCollection(collection, visible), exactText("X"));
+
+    assertThat(element.getWebElement()).isSameAs(element2);
+
+    verify(webDriver, times(1)).executeScript(anyString(), eq(elements), eq(true));
+    verifyZeroInteractions(element1, element2);
+  }
+
+  @Test
+  void customConditionsAreCheckedOneByOne() {
+    when(element2.isSelected()).thenReturn(true);
+    when(webDriver.executeScript(anyString(), any(), any())).thenReturn(elements);
+
+    FilteringCollection filtered = new FilteringCollection(new FilteringCollection(collection, visible), custom);
+
+    assertThat(filtered.getElements()).containsExactly(element2);
+    verify(webDriver).executeScript(anyString(), eq(elements), eq(false));
+  }
+
+  @Test
+  void fallsBackToCheckingElementsOneByOneIfScriptFails() {
+    when(element1.isDisplayed()).thenReturn(true);
+    when(webDriver.executeScript(anyString(), any(), any())).thenThrow(new StaleElementReferenceException("gone"));
+
+    assertThat(new FilteringCollection(collection, visible).getElements()).containsExactly(element1);
+  }
+}
@@ -4,6 +4,7 @@ import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.InvalidSelectorException;
 import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriverException;
 
 class CleanupTest implements WithAssertions {
@@ -69,4 +70,13 @@ class CleanupTest implements WithAssertions {
     assertThat(Cleanup.of.isInvalidSelectorError(staleElementExceptionInPhantomJs))
       .isFalse();
   }
+
+  @Test
+  void detectsStaleElementError() {
+    assertThat(Cleanup.of.isStaleElementError(null)).isFalse();
+    assertThat(Cleanup.of.isStaleElementError(new NoSuchElementException("no"))).isFalse();
+    assertThat(Cleanup.of.isStaleElementError(new StaleElementReferenceException("stale"))).isTrue();
+    assertThat(Cleanup.of.isStaleElementError(new AssertionError("failed", new StaleElementReferenceException("stale"))))
+      .isTrue();
+  }
 }
@@ -40,6 +40,7 @@ class CollectionElementByConditionTest implements WithAssertions {
 
     List<WebElement> listOfMockedElements = asList(mockedWebElement1, mockedWebElement2);
     when(mockedWebElementCollection.getElements()).thenReturn(listOfMockedElements);
+    when(mockedWebElementCollection.driver()).thenReturn(driver);
     when(mockedWebElement2.isDisplayed()).thenReturn(true);
     CollectionElementByCondition collectionElement = new CollectionElementByCondition(mockedWebElementCollection, Condition.visible);
 
@@ -1,17 +1,33 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.ex.ElementShould;
+import com.google.common.collect.ImmutableMap;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
 import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.List;
+import java.util.Map;
 
 import static com.codeborne.selenide.Condition.visible;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class DescribeTest implements WithAssertions {
@@ -40,4 +56,51 @@ class DescribeTest implements WithAssertions {
     assertThat(Describe.shortly(driver, selenideElement))
       .isEqualTo("StaleElementReferenceException: disappeared");
   }
+
+  @Test
+  void describesAllElementsWithSingleScript() {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    Driver driver = new DriverStub(new SelenideConfig().describeMaxTextLength(50), new Browser("chrome", false), webDriver, null);
+    WebElement div = mock(WebElement.class);
+    WebElement input = mock(WebElement.class);
+    when(webDriver.executeScript(anyString(), any(), any(), any())).thenReturn(asList(
+      description("div", ImmutableMap.of("id", "main", "class", "big"), false, true, "Hello"),
+      description("input", ImmutableMap.of("name", "agree", "type", "checkbox"), true, false, "")
+    ));
+
+    List<String> descriptions = Describe.describe(driver, asList(div, input));
+
+    assertThat(descriptions).containsExactly(
+      "<div class=\"big\" id=\"main\">Hello</div>",
+      "<input name=\"agree\" type=\"checkbox\" selected:true displayed:false></input>"
+    );
+    verify(webDriver, times(1)).executeScript(anyString(), eq(asList(div, input)), eq(true), eq(50));
+  }
+
+  @Test
+  void describesElementStepByStep_ifBrowserCannotDescribeItAtOnce() {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    Driver driver = new DriverStub(new SelenideConfig(), new Browser("chrome", false), webDriver, null);
+    WebElement element = mock(WebElement.class);
+    when(webDriver.executeScript(anyString(), any(), any(), any())).thenThrow(new WebDriverException("no javascript"));
+    when(webDriver.executeScript(anyString(), any(WebElement.class))).thenReturn(emptyMap());
+    when(element.getTagName()).thenReturn("h1");
+    when(element.getText()).thenReturn("Hello");
+    when(element.isDisplayed()).thenReturn(true);
+
+    assertThat(Describe.describe(driver, element)).isEqualTo("<h1>Hello</h1>");
+  }
+
+  @Test
+  void truncatesLongTexts() {
+    assertThat(Describe.truncate("Hello world", 5)).isEqualTo("Hello...");
+    assertThat(Describe.truncate("Hello", 5)).isEqualTo("Hello");
+    assertThat(Describe.truncate("Hello world", 0)).isEqualTo("Hello world");
+    assertThat(Describe.truncate(null, 5)).isNull();
+  }
+
+  private static Map<String, Object> description(String tag, Map<String, Object> attributes,
+                                                 boolean selected, boolean displayed, String text) {
+    return ImmutableMap.of("tag", tag, "attributes", attributes, "selected", selected, "displayed", displayed, "text", text);
+  }
 }
@@ -1,17 +1,44 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
 import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.logevents.SelenideLogger;
 import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ElementFinderTest implements WithAssertions {
   private Driver driver = mock(Driver.class);
 
+  private final SelenideConfig config = new SelenideConfig().cacheElements(true);
+  private final WebDriver webDriver = mock(WebDriver.class);
+  private final Driver cachingDriver = new DriverStub(config, new Browser("chrome", false), webDriver, null);
+  private final WebElement form = mock(WebElement.class);
+  private final WebElement input = mock(WebElement.class);
+
+  @AfterEach
+  void tearDown() {
+    SelenideLogger.removeListener("test");
+  }
+
   @Test
   void testToStringForFinderByCssSelectors() {
     SelenideElement parent = mock(SelenideElement.class);
@@ -43,4 +70,96 @@ class ElementFinderTest implements WithAssertions {
     assertThat(new ElementFinder(driver, parent, By.xpath("//*[@id='app']"), 3))
       .hasToString("{By.xpath: //*[@id='app'][3]}");
   }
+
+  @Test
+  void cachesFoundElementIfEnabled() {
+    when(webDriver.findElement(By.id("app"))).thenReturn(form);
+    ElementFinder finder = new ElementFinder(cachingDriver, null, By.id("app"), 0);
+
+    assertThat(finder.getWebElement()).isSameAs(form);
+    assertThat(finder.getWebElement()).isSameAs(form);
+    verify(webDriver, times(1)).findElement(By.id("app"));
+  }
+
+  @Test
+  void searchesElementEveryTimeIfCacheIsDisabled() {
+    config.cacheElements(false);
+    when(webDriver.findElement(By.id("app"))).thenReturn(form);
+    ElementFinder finder = new ElementFinder(cachingDriver, null, By.id("app"), 0);
+
+    finder.getWebElement();
+    finder.getWebElement();
+    verify(webDriver, times(2)).findElement(By.id("app"));
+  }
+
+  @Test
+  void searchesElementAgainAfterFailure() {
+    when(webDriver.findElement(By.id("app"))).thenReturn(form);
+    ElementFinder finder = new ElementFinder(cachingDriver, null, By.id("app"), 0);
+
+    finder.getWebElement();
+    finder.onFailure(new StaleElementReferenceException("stale"));
+    finder.getWebElement();
+    verify(webDriver, times(2)).findElement(By.id("app"));
+  }
+
+  @Test
+  void searchesElementAgainAfterCacheReset() {
+    when(webDriver.findElement(By.id("app"))).thenReturn(form);
+    ElementFinder finder = new ElementFinder(cachingDriver, null, By.id("app"), 0);
+
+    finder.getWebElement();
+    ElementCache.instance.reset(config, webDriver, "open");
+    finder.getWebElement();
+    verify(webDriver, times(2)).findElement(By.id("app"));
+  }
+
+  @Test
+  void nestedElementsDoNotSearchParentAgain() {
+    when(webDriver.findElement(By.id("form"))).thenReturn(form);
+    when(form.findElement(By.name("login"))).thenReturn(input);
+    SelenideElement parent = ElementFinder.wrap(cachingDriver, null, By.id("form"), 0);
+    ElementFinder finder = new ElementFinder(cachingDriver, parent, By.name("login"), 0);
+
+    assertThat(finder.getWebElement()).isSameAs(input);
+    assertThat(finder.getWebElement()).isSameAs(input);
+    verify(webDriver, times(1)).findElement(By.id("form"));
+    verify(form, times(1)).findElement(By.name("login"));
+
+    finder.onFailure(new StaleElementReferenceException("form is stale"));
+    finder.getWebElement();
+    verify(webDriver, times(2)).findElement(By.id("form"));
+  }
+
+  @Test
+  void reportsCacheHitsAndMissesWhenCacheIsReset() {
+    List<String> events = new ArrayList<>();
+    SelenideLogger.addListener("test", event -> events.add(event.getElement() + " " + event.getSubject()));
+    when(webDriver.findElement(By.id("app"))).thenReturn(form);
+    ElementFinder finder = new ElementFinder(cachingDriver, null, By.id("app"), 0);
+
+    finder.getWebElement();
+    finder.getWebElement();
+    finder.getWebElement();
+    ElementCache.instance.reset(config, webDriver, "open");
+    ElementCache.instance.reset(config, webDriver, "refresh");
+
+    assertThat(events).containsExactly("element cache reset on open (hits: 2, misses: 1)");
+  }
+
+  @Test
+  void countsCacheHitsFromParallelThreads() throws InterruptedException {
+    List<String> events = new ArrayList<>();
+    SelenideLogger.addListener("test", event -> events.add(event.getSubject()));
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    for (int i = 0; i < 4000; i++) {
+      executor.submit(() -> ElementCache.instance.hit(webDriver));
+    }
+    executor.shutdown();
+    assertThat(executor.awaitTermination(10, SECONDS)).isTrue();
+
+    ElementCache.instance.reset(config, webDriver, "open");
+
+    assertThat(events).containsExactly("reset on open (hits: 4000, misses: 0)");
+  }
 }
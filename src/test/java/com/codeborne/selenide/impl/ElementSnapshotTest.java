@@ -0,0 +1,147 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.ex.ElementShould;
+import com.google.common.collect.ImmutableMap;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.codeborne.selenide.Condition.attribute;
+import static com.codeborne.selenide.Condition.cssClass;
+import static com.codeborne.selenide.Condition.cssValue;
+import static com.codeborne.selenide.Condition.enabled;
+import static com.codeborne.selenide.Condition.exactText;
+import static com.codeborne.selenide.Condition.focused;
+import static com.codeborne.selenide.Condition.text;
+import static com.codeborne.selenide.Condition.visible;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+class ElementSnapshotTest implements WithAssertions {
+  private final RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+  private final WebElement element = mock(WebElement.class);
+  private final SelenideConfig config = new SelenideConfig().conditionSnapshots(true);
+  private final Driver driver = new DriverStub(config, new Browser("chrome", false), webDriver, null);
+
+  @BeforeEach
+  void setUp() {
+    Map<String, Object> state = new HashMap<>();
+    state.put("tagName", "button");
+    state.put("text", "Hello world");
+    state.put("displayed", true);
+    state.put("enabled", true);
+    state.put("selected", false);
+    state.put("rect", asList(10L, 20L, 100.5, 30L));
+    state.put("attributes", ImmutableMap.of("class", "btn primary", "id", "submit"));
+    when(webDriver.executeScript(contains("displayed: displayed"), any())).thenReturn(state);
+  }
+
+  @Test
+  void builtInConditionsAreCheckedAgainstSnapshot() {
+    List<Condition> conditions = asList(visible, enabled, text("hello"), exactText("Hello world"),
+      cssClass("primary"), attribute("id", "submit"), Condition.not(Condition.hidden));
+
+    WebElement snapshot = ElementSnapshot.of(driver, element, conditions);
+
+    for (Condition condition : conditions) {
+      assertThat(condition.apply(driver, snapshot)).as(condition.toString()).isTrue();
+    }
+    verify(webDriver).executeScript(anyString(), eq(element));
+    verifyZeroInteractions(element);
+  }
+
+  @Test
+  void cssValuesAreTheSameAsWithoutSnapshot() {
+    when(element.getCssValue("color")).thenReturn("rgba(0, 0, 0, 1)");
+    Condition color = cssValue("color", "rgba(0, 0, 0, 1)");
+
+    WebElement snapshot = ElementSnapshot.of(driver, element, asList(visible, color));
+
+    assertThat(snapshot).isNotSameAs(element);
+    assertThat(snapshot.getCssValue("color")).isEqualTo(element.getCssValue("color"));
+    assertThat(color.apply(driver, snapshot)).isEqualTo(color.apply(driver, element)).isTrue();
+    assertThat(color.canCheckSnapshot()).isFalse();
+  }
+
+  @Test
+  void snapshotHasElementGeometry() {
+    WebElement snapshot = ElementSnapshot.of(driver, element, singletonList(visible));
+
+    assertThat(snapshot.getRect().getX()).isEqualTo(10);
+    assertThat(snapshot.getRect().getY()).isEqualTo(20);
+    assertThat(snapshot.getSize().getWidth()).isEqualTo(100);
+    assertThat(snapshot.getSize().getHeight()).isEqualTo(30);
+  }
+
+  @Test
+  void attributesMissingInSnapshotAreReadFromLiveElement() {
+    when(element.getAttribute("readonly")).thenReturn("true");
+    WebElement snapshot = ElementSnapshot.of(driver, element, singletonList(visible));
+
+    assertThat(snapshot.getAttribute("readonly")).isEqualTo("true");
+    assertThat(snapshot.getAttribute("ID")).isEqualTo("submit");
+    verify(element).getAttribute("readonly");
+  }
+
+  @Test
+  void customConditionsAreCheckedAgainstLiveElement() {
+    Condition custom = new Condition("custom") {
+      @Override
+      public boolean apply(Driver driver, WebElement element) {
+        return element.isDisplayed();
+      }
+    };
+
+    assertThat(ElementSnapshot.of(driver, element, singletonList(custom))).isSameAs(element);
+    assertThat(ElementSnapshot.of(driver, element, singletonList(focused))).isSameAs(element);
+    assertThat(ElementSnapshot.of(driver, element, singletonList(Condition.not(custom)))).isSameAs(element);
+    verifyZeroInteractions(webDriver);
+  }
+
+  @Test
+  void snapshotsCanBeDisabled() {
+    config.conditionSnapshots(false);
+    assertThat(ElementSnapshot.of(driver, element, singletonList(visible))).isSameAs(element);
+    verifyZeroInteractions(webDriver);
+  }
+
+  @Test
+  void allConditionsOfShouldCommandAreCheckedWithOneSnapshot() {
+    WebElementSource source = new WebElementWrapper(driver, element);
+
+    source.checkConditions("be ", null, asList(visible, enabled, text("hello"), cssClass("btn")), false);
+
+    verify(webDriver, times(1)).executeScript(anyString(), any());
+    verifyZeroInteractions(element);
+  }
+
+  @Test
+  void reportsLiveElementWhenConditionFailsOnSnapshot() {
+    when(element.getTagName()).thenReturn("button");
+    WebElementSource source = new WebElementWrapper(driver, element);
+
+    assertThatThrownBy(() -> source.checkConditions("have ", null, asList(visible, text("goodbye")), false))
+      .isInstanceOf(ElementShould.class)
+      .hasMessageStartingWith("Element should have text 'goodbye'");
+  }
+}
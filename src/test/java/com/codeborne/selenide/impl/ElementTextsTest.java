@@ -0,0 +1,44 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+class ElementTextsTest implements WithAssertions {
+  private final RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+  private final Driver driver = new DriverStub(new SelenideConfig(), new Browser("chrome", false), webDriver, null);
+  private final List<WebElement> elements = asList(mock(WebElement.class), mock(WebElement.class));
+
+  @Test
+  void retrievesTextsOfAllElementsWithOneScript() {
+    when(webDriver.executeScript(anyString(), any(), any())).thenReturn(asList("one", ""));
+
+    assertThat(new ElementTexts().texts(driver, elements)).containsExactly("one", "");
+
+    verify(webDriver).executeScript(anyString(), eq(elements), eq(false));
+  }
+
+  @Test
+  void doesNotCallBrowserForEmptyCollection() {
+    assertThat(new ElementTexts().texts(driver, emptyList())).isEmpty();
+
+    verifyZeroInteractions(webDriver);
+  }
+}
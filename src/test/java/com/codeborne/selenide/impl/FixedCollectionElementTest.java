@@ -0,0 +1,61 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideElement;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import static java.util.Arrays.asList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FixedCollectionElementTest implements WithAssertions {
+  private final WebElementsCollection collection = mock(WebElementsCollection.class);
+  private final WebElement fetched = mock(WebElement.class);
+  private final WebElement reloaded = mock(WebElement.class);
+
+  @BeforeEach
+  void setUp() {
+    when(collection.driver()).thenReturn(new DriverStub(new SelenideConfig().timeout(1000).pollingInterval(1), null, null, null));
+    when(collection.description()).thenReturn("$$(.row)");
+    when(fetched.getText()).thenReturn("fetched");
+    when(reloaded.getText()).thenReturn("reloaded");
+    when(fetched.isDisplayed()).thenReturn(true);
+    when(reloaded.isDisplayed()).thenReturn(true);
+  }
+
+  @Test
+  void usesAlreadyFoundElement() {
+    SelenideElement element = FixedCollectionElement.wrap(collection, fetched, 1);
+
+    assertThat(element.getText()).isEqualTo("fetched");
+    assertThat(element.getText()).isEqualTo("fetched");
+    verify(collection, never()).getElements();
+  }
+
+  @Test
+  void searchesElementByIndexAfterItHasBecomeStale() {
+    doThrow(new StaleElementReferenceException("element is not attached to the page document")).when(fetched).click();
+    when(collection.getElements()).thenReturn(asList(mock(WebElement.class), reloaded));
+    SelenideElement element = FixedCollectionElement.wrap(collection, fetched, 1);
+
+    element.click();
+
+    verify(reloaded).click();
+    assertThat(element.getText()).isEqualTo("reloaded");
+    verify(collection, times(1)).getElements();
+  }
+
+  @Test
+  void searchCriteriaContainsIndex() {
+    assertThat(new FixedCollectionElement(collection, fetched, 2).getSearchCriteria()).isEqualTo("$$(.row)[2]");
+  }
+}
@@ -0,0 +1,110 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import com.google.common.collect.ImmutableMap;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.chrome.ChromeDriver;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.openqa.selenium.OutputType.BYTES;
+
+class FullPageScreenshotTest implements WithAssertions {
+  private static final int VIEWPORT_WIDTH = 100;
+  private static final int VIEWPORT_HEIGHT = 50;
+  private static final int PAGE_HEIGHT = 120;
+  private static final int PIXEL_RATIO = 2;
+
+  private final ChromeDriver webDriver = mock(ChromeDriver.class);
+  private final SelenideConfig config = new SelenideConfig()
+    .reportsFolder("build/reports/tests/FullPageScreenshotTest/" + System.nanoTime());
+  private final DriverStub driver = new DriverStub(config, new Browser("chrome", false), webDriver, null);
+  private final ScreenShotLaboratory screenshots = new ScreenShotLaboratory();
+  private final BufferedImage page = page();
+  private final List<String> scripts = new ArrayList<>();
+  private int scrollY;
+
+  @BeforeEach
+  void mockBrowser() {
+    doAnswer(invocation -> {
+      String script = invocation.getArgument(0);
+      scripts.add(script);
+      if (script.contains("viewportWidth")) {
+        return ImmutableMap.of("viewportWidth", VIEWPORT_WIDTH, "viewportHeight", VIEWPORT_HEIGHT,
+          "pageHeight", PAGE_HEIGHT, "scrollX", 0L, "scrollY", 0L);
+      }
+      if (script.startsWith("window.scrollTo(0, arguments[0])")) {
+        scrollY = Math.min(((Number) invocation.getArgument(1)).intValue(), PAGE_HEIGHT - VIEWPORT_HEIGHT);
+        return (long) scrollY;
+      }
+      return null;
+    }).when(webDriver).executeScript(anyString(), any());
+
+    doAnswer(invocation -> png(page.getSubimage(0, scrollY * PIXEL_RATIO,
+      VIEWPORT_WIDTH * PIXEL_RATIO, VIEWPORT_HEIGHT * PIXEL_RATIO)))
+      .when(webDriver).getScreenshotAs(BYTES);
+  }
+
+  @Test
+  void stitchesScreenshotsOfViewportIntoScreenshotOfWholePage() throws IOException {
+    String screenshot = screenshots.takeFullPageScreenshot(driver, "full-page");
+
+    assertThat(screenshot).endsWith("full-page.png");
+    BufferedImage image = ImageIO.read(new File(screenshot));
+    assertThat(image.getWidth()).isEqualTo(VIEWPORT_WIDTH * PIXEL_RATIO);
+    assertThat(image.getHeight()).isEqualTo(PAGE_HEIGHT * PIXEL_RATIO);
+    for (int y = 0; y < image.getHeight(); y++) {
+      assertThat(image.getRGB(7, y) & 0xFFFFFF).as("row " + y).isEqualTo(page.getRGB(7, y) & 0xFFFFFF);
+    }
+  }
+
+  @Test
+  void hidesFixedElementsAfterFirstScreenshotOfViewport_andRestoresPageAfterwards() {
+    screenshots.takeFullPageScreenshot(driver, "full-page");
+
+    assertThat(scripts).hasSize(6);
+    assertThat(scripts.get(0)).contains("viewportWidth");
+    assertThat(scripts.get(1)).startsWith("window.scrollTo(0, arguments[0])");
+    assertThat(scripts.get(2)).startsWith("window.scrollTo(0, arguments[0])");
+    assertThat(scripts.get(3)).contains("'fixed'").contains("'sticky'");
+    assertThat(scripts.get(4)).startsWith("window.scrollTo(0, arguments[0])");
+    assertThat(scripts.get(5)).contains("window.scrollTo(arguments[0], arguments[1])");
+  }
+
+  private static BufferedImage page() {
+    BufferedImage page = new BufferedImage(VIEWPORT_WIDTH * PIXEL_RATIO, PAGE_HEIGHT * PIXEL_RATIO, TYPE_INT_RGB);
+    for (int y = 0; y < page.getHeight(); y++) {
+      for (int x = 0; x < page.getWidth(); x++) {
+        page.setRGB(x, y, y << 8 | x);
+      }
+    }
+    return page;
+  }
+
+  private static byte[] png(BufferedImage image) {
+    try {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      ImageIO.write(image, "png", out);
+      return out.toByteArray();
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
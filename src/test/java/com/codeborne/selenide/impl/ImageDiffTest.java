@@ -0,0 +1,96 @@
+package com.codeborne.selenide.impl;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.awt.image.BufferedImage.TYPE_3BYTE_BGR;
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB;
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+
+class ImageDiffTest implements WithAssertions {
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+  private final ImageDiff imageDiff = new ImageDiff(pool);
+
+  @AfterEach
+  void shutdownPool() {
+    pool.shutdown();
+  }
+
+  @Test
+  void sameImagesMatch() {
+    assertThat(imageDiff.matches(image(200, 300, TYPE_INT_RGB), image(200, 300, TYPE_3BYTE_BGR), 0)).isTrue();
+    assertThat(imageDiff.countMismatches(image(200, 300, TYPE_INT_RGB), image(200, 300, TYPE_INT_RGB), 0)).isEqualTo(0);
+  }
+
+  @Test
+  void ignoresAlphaChannel() {
+    BufferedImage transparent = image(10, 10, TYPE_INT_ARGB);
+    transparent.setRGB(5, 5, transparent.getRGB(5, 5) & 0x00FFFFFF);
+
+    assertThat(imageDiff.matches(image(10, 10, TYPE_INT_RGB), transparent, 0)).isTrue();
+  }
+
+  @Test
+  void countsDifferentPixels_inAllBands() {
+    BufferedImage actual = image(100, 500, TYPE_INT_RGB);
+    for (int y = 0; y < 500; y += 50) {
+      actual.setRGB(y % 100, y, 0x123456);
+    }
+
+    assertThat(imageDiff.countMismatches(actual, image(100, 500, TYPE_INT_RGB), Long.MAX_VALUE)).isEqualTo(10);
+    assertThat(imageDiff.matches(actual, image(100, 500, TYPE_INT_RGB), 10 / 50_000.0)).isTrue();
+    assertThat(imageDiff.matches(actual, image(100, 500, TYPE_INT_RGB), 9 / 50_000.0)).isFalse();
+  }
+
+  @Test
+  void stopsComparison_asSoonAsTooManyPixelsDiffer() {
+    BufferedImage actual = new BufferedImage(100, 10 * ImageDiff.BAND_HEIGHT, TYPE_INT_RGB);
+    BufferedImage expected = image(100, 10 * ImageDiff.BAND_HEIGHT, TYPE_INT_RGB);
+
+    long mismatches = imageDiff.countMismatches(actual, expected, 5);
+
+    assertThat(mismatches).isGreaterThan(5).isLessThan(100L * 10 * ImageDiff.BAND_HEIGHT);
+  }
+
+  @Test
+  void imagesOfDifferentSizeDoNotMatch() {
+    assertThat(imageDiff.matches(image(10, 20, TYPE_INT_RGB), image(20, 10, TYPE_INT_RGB), 1.0)).isFalse();
+    assertThatThrownBy(() -> imageDiff.countMismatches(image(10, 20, TYPE_INT_RGB), image(20, 10, TYPE_INT_RGB), 0))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Cannot compare image 10x20 with image 20x10");
+  }
+
+  @Test
+  void toleranceShouldBeBetweenZeroAndOne() {
+    assertThatThrownBy(() -> imageDiff.matches(image(10, 10, TYPE_INT_RGB), image(10, 10, TYPE_INT_RGB), 1.5))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Tolerance should be between 0.0 and 1.0, but was: 1.5");
+  }
+
+  @Test
+  void diffImageMarksDifferentPixelsRed() {
+    BufferedImage actual = image(30, 20, TYPE_INT_RGB);
+    actual.setRGB(3, 4, 0x000000);
+
+    BufferedImage diff = imageDiff.diffImage(actual, image(30, 25, TYPE_INT_RGB));
+
+    assertThat(ImageDiff.size(diff)).isEqualTo("30x25");
+    assertThat(diff.getRGB(3, 4) & 0xFFFFFF).isEqualTo(0xFF0000);
+    assertThat(diff.getRGB(3, 22) & 0xFFFFFF).as("missing in actual image").isEqualTo(0xFF0000);
+    assertThat(diff.getRGB(4, 4) & 0xFFFFFF).isNotEqualTo(0xFF0000);
+  }
+
+  private static BufferedImage image(int width, int height, int type) {
+    BufferedImage image = new BufferedImage(width, height, type);
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        image.setRGB(x, y, 0xFF000000 | (x * 7 + y * 13) & 0xFFFFFF);
+      }
+    }
+    return image;
+  }
+}
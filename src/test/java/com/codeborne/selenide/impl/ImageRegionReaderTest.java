@@ -0,0 +1,71 @@
+package com.codeborne.selenide.impl;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.awt.image.RasterFormatException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+
+class ImageRegionReaderTest implements WithAssertions {
+  @Test
+  void readsSizeOfImage() throws IOException {
+    try (ImageRegionReader reader = new ImageRegionReader(png(gradient(300, 200)))) {
+      assertThat(reader.width()).isEqualTo(300);
+      assertThat(reader.height()).isEqualTo(200);
+    }
+  }
+
+  @Test
+  void readsOnlyGivenRegionOfImage() throws IOException {
+    BufferedImage image = gradient(300, 200);
+
+    try (ImageRegionReader reader = new ImageRegionReader(png(image))) {
+      BufferedImage region = reader.read(100, 50, 20, 10);
+
+      assertThat(region.getWidth()).isEqualTo(20);
+      assertThat(region.getHeight()).isEqualTo(10);
+      for (int x = 0; x < 20; x++) {
+        for (int y = 0; y < 10; y++) {
+          assertThat(region.getRGB(x, y)).isEqualTo(image.getRGB(100 + x, 50 + y));
+        }
+      }
+    }
+  }
+
+  @Test
+  void regionMustBeInsideOfImage() throws IOException {
+    try (ImageRegionReader reader = new ImageRegionReader(png(gradient(300, 200)))) {
+      assertThatThrownBy(() -> reader.read(290, 50, 20, 10)).isInstanceOf(RasterFormatException.class);
+      assertThatThrownBy(() -> reader.read(-1, 50, 20, 10)).isInstanceOf(RasterFormatException.class);
+      assertThatThrownBy(() -> reader.read(10, 50, 0, 10)).isInstanceOf(RasterFormatException.class);
+    }
+  }
+
+  @Test
+  void failsOnUnknownImageFormat() {
+    assertThatThrownBy(() -> new ImageRegionReader(new byte[]{1, 2, 3}))
+      .isInstanceOf(IOException.class)
+      .hasMessage("Unknown image format");
+  }
+
+  private static BufferedImage gradient(int width, int height) {
+    BufferedImage image = new BufferedImage(width, height, TYPE_INT_RGB);
+    for (int x = 0; x < width; x++) {
+      for (int y = 0; y < height; y++) {
+        image.setRGB(x, y, (x % 256) << 16 | (y % 256) << 8 | (x + y) % 256);
+      }
+    }
+    return image;
+  }
+
+  private static byte[] png(BufferedImage image) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ImageIO.write(image, "png", out);
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,162 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.ElementsCollection;
+import com.codeborne.selenide.SelectorMode;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideElement;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.codeborne.selenide.Selectors.byText;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LocatorChainTest implements WithAssertions {
+  private final RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+  private final SelenideConfig config = new SelenideConfig();
+  private final Driver driver = new DriverStub(config, new Browser("chrome", false), webDriver, null);
+  private final WebElement found = mock(WebElement.class);
+
+  @Test
+  void resolvesWholeChainBySingleScript() {
+    when(webDriver.executeScript(anyString(), any(), any(), any(), any())).thenReturn(result("elements", singletonList(found)));
+    SelenideElement grid = ElementFinder.wrap(driver, By.id("grid"));
+    SelenideElement body = ElementFinder.wrap(driver, grid, By.cssSelector(".body"), 0);
+    SelenideElement row = new ElementsCollection(new BySelectorCollection(driver, body, By.tagName("tr"))).get(5);
+
+    assertThat(new ElementFinder(driver, row, By.xpath(".//td[@class='name']"), 0).getWebElement()).isSameAs(found);
+
+    verify(webDriver, times(1)).executeScript(anyString(), isNull(), eq(asList(
+      asList("css", "*[id=\"grid\"]", 0),
+      asList("css", ".body", 0),
+      asList("css", "tr", 5),
+      asList("xpath", ".//td[@class='name']", 0)
+    )), eq(false), eq(false));
+    verify(webDriver, never()).findElement(any());
+  }
+
+  @Test
+  void injectsSizzleTogetherWithChainScript_onlyIfChainScriptReportsItMissing() {
+    config.selectorMode(SelectorMode.Sizzle);
+    when(webDriver.executeScript(anyString(), any(), any(), any(), any()))
+      .thenReturn(result("sizzleMissing", true))
+      .thenReturn(result("elements", singletonList(found)));
+    SelenideElement grid = ElementFinder.wrap(driver, By.id("grid"));
+
+    assertThat(new ElementFinder(driver, grid, By.cssSelector("tr:first"), 0).getWebElement()).isSameAs(found);
+
+    verify(webDriver, times(2)).executeScript(anyString(), isNull(), any(), eq(true), eq(false));
+    verify(webDriver).executeScript(startsWith(WebElementSelector.instance.sizzleSource()), isNull(), any(), eq(true), eq(false));
+    verify(webDriver, never()).executeScript(anyString());
+  }
+
+  @Test
+  void findsAllElementsOfNestedCollectionBySingleScript() {
+    when(webDriver.executeScript(anyString(), any(), any(), any(), any())).thenReturn(result("elements", asList(found, found)));
+    SelenideElement grid = ElementFinder.wrap(driver, By.id("grid"));
+
+    List<WebElement> rows = new BySelectorCollection(driver, grid, By.name("row")).getElements();
+
+    assertThat(rows).hasSize(2);
+    verify(webDriver).executeScript(anyString(), isNull(), eq(asList(
+      asList("css", "*[id=\"grid\"]", 0),
+      asList("css", "*[name=\"row\"]", 0)
+    )), eq(false), eq(true));
+  }
+
+  @Test
+  void reportsWhichLinkOfChainIsNotFound() {
+    Map<String, Object> result = result("failedLink", 1L);
+    result.put("size", 0L);
+    when(webDriver.executeScript(anyString(), any(), any(), any(), any())).thenReturn(result);
+    SelenideElement grid = ElementFinder.wrap(driver, By.id("grid"));
+    SelenideElement body = ElementFinder.wrap(driver, grid, By.cssSelector(".body"), 0);
+
+    assertThatThrownBy(() -> new ElementFinder(driver, body, By.cssSelector("td"), 0).getWebElement())
+      .isInstanceOf(NoSuchElementException.class)
+      .hasMessageStartingWith("Cannot locate an element .body");
+  }
+
+  @Test
+  void reportsIndexOutOfBoundsForCollectionElement() {
+    Map<String, Object> result = result("failedLink", 0L);
+    result.put("size", 3L);
+    when(webDriver.executeScript(anyString(), any(), any(), any(), any())).thenReturn(result);
+    SelenideElement row = new ElementsCollection(new BySelectorCollection(driver, By.cssSelector("tr"))).get(5);
+
+    assertThatThrownBy(() -> new ElementFinder(driver, row, By.cssSelector("td"), 0).getWebElement())
+      .isInstanceOf(IndexOutOfBoundsException.class)
+      .hasMessage("Index: 5, Size: 3");
+  }
+
+  @Test
+  void nullResultOfScriptIsRetryableWebDriverError() {
+    when(webDriver.executeScript(anyString(), any(), any(), any(), any())).thenReturn(null);
+    SelenideElement grid = ElementFinder.wrap(driver, By.id("grid"));
+
+    assertThatThrownBy(() -> new ElementFinder(driver, grid, By.cssSelector("td"), 0).getWebElement())
+      .isInstanceOf(WebDriverException.class)
+      .hasMessageStartingWith("Failed to locate By.id: grid -> td: script returned null");
+  }
+
+  @Test
+  void chainStartsFromElementWhichCannotBeCompiled() {
+    WebElement form = mock(WebElement.class);
+    WebElement label = mock(WebElement.class);
+    when(webDriver.findElement(By.cssSelector("form"))).thenReturn(form);
+    when(form.findElement(byText("Login"))).thenReturn(label);
+    when(webDriver.executeScript(anyString(), any(), any(), any(), any())).thenReturn(result("elements", singletonList(found)));
+    SelenideElement text = ElementFinder.wrap(driver, ElementFinder.wrap(driver, By.cssSelector("form")), byText("Login"), 0);
+    SelenideElement div = ElementFinder.wrap(driver, text, By.cssSelector("div"), 0);
+
+    assertThat(new ElementFinder(driver, div, By.cssSelector("input"), 0).getWebElement()).isSameAs(found);
+    verify(webDriver).executeScript(anyString(), eq(label), eq(asList(
+      asList("css", "div", 0),
+      asList("css", "input", 0)
+    )), eq(false), eq(false));
+  }
+
+  @Test
+  void singleElementIsSearchedAsUsual() {
+    when(webDriver.findElement(By.id("grid"))).thenReturn(found);
+
+    assertThat(new ElementFinder(driver, null, By.id("grid"), 0).getWebElement()).isSameAs(found);
+    verify(webDriver, never()).executeScript(anyString(), any());
+  }
+
+  @Test
+  void chainIsNotCompiledIfElementsAreCached() {
+    config.cacheElements(true);
+    SelenideElement grid = ElementFinder.wrap(driver, By.id("grid"));
+
+    assertThat(LocatorChain.instance.compile(driver, grid, By.cssSelector("td"), 0)).isNull();
+  }
+
+  private Map<String, Object> result(String key, Object value) {
+    Map<String, Object> result = new HashMap<>();
+    result.put(key, value);
+    return result;
+  }
+}
@@ -0,0 +1,146 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.Stopwatch;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import static com.codeborne.selenide.Condition.text;
+import static com.codeborne.selenide.Condition.visible;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+class MutationWaiterTest implements WithAssertions {
+  private final RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+  private final SelenideConfig config = new SelenideConfig().waitForMutations(true);
+  private final DriverStub driver = new DriverStub(config, new Browser("chrome", false), webDriver, null);
+  private final Stopwatch stopwatch = mock(Stopwatch.class);
+  private final WebElement element = mock(WebElement.class);
+  private final MutationWaiter waiter = new MutationWaiter();
+
+  @BeforeEach
+  void setUp() {
+    when(stopwatch.remainingMillis()).thenReturn(4000L);
+  }
+
+  @Test
+  void sleepsIfWaitingForMutationsIsDisabled() {
+    config.waitForMutations(false);
+
+    waiter.pause(driver, stopwatch, 200, element, "isDisplayed(e)");
+
+    verify(stopwatch).sleep(200);
+    verifyZeroInteractions(webDriver);
+  }
+
+  @Test
+  void sleepsInHtmlUnit() {
+    DriverStub htmlUnit = new DriverStub(config, new Browser("htmlunit", false), webDriver, null);
+
+    waiter.pause(htmlUnit, stopwatch, 200, element, "isDisplayed(e)");
+
+    verify(stopwatch).sleep(200);
+    verifyZeroInteractions(webDriver);
+  }
+
+  @Test
+  void waitsInBrowserUntilElementMatchesPredicate() {
+    when(webDriver.executeAsyncScript(anyString(), any(), any(), any())).thenReturn(true);
+
+    waiter.pause(driver, stopwatch, 200, element, "isDisplayed(e)");
+
+    verify(webDriver).executeAsyncScript(
+      argThat(script -> script.contains("function matches(e) { return isDisplayed(e); }")), eq(element), eq(4000L), eq(200L));
+    verify(stopwatch, never()).sleep(anyLong());
+  }
+
+  @Test
+  void rechecksPredicateInBrowserEveryPollingInterval() {
+    when(webDriver.executeAsyncScript(anyString(), any(), any(), any())).thenReturn(true);
+
+    waiter.pause(driver, stopwatch, 200, element, "isDisplayed(e)");
+
+    verify(webDriver).executeAsyncScript(
+      argThat(script -> script.contains("if (hasPredicate) poller = setInterval(check, pollingInterval);")),
+      eq(element), eq(4000L), eq(200L));
+  }
+
+  @Test
+  void waitsInBrowserForAnyChangeOfPage_notLongerThanPollingInterval_ifPredicateIsUnknown() {
+    when(webDriver.executeAsyncScript(anyString(), any(), any(), any())).thenReturn(true);
+
+    waiter.pause(driver, stopwatch, 200, null, null);
+
+    verify(webDriver).executeAsyncScript(argThat(script -> script.contains("var hasPredicate = false;")), eq(null), eq(200L), eq(200L));
+    verify(stopwatch, never()).sleep(anyLong());
+  }
+
+  @Test
+  void waitsAtLeastPollingInterval() {
+    when(stopwatch.remainingMillis()).thenReturn(0L);
+    when(webDriver.executeAsyncScript(anyString(), any(), any(), any())).thenReturn(true);
+
+    waiter.pause(driver, stopwatch, 200, element, "isDisplayed(e)");
+
+    verify(webDriver).executeAsyncScript(anyString(), eq(element), eq(200L), eq(200L));
+  }
+
+  @Test
+  void sleepsIfElementAlreadyMatchesPredicateInBrowser() {
+    when(webDriver.executeAsyncScript(anyString(), any(), any(), any())).thenReturn(false);
+
+    waiter.pause(driver, stopwatch, 200, element, "isDisplayed(e)");
+
+    verify(stopwatch).sleep(anyLong());
+  }
+
+  @Test
+  void sleepsIfScriptTimesOut() {
+    when(webDriver.executeAsyncScript(anyString(), any(), any(), any())).thenThrow(new ScriptTimeoutException("timeout: 0 ms"));
+
+    waiter.pause(driver, stopwatch, 200, element, "isDisplayed(e)");
+
+    verify(stopwatch).sleep(anyLong());
+  }
+
+  @Test
+  void conditionsOfMethodAreCompiledToJavascript() throws NoSuchMethodException {
+    MethodDispatch shouldBe = MethodDispatch.of(SelenideElement.class.getMethod("shouldBe", Condition[].class));
+    MethodDispatch shouldNotHave = MethodDispatch.of(SelenideElement.class.getMethod("shouldNotHave", Condition[].class));
+    MethodDispatch click = MethodDispatch.of(SelenideElement.class.getMethod("click"));
+
+    assertThat(shouldBe.conditionsJavascript(new Object[]{new Condition[]{visible}}))
+      .isEqualTo("(isDisplayed(e))");
+    assertThat(shouldNotHave.conditionsJavascript(new Object[]{new Condition[]{visible, text("Error")}}))
+      .isEqualTo("!(isDisplayed(e)) && !(" + text("Error").toJavascript() + ")");
+    assertThat(shouldBe.conditionsJavascript(new Object[]{new Condition[]{visible, customCondition()}}))
+      .isNull();
+    assertThat(click.conditionsJavascript(new Object[0])).isNull();
+  }
+
+  private Condition customCondition() {
+    return new Condition("custom") {
+      @Override
+      public boolean apply(Driver driver, WebElement element) {
+        return true;
+      }
+    };
+  }
+}
@@ -0,0 +1,100 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.chrome.ChromeDriver;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PageSourceArchiveTest implements WithAssertions {
+  private final File folder = new File("build/reports/tests/PageSourceArchiveTest/" + System.nanoTime());
+
+  @Test
+  void readsGzippedPageSource() throws IOException {
+    File file = write("page.html.gz", PageSourceArchive.gzip("<html><body>Hello</body></html>"));
+
+    assertThat(PageSourceArchive.read(file)).isEqualTo("<html><body>Hello</body></html>");
+  }
+
+  @Test
+  void readsPlainPageSource() throws IOException {
+    File file = write("page.html", "<html></html>".getBytes("UTF-8"));
+
+    assertThat(PageSourceArchive.read(file)).isEqualTo("<html></html>");
+  }
+
+  @Test
+  void restoresPageSourceFromDifference() throws IOException {
+    String first = "<html><body><div id=\"counter\">1</div><p>footer</p></body></html>";
+    String second = "<html><body><div id=\"counter\">42</div><div>new</div><p>footer</p></body></html>";
+    File base = write("test/1.html.gz", PageSourceArchive.gzip(first));
+    File file = new File(folder, "test/2.html.gz");
+
+    String diff = PageSourceArchive.diff(base, first, file, second);
+    write("test/2.html.gz", PageSourceArchive.gzip(diff));
+
+    assertThat(diff).isEqualTo("<!--selenide:diff base=\"1.html.gz\" prefix=30 suffix=33-->\n42</div><div>new");
+    assertThat(PageSourceArchive.read(file)).isEqualTo(second);
+  }
+
+  @Test
+  void doesNotCutSurrogatePairs() throws IOException {
+    String first = "<p>\uD83D\uDE00</p>";
+    String second = "<p>\uD83D\uDE01</p>";
+    String third = "<p>\uD83D\uDE01\uD83D\uDE00</p>";
+    File base = write("test/1.html.gz", PageSourceArchive.gzip(first));
+    write("test/2.html.gz", PageSourceArchive.gzip(PageSourceArchive.diff(base, first, new File(folder, "test/2.html.gz"), second)));
+    write("test/3.html.gz", PageSourceArchive.gzip(PageSourceArchive.diff(base, first, new File(folder, "test/3.html.gz"), third)));
+
+    assertThat(PageSourceArchive.read(new File(folder, "test/2.html.gz"))).isEqualTo(second);
+    assertThat(PageSourceArchive.read(new File(folder, "test/3.html.gz"))).isEqualTo(third);
+  }
+
+  @Test
+  void restoresIdenticalOrCompletelyDifferentPageSources() throws IOException {
+    File base = write("1.html.gz", PageSourceArchive.gzip("abcabc"));
+
+    write("2.html.gz", PageSourceArchive.gzip(PageSourceArchive.diff(base, "abcabc", new File(folder, "2.html.gz"), "abcabc")));
+    write("3.html.gz", PageSourceArchive.gzip(PageSourceArchive.diff(base, "abcabc", new File(folder, "3.html.gz"), "xyz")));
+    write("4.html.gz", PageSourceArchive.gzip(PageSourceArchive.diff(base, "abcabc", new File(folder, "4.html.gz"), "abc")));
+
+    assertThat(PageSourceArchive.read(new File(folder, "2.html.gz"))).isEqualTo("abcabc");
+    assertThat(PageSourceArchive.read(new File(folder, "3.html.gz"))).isEqualTo("xyz");
+    assertThat(PageSourceArchive.read(new File(folder, "4.html.gz"))).isEqualTo("abc");
+  }
+
+  @Test
+  void storesFollowingPageSourcesOfTestAsDifferences() throws IOException {
+    ChromeDriver webDriver = mock(ChromeDriver.class);
+    SelenideConfig config = new SelenideConfig().compressPageSources(true).reportsFolder(folder.getPath());
+    DriverStub driver = new DriverStub(config, new Browser("chrome", false), webDriver, null);
+    ScreenShotLaboratory screenshots = new ScreenShotLaboratory();
+    screenshots.startContext("MyTest", "login");
+
+    when(webDriver.getPageSource()).thenReturn("<html><body>Login page</body></html>");
+    File first = new File(screenshots.takeScreenShot(driver, "first").replace(".png", ".html.gz"));
+    when(webDriver.getPageSource()).thenReturn("<html><body>Welcome page</body></html>");
+    File second = new File(screenshots.takeScreenShot(driver, "second").replace(".png", ".html.gz"));
+    screenshots.finishContext();
+
+    assertThat(first).hasName("first.html.gz");
+    assertThat(PageSourceArchive.read(first)).isEqualTo("<html><body>Login page</body></html>");
+    assertThat(PageSourceArchive.read(second)).isEqualTo("<html><body>Welcome page</body></html>");
+    assertThat(new String(PageSourceArchive.gunzip(second), "UTF-8")).startsWith("<!--selenide:diff base=\"first.html.gz\"");
+  }
+
+  private File write(String name, byte[] content) throws IOException {
+    File file = new File(folder, name);
+    Files.createDirectories(file.getParentFile().toPath());
+    Files.write(file.toPath(), content);
+    return file;
+  }
+}
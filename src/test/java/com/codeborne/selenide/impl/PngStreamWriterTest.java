@@ -0,0 +1,61 @@
+package com.codeborne.selenide.impl;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+class PngStreamWriterTest implements WithAssertions {
+  @Test
+  void encodesImageRowByRow() throws IOException {
+    int width = 300;
+    int height = 1000;
+    ByteArrayOutputStream png = new ByteArrayOutputStream();
+    try (PngStreamWriter writer = new PngStreamWriter(png, width, height)) {
+      int[] row = new int[width];
+      for (int y = 0; y < height; y++) {
+        for (int x = 0; x < width; x++) {
+          row[x] = color(x, y);
+        }
+        writer.writeRow(row);
+      }
+    }
+
+    BufferedImage image = ImageIO.read(new ByteArrayInputStream(png.toByteArray()));
+    assertThat(image.getWidth()).isEqualTo(width);
+    assertThat(image.getHeight()).isEqualTo(height);
+    for (int y = 0; y < height; y += 7) {
+      for (int x = 0; x < width; x += 3) {
+        assertThat(image.getRGB(x, y) & 0xFFFFFF).isEqualTo(color(x, y));
+      }
+    }
+  }
+
+  @Test
+  void requiresAllRows() throws IOException {
+    PngStreamWriter writer = new PngStreamWriter(new ByteArrayOutputStream(), 10, 2);
+    writer.writeRow(new int[10]);
+
+    assertThatThrownBy(writer::close)
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Written 1 rows of 2");
+  }
+
+  @Test
+  void doesNotAcceptExtraRows() throws IOException {
+    PngStreamWriter writer = new PngStreamWriter(new ByteArrayOutputStream(), 10, 1);
+    writer.writeRow(new int[10]);
+
+    assertThatThrownBy(() -> writer.writeRow(new int[10]))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("All 1 rows have already been written");
+  }
+
+  private static int color(int x, int y) {
+    return (x * 3 % 256) << 16 | (y % 256) << 8 | (x + y) % 256;
+  }
+}
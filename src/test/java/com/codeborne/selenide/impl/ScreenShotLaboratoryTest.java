@@ -1,13 +1,18 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
 
 import java.io.File;
 import java.util.List;
 
 import static java.io.File.separatorChar;
+import static org.mockito.Mockito.mock;
 
 class ScreenShotLaboratoryTest implements WithAssertions {
   private ScreenShotLaboratory screenshots = new ScreenShotLaboratory() {
@@ -38,6 +43,15 @@ class ScreenShotLaboratoryTest implements WithAssertions {
       .isEqualTo(expectedFileName);
   }
 
+  @Test
+  void returnsNull_ifWebdriverCannotTakeScreenshot() {
+    WebDriver webDriver = mock(WebDriver.class);
+    Driver driver = new DriverStub(new SelenideConfig(), new Browser("chrome", false), webDriver, null);
+
+    assertThat(screenshots.takeScreenShotAsFile(driver)).isNull();
+    assertThat(screenshots.getScreenshots()).isEmpty();
+  }
+
   @Test
   void composesScreenshotNameAsTimestampPlusCounter() {
     assertThat(screenshots.takeScreenShot(null))
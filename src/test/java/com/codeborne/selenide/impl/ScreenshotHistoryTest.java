@@ -0,0 +1,86 @@
+package com.codeborne.selenide.impl;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+class ScreenshotHistoryTest implements WithAssertions {
+  private final ScreenshotHistory history = new ScreenshotHistory(32);
+  private final File reportsFolder = new File("build/reports/tests/ScreenshotHistoryTest/" + System.nanoTime());
+
+  @BeforeEach
+  void setUp() {
+    history.indexIn(reportsFolder);
+  }
+
+  @Test
+  void keepsOnlyLatestScreenshotsInMemory() {
+    for (int i = 0; i < 1000; i++) {
+      history.add("", new File(i + ".png"));
+    }
+
+    assertThat(history.recent()).hasSize(2).containsExactly(new File("998.png"), new File("999.png"));
+    assertThat(history.last()).isEqualTo(new File("999.png"));
+  }
+
+  @Test
+  void listsAllScreenshotsFromIndexFile() {
+    List<File> expected = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      expected.add(new File(i + ".png"));
+      history.add("", new File(i + ".png"));
+    }
+
+    assertThat(history.all()).isEqualTo(expected);
+    assertThat(reportsFolder.listFiles()).hasSize(1);
+  }
+
+  @Test
+  void ignoresMissingScreenshots() {
+    history.add("LoginTest/login/", null);
+    history.add("LoginTest/login/", new File("1.png"));
+
+    assertThat(history.all()).containsExactly(new File("1.png"));
+  }
+
+  @Test
+  void listsScreenshotsOfGivenContext() {
+    history.add("LoginTest/login/", new File("1.png"));
+    history.add("LogoutTest/logout/", new File("2.png"));
+    history.add("LoginTest/login/", new File("3.png"));
+
+    assertThat(history.byContext("LoginTest/login/")).containsExactly(new File("1.png"), new File("3.png"));
+    assertThat(history.byContext("LogoutTest/logout/")).containsExactly(new File("2.png"));
+    assertThat(history.byContext("OtherTest/other/")).isEmpty();
+  }
+
+  @Test
+  void collectsScreenshotsFromAllThreads() throws InterruptedException {
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      String context = "Test" + t + "/";
+      threads.add(new Thread(() -> {
+        for (int i = 0; i < 50; i++) {
+          history.add(context, new File(context + i + ".png"));
+        }
+      }));
+    }
+    threads.forEach(Thread::start);
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertThat(history.all()).hasSize(400);
+    assertThat(history.byContext("Test3/")).hasSize(50).startsWith(new File("Test3/0.png")).endsWith(new File("Test3/49.png"));
+  }
+
+  @Test
+  void lastScreenshotIsNull_ifNoScreenshotsHaveBeenTaken() {
+    assertThat(history.last()).isNull();
+    assertThat(history.all()).isEmpty();
+  }
+}
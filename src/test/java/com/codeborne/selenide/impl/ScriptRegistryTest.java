@@ -0,0 +1,156 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.impl.ScriptRegistry.PinnedScript;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import static com.codeborne.selenide.impl.ScriptRegistry.NOT_INSTALLED;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScriptRegistryTest implements WithAssertions {
+  private static final String SOURCE = "return arguments[0] + ' is ' + arguments[1] + ' and long enough to be pinned';";
+
+  private static final String LIBRARY = "function twice(s) { return s + s; }";
+
+  private final RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+  private final Driver driver = new DriverStub(new SelenideConfig(), new Browser("chrome", false), webDriver, null);
+  private final ScriptRegistry registry = new ScriptRegistry();
+  private final PinnedScript script = ScriptRegistry.pin("test", SOURCE);
+
+  @Test
+  void handleDependsOnNameAndSource() {
+    assertThat(script.handle()).startsWith("test_").isEqualTo(ScriptRegistry.pin("test", SOURCE).handle());
+    assertThat(ScriptRegistry.pin("test", "return 1;").handle()).isNotEqualTo(script.handle());
+  }
+
+  @Test
+  void installsScriptWithFirstCall_andThenCallsItByHandle() {
+    when(webDriver.executeScript(anyString(), eq("a"), eq("b"))).thenReturn("result 1", "result 2");
+
+    assertThat((String) registry.execute(driver, script, "a", "b")).isEqualTo("result 1");
+    assertThat((String) registry.execute(driver, script, "a", "b")).isEqualTo("result 2");
+
+    ArgumentCaptor<String> scripts = ArgumentCaptor.forClass(String.class);
+    verify(webDriver, times(2)).executeScript(scripts.capture(), eq("a"), eq("b"));
+    assertThat(scripts.getAllValues().get(0)).contains(SOURCE).contains("window.__selenide['" + script.handle() + "']");
+    assertThat(scripts.getAllValues().get(1)).doesNotContain(SOURCE).contains("window.__selenide['" + script.handle() + "']");
+  }
+
+  @Test
+  void reinstallsScriptIfBrowserDoesNotHaveIt() {
+    when(webDriver.executeScript(anyString(), eq("a"), eq("b"))).thenReturn("result 1", NOT_INSTALLED, "result 2");
+
+    registry.execute(driver, script, "a", "b");
+    assertThat((String) registry.execute(driver, script, "a", "b")).isEqualTo("result 2");
+
+    ArgumentCaptor<String> scripts = ArgumentCaptor.forClass(String.class);
+    verify(webDriver, times(3)).executeScript(scripts.capture(), eq("a"), eq("b"));
+    assertThat(scripts.getAllValues().get(1)).doesNotContain(SOURCE);
+    assertThat(scripts.getAllValues().get(2)).contains(SOURCE);
+  }
+
+  @Test
+  void installsScriptAgainAfterReset() {
+    registry.execute(driver, script, "a", "b");
+    registry.reset(webDriver);
+    registry.execute(driver, script, "a", "b");
+
+    ArgumentCaptor<String> scripts = ArgumentCaptor.forClass(String.class);
+    verify(webDriver, times(2)).executeScript(scripts.capture(), eq("a"), eq("b"));
+    assertThat(scripts.getAllValues()).allMatch(installScript -> installScript.contains(SOURCE));
+  }
+
+  @Test
+  void asyncScripts() {
+    when(webDriver.executeAsyncScript(anyString(), eq("a"))).thenReturn(true, NOT_INSTALLED, false);
+
+    assertThat((Boolean) registry.executeAsync(driver, script, "a")).isTrue();
+    assertThat((Boolean) registry.executeAsync(driver, script, "a")).isFalse();
+
+    ArgumentCaptor<String> scripts = ArgumentCaptor.forClass(String.class);
+    verify(webDriver, times(3)).executeAsyncScript(scripts.capture(), eq("a"));
+    assertThat(scripts.getAllValues().get(0)).contains(SOURCE);
+    assertThat(scripts.getAllValues().get(1)).doesNotContain(SOURCE).contains("arguments[arguments.length - 1]");
+    assertThat(scripts.getAllValues().get(2)).contains(SOURCE);
+  }
+
+  @Test
+  void installsLibraryOnce_andSharesItBetweenScripts() {
+    ScriptRegistry.Library library = ScriptRegistry.library("lib", LIBRARY, "twice");
+    PinnedScript script1 = ScriptRegistry.pin("first", library, "return twice(arguments[0]);");
+    PinnedScript script2 = ScriptRegistry.pin("second", library, "return twice(arguments[0]) + 1;");
+    when(webDriver.executeScript(anyString(), eq("a"))).thenReturn("aa", "aa1");
+
+    registry.execute(driver, script1, "a");
+    registry.execute(driver, script2, "a");
+
+    ArgumentCaptor<String> scripts = ArgumentCaptor.forClass(String.class);
+    verify(webDriver, times(2)).executeScript(scripts.capture(), eq("a"));
+    assertThat(scripts.getAllValues().get(0))
+      .contains(LIBRARY)
+      .contains("window.__selenide['" + library.handle() + "'] = (function() {")
+      .contains("return {twice: twice};")
+      .contains("var twice = window.__selenide['" + library.handle() + "'].twice;");
+    assertThat(scripts.getAllValues().get(1))
+      .doesNotContain(LIBRARY)
+      .contains("return twice(arguments[0]) + 1;")
+      .contains("if (!window.__selenide['" + library.handle() + "']) return '" + NOT_INSTALLED + "';");
+  }
+
+  @Test
+  void reinstallsLibraryIfBrowserDoesNotHaveIt() {
+    ScriptRegistry.Library library = ScriptRegistry.library("lib", LIBRARY, "twice");
+    PinnedScript script1 = ScriptRegistry.pin("first", library, "return twice(arguments[0]);");
+    PinnedScript script2 = ScriptRegistry.pin("second", library, "return twice(arguments[0]) + 1;");
+    when(webDriver.executeScript(anyString(), eq("a"))).thenReturn("aa", NOT_INSTALLED, "aa1");
+
+    registry.execute(driver, script1, "a");
+    assertThat((String) registry.execute(driver, script2, "a")).isEqualTo("aa1");
+
+    ArgumentCaptor<String> scripts = ArgumentCaptor.forClass(String.class);
+    verify(webDriver, times(3)).executeScript(scripts.capture(), eq("a"));
+    assertThat(scripts.getAllValues().get(1)).doesNotContain(LIBRARY);
+    assertThat(scripts.getAllValues().get(2)).contains(LIBRARY).contains("return twice(arguments[0]) + 1;");
+  }
+
+  @Test
+  void installsEverythingAtOnce_afterPageChangeWithoutReset() {
+    ScriptRegistry.Library library = ScriptRegistry.library("lib", LIBRARY, "twice");
+    PinnedScript script1 = ScriptRegistry.pin("first", library, "return twice(arguments[0]);");
+    PinnedScript script2 = ScriptRegistry.pin("second", library, "return twice(arguments[0]) + 1;");
+    when(webDriver.executeScript(anyString(), eq("a"))).thenReturn("aa", "aa1", NOT_INSTALLED, "aa", "aa1");
+
+    registry.execute(driver, script1, "a");
+    registry.execute(driver, script2, "a");
+    // another page is opened here, registry is not reset
+    assertThat((String) registry.execute(driver, script1, "a")).isEqualTo("aa");
+    assertThat((String) registry.execute(driver, script2, "a")).isEqualTo("aa1");
+
+    ArgumentCaptor<String> scripts = ArgumentCaptor.forClass(String.class);
+    verify(webDriver, times(5)).executeScript(scripts.capture(), eq("a"));
+    assertThat(scripts.getAllValues().get(2)).doesNotContain(LIBRARY).doesNotContain("return twice(arguments[0]);");
+    assertThat(scripts.getAllValues().get(3)).contains(LIBRARY).contains("return twice(arguments[0]);");
+    assertThat(scripts.getAllValues().get(4)).doesNotContain(LIBRARY).contains("return twice(arguments[0]) + 1;");
+  }
+
+  @Test
+  void handleOfScriptDependsOnLibrary() {
+    ScriptRegistry.Library library1 = ScriptRegistry.library("lib", LIBRARY, "twice");
+    ScriptRegistry.Library library2 = ScriptRegistry.library("lib", "function twice(s) { return s; }", "twice");
+
+    assertThat(ScriptRegistry.pin("test", library1, SOURCE).handle())
+      .isNotEqualTo(ScriptRegistry.pin("test", library2, SOURCE).handle())
+      .isNotEqualTo(script.handle());
+  }
+}
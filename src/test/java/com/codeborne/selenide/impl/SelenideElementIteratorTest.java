@@ -1,6 +1,7 @@
 package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideConfig;
 import com.codeborne.selenide.SelenideElement;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +19,7 @@ class SelenideElementIteratorTest implements WithAssertions {
 
   @BeforeEach
   void setUp() {
+    when(driver.config()).thenReturn(new SelenideConfig());
     when(mockedWebElementCollection.driver()).thenReturn(driver);
   }
 
@@ -1,8 +1,10 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.PollingStrategy;
 import com.codeborne.selenide.SelenideConfig;
 import com.codeborne.selenide.SelenideDriver;
 import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.commands.Commands;
 import com.codeborne.selenide.ex.ElementNotFound;
 import com.codeborne.selenide.ex.ElementShould;
 import com.codeborne.selenide.logevents.LogEvent.EventStatus;
@@ -22,6 +24,8 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.remote.RemoteWebDriver;
 
 import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 import static com.codeborne.selenide.Condition.disappear;
@@ -33,9 +37,12 @@ import static com.codeborne.selenide.Condition.visible;
 import static com.codeborne.selenide.impl.SelenideElementProxy.shouldRetryAfterError;
 import static com.codeborne.selenide.logevents.LogEvent.EventStatus.FAIL;
 import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
+import static java.util.Collections.singletonList;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
 import static org.mockito.Mockito.when;
 
 class SelenideElementProxyTest implements WithAssertions {
@@ -72,6 +79,15 @@ class SelenideElementProxyTest implements WithAssertions {
     driver.find("#firstName").shouldBe(visible);
   }
 
+  @Test
+  void checksConditionOnceMore_afterPauseHasUsedUpTimeout() {
+    config.pollingInterval(50);
+    when(element.isDisplayed()).thenReturn(false, true);
+    when(webdriver.findElement(By.cssSelector("#firstName"))).thenReturn(element);
+
+    driver.find("#firstName").shouldBe(visible);
+  }
+
   @Test
   void elementNotFound() {
     when(webdriver.findElement(By.cssSelector("#firstName"))).thenReturn(null);
@@ -103,6 +119,33 @@ class SelenideElementProxyTest implements WithAssertions {
       .isInstanceOf(ElementShould.class);
   }
 
+  @Test
+  void failedPollsCostOnlyConditionCalls_elementIsDescribedOnceForFinalError() {
+    SelenideDriver driver = new SelenideDriver(new SelenideConfig().screenshots(false).timeout(50).pollingInterval(1), webdriver);
+    when(webdriver.findElement(By.cssSelector("#firstName"))).thenReturn(element);
+    when(webdriver.executeScript(argThat(script -> script.contains("describe_")), any(), any(), any()))
+      .thenReturn(singletonList(ImmutableMap.of(
+        "tag", "h1", "attributes", ImmutableMap.of("id", "id1", "class", "class1"),
+        "selected", false, "displayed", true, "text", "Hello world")));
+    assertThatThrownBy(() -> driver.find("#firstName").shouldHave(text("goodbye")))
+      .isInstanceOf(ElementShould.class)
+      .hasMessageContaining("Element: '<h1 class=\"class1\" id=\"id1\">Hello world</h1>'");
+
+    int polls = countCalls(webdriver, "findElement");
+    assertThat(polls).isGreaterThan(1);
+    assertThat(countCalls(element, "getText")).isEqualTo(polls);
+    assertThat(countCalls(element, "getTagName")).isEqualTo(polls);
+    assertThat(countCalls(element, "isSelected")).isEqualTo(0);
+    assertThat(countCalls(element, "isDisplayed")).isEqualTo(0);
+    assertThat(countCalls(webdriver, "executeScript")).isEqualTo(1);
+  }
+
+  private int countCalls(Object mock, String methodName) {
+    return (int) mockingDetails(mock).getInvocations().stream()
+      .filter(invocation -> invocation.getMethod().getName().equals(methodName))
+      .count();
+  }
+
   @Test
   void elementNotFoundAsExpected() {
     when(webdriver.findElement(By.cssSelector("#firstName"))).thenReturn(null);
@@ -205,6 +248,37 @@ class SelenideElementProxyTest implements WithAssertions {
       .isInstanceOf(ElementShould.class);
   }
 
+  @Test
+  void waitUntil_withPollingStrategy() {
+    when(webdriver.findElement(By.cssSelector("#firstName"))).thenReturn(element);
+    when(element.isDisplayed()).thenReturn(false, false, true);
+    List<Long> intervals = new ArrayList<>();
+    PollingStrategy strategy = (pollingIntervalMs, attempt, elapsedMs) -> {
+      intervals.add((long) attempt);
+      return 1;
+    };
+
+    driver.find("#firstName").waitUntil(visible, 1000, strategy);
+
+    assertThat(intervals).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void usesOverriddenCommand_evenIfMethodHasBeenCalledBefore() {
+    when(webdriver.findElement(By.cssSelector("#firstName"))).thenReturn(element);
+    SelenideElement selenideElement = driver.find("#firstName");
+    assertThat(selenideElement.getValue()).isNull();
+
+    Commands.getInstance().add("getValue", (proxy, locator, args) -> "overridden");
+    try {
+      assertThat(selenideElement.getValue()).isEqualTo("overridden");
+    }
+    finally {
+      Commands.getInstance().resetDefaults();
+    }
+    assertThat(selenideElement.getValue()).isNull();
+  }
+
   @Test
   void shouldNotRetry_onIllegalArgumentException() {
     assertThat(shouldRetryAfterError(new IllegalArgumentException("The element does not have href attribute")))
@@ -0,0 +1,35 @@
+package com.codeborne.selenide.impl;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class WaiterTest implements WithAssertions {
+  private final List<Long> sleeps = new ArrayList<>();
+  private final Waiter waiter = new Waiter() {
+    @Override
+    void sleep(long milliseconds) {
+      sleeps.add(milliseconds);
+      super.sleep(milliseconds);
+    }
+  };
+
+  @Test
+  void doesNotSleepLongerThanTimeout() {
+    long start = System.currentTimeMillis();
+
+    waiter.wait("subject", subject -> false, 200, 5000);
+
+    assertThat(System.currentTimeMillis() - start).isLessThan(2000);
+    assertThat(sleeps).isNotEmpty().allMatch(sleep -> sleep <= 200);
+  }
+
+  @Test
+  void stopsWaitingAsSoonAsConditionIsMet() {
+    waiter.wait("subject", subject -> sleeps.size() == 2, 5000, 10);
+
+    assertThat(sleeps).hasSize(2);
+  }
+}
@@ -0,0 +1,74 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelectorMode;
+import com.codeborne.selenide.SelenideConfig;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+class WebElementSelectorTest implements WithAssertions {
+  private final RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+  private final SelenideConfig config = new SelenideConfig().selectorMode(SelectorMode.Sizzle);
+  private final Driver driver = new DriverStub(config, new Browser("chrome", false), webDriver, null);
+  private final WebElement parent = mock(WebElement.class);
+  private final WebElement found = mock(WebElement.class);
+  private final WebElementSelector selector = new WebElementSelector();
+
+  @Test
+  void usesWebdriverInCssMode() {
+    config.selectorMode(SelectorMode.CSS);
+    when(parent.findElement(By.cssSelector("li:first"))).thenReturn(found);
+
+    assertThat(selector.findElement(driver, parent, By.cssSelector("li:first"))).isSameAs(found);
+    verifyZeroInteractions(webDriver);
+  }
+
+  @Test
+  void checksThatSizzleIsLoadedInTheSameScriptAsQuery() {
+    when(webDriver.executeScript(anyString(), any(), any())).thenReturn(singletonList(found));
+
+    assertThat(selector.findElement(driver, parent, By.cssSelector("li:first"))).isSameAs(found);
+
+    verify(webDriver, times(1)).executeScript(startsWith("if (typeof Sizzle === 'undefined') return null;"),
+      eq("li:first"), eq(parent));
+  }
+
+  @Test
+  void injectsSizzleTogetherWithQuery_ifDocumentDoesNotHaveIt() {
+    when(webDriver.executeScript(anyString(), any(), any())).thenReturn(null, singletonList(found));
+
+    assertThat(selector.findElements(driver, webDriver, By.cssSelector("li:first"))).containsExactly(found);
+
+    verify(webDriver, times(2)).executeScript(anyString(), eq("li:first"), isNull());
+    verify(webDriver).executeScript(argThat(script -> script.startsWith(selector.sizzleSource()) &&
+      script.endsWith("Sizzle(arguments[0]);")), eq("li:first"), isNull());
+  }
+
+  @Test
+  void failsWithDescriptiveError_ifSizzleCannotBeInjected() {
+    when(webDriver.executeScript(anyString(), any(), any())).thenReturn(null);
+
+    assertThatThrownBy(() -> selector.findElement(driver, parent, By.cssSelector("li:first")))
+      .isInstanceOf(WebDriverException.class)
+      .hasMessageStartingWith("Failed to inject Sizzle for selector 'li:first': window.Sizzle is not defined");
+  }
+}
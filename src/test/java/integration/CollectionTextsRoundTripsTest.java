@@ -0,0 +1,107 @@
+package integration;
+
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideDriver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.AbstractWebDriverEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.codeborne.selenide.CollectionCondition.exactTexts;
+import static com.codeborne.selenide.CollectionCondition.texts;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+class CollectionTextsRoundTripsTest extends ITest {
+  private final RoundTripsCounter counter = new RoundTripsCounter();
+  private SelenideDriver countingBrowser;
+
+  @BeforeEach
+  void setUp() {
+    assumeFalse(browser.equals("htmlunit"));
+    countingBrowser = new SelenideDriver(new SelenideConfig().browser(browser).baseUrl(getBaseUrl()),
+      null, singletonList(counter));
+    countingBrowser.open("/empty.html");
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (countingBrowser != null) countingBrowser.close();
+  }
+
+  @Test
+  void numberOfRoundTripsDoesNotDependOnCollectionSize() {
+    int roundTripsFor10 = roundTripsForCheckingTexts(10);
+    int roundTripsFor300 = roundTripsForCheckingTexts(300);
+
+    assertThat(roundTripsFor300).isEqualTo(roundTripsFor10);
+    assertThat(counter.getTextCalls).isEqualTo(0);
+  }
+
+  @Test
+  void textsOfHiddenElementsAreTheSameAsInWebdriver() {
+    countingBrowser.executeJavaScript(
+      "var container = document.createElement('div'); container.id = 'visibility';" +
+      "container.innerHTML = '<p>shown</p>' +" +
+      "  '<p style=\"visibility: hidden\">invisible</p>' +" +
+      "  '<div style=\"width: 0; height: 0; overflow: hidden\"><p>clipped</p></div>' +" +
+      "  '<p style=\"opacity: 0\">transparent</p>' +" +
+      "  '<p style=\"display: none\">not displayed</p>';" +
+      "document.body.appendChild(container);");
+
+    List<String> webdriverTexts = new ArrayList<>();
+    for (WebElement element : countingBrowser.getWebDriver().findElements(By.cssSelector("#visibility p"))) {
+      webdriverTexts.add(element.getText());
+    }
+
+    assertThat(webdriverTexts).hasSize(5);
+    assertThat(countingBrowser.$$("#visibility p").texts()).isEqualTo(webdriverTexts);
+    countingBrowser.$$("#visibility p").shouldHave(exactTexts(webdriverTexts));
+  }
+
+  private int roundTripsForCheckingTexts(int rows) {
+    countingBrowser.executeJavaScript(
+      "var list = document.createElement('ul'); list.id = 'rows' + arguments[0];" +
+      "for (var i = 0; i < arguments[0]; i++) {" +
+      "  var row = document.createElement('li'); row.innerText = 'row #' + i; list.appendChild(row);" +
+      "}" +
+      "document.body.appendChild(list);", rows);
+
+    List<String> expectedTexts = new ArrayList<>(rows);
+    for (int i = 0; i < rows; i++) {
+      expectedTexts.add("row #" + i);
+    }
+
+    counter.reset();
+    countingBrowser.$$("#rows" + rows + " li").shouldHave(exactTexts(expectedTexts));
+    countingBrowser.$$("#rows" + rows + " li").shouldHave(texts(expectedTexts));
+    assertThat(countingBrowser.$$("#rows" + rows + " li").texts()).isEqualTo(expectedTexts);
+    return counter.scriptCalls + counter.getTextCalls;
+  }
+
+  private static class RoundTripsCounter extends AbstractWebDriverEventListener {
+    int scriptCalls;
+    int getTextCalls;
+
+    void reset() {
+      scriptCalls = 0;
+      getTextCalls = 0;
+    }
+
+    @Override
+    public void beforeScript(String script, WebDriver driver) {
+      scriptCalls++;
+    }
+
+    @Override
+    public void beforeGetText(WebElement element, WebDriver driver) {
+      getTextCalls++;
+    }
+  }
+}
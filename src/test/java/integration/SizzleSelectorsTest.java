@@ -36,4 +36,14 @@ class SizzleSelectorsTest extends BaseIntegrationTest {
     driver.$("label:contains('assword')").shouldHave(text("Password:"));
     assertThat(driver.$(":parent:not('html'):not('head')").getTagName()).isEqualTo("title");
   }
+
+  @Test
+  void canUseSizzleSelectors_onPageWithAmdAndCommonJsModules() {
+    driver.open("/page_with_jquery.html");
+    driver.executeJavaScript("window.define = function(factory) {}; window.define.amd = {};" +
+      "window.module = {exports: {}};");
+
+    driver.$("input:first").shouldHave(attribute("name", "username"));
+    driver.$$(":input:not(.masked)").shouldHave(size(3));
+  }
 }
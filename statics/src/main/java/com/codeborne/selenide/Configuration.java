@@ -37,8 +37,22 @@ public class Configuration {
    */
   public static long pollingInterval = defaults.pollingInterval();
 
+  /**
+   * How long to sleep between checks, based on {@link #pollingInterval} (see {@link PollingStrategy}).
+   * Built-in strategies are "constant", "exponential", "fastStart" and "jittered".
+   * Can be configured either programmatically or by system property "-Dselenide.pollingStrategy=fastStart"
+   * <br>
+   * Default value: constant
+   */
+  public static PollingStrategy pollingStrategy = defaults.pollingStrategy();
+
   /**
    * If holdBrowserOpen is true, browser window stays open after running tests. It may be useful for debugging.
+   * <br>
+   * Otherwise the browser of a thread that has finished without closing it is closed automatically,
+   * but only after that Thread object is garbage collected, which may happen as late as JVM exit.
+   * Call {@link Selenide#close()} at the end of the thread to close its browser immediately.
+   * <br>
    * Can be configured either programmatically or by system property "-Dselenide.holdBrowserOpen=true".
    * <br>
    * Default value: false.
@@ -56,6 +70,63 @@ public class Configuration {
    */
   public static boolean reopenBrowserOnFail = defaults.reopenBrowserOnFail();
 
+  /**
+   * Maximum number of idle browsers kept for reuse.
+   * If greater than 0, closed browsers are not quit but reset (cookies, local and session storage of the current page, extra windows)
+   * and reused by the next test with the same browser settings instead of starting a new browser.
+   * 0 means that browsers are not reused.
+   * Browsers with Selenide proxy (see {@link #proxyEnabled}) are never reused.
+   * Can be configured either programmatically or by system property "-Dselenide.browserPoolSize=4".
+   * <br>
+   * Default value: 0
+   */
+  public static int browserPoolSize = defaults.browserPoolSize();
+
+  /**
+   * Maximum number of tests a pooled browser is used for (see {@link #browserPoolSize}).
+   * Can be configured either programmatically or by system property "-Dselenide.browserPoolMaxUses=20".
+   * <br>
+   * Default value: 100
+   */
+  public static int browserPoolMaxUses = defaults.browserPoolMaxUses();
+
+  /**
+   * Maximum age (in milliseconds) of a pooled browser (see {@link #browserPoolSize}).
+   * Can be configured either programmatically or by system property "-Dselenide.browserPoolMaxAge=600000".
+   * <br>
+   * Default value: 1800000
+   */
+  public static long browserPoolMaxAge = defaults.browserPoolMaxAge();
+
+  /**
+   * Maximum number of browsers started in background in advance.
+   * If greater than 0, while a test is running, the next browser (and proxy server) with the same settings
+   * is started in background, so that the next test doesn't wait for the browser to start.
+   * Failure to start a browser in background is reported when the browser is requested.
+   * 0 means that browsers are started only when needed.
+   * Can be configured either programmatically or by system property "-Dselenide.browserPrewarmCount=1".
+   * <br>
+   * Default value: 0
+   */
+  public static int browserPrewarmCount = defaults.browserPrewarmCount();
+
+  /**
+   * Time (in milliseconds) a browser started in advance waits for a test, after that it's quit (see {@link #browserPrewarmCount}).
+   * Can be configured either programmatically or by system property "-Dselenide.browserPrewarmTtl=60000".
+   * <br>
+   * Default value: 300000
+   */
+  public static long browserPrewarmTtl = defaults.browserPrewarmTtl();
+
+  /**
+   * Maximum time (in milliseconds) to close a browser when JVM exits.
+   * All browsers are closed in parallel. If a browser is not closed in time, its driver process (e.g. chromedriver) is killed.
+   * Can be configured either programmatically or by system property "-Dselenide.shutdownTimeout=5000".
+   * <br>
+   * Default value: 10000
+   */
+  public static long shutdownTimeout = defaults.shutdownTimeout();
+
   /**
    * Which browser to use.
    * Can be configured either programmatically or by system property "-Dselenide.browser=ie".
@@ -209,6 +280,93 @@ public class Configuration {
    */
   public static boolean versatileSetValue = defaults.versatileSetValue();
 
+  /**
+   * If set to true, built-in conditions are checked against a snapshot of element state
+   * (tag, text, visibility, attributes, css values etc.) collected by a single javascript call,
+   * instead of asking webdriver for every property separately.
+   * Custom conditions are still checked against the live element.
+   * <br>
+   * It noticeably reduces number of calls to remote webdriver (e.g. Selenium Grid).
+   * Can be configured either programmatically or by system property "-Dselenide.conditionSnapshots=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean conditionSnapshots = defaults.conditionSnapshots();
+
+  /**
+   * If set to true, every element (e.g. {@code $("#form").$("input")}) remembers found web element
+   * and reuses it for succeeding commands, instead of searching it (and all its parents) again.
+   * The element is searched again after it has become stale, after opening a page
+   * and after switching to another frame or window.
+   * <br>
+   * Can be configured either programmatically or by system property "-Dselenide.cacheElements=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean cacheElements = defaults.cacheElements();
+
+  /**
+   * If set to true, waiting commands (like {@code $("#menu").shouldBe(visible)}) don't sleep for {@link #pollingInterval}
+   * between checks, but wait in browser until the page changes (using MutationObserver).
+   * If condition can be checked by javascript, browser waits until the element matches it.
+   * <br>
+   * It reduces latency of waits which succeed after some time.
+   * Can be configured either programmatically or by system property "-Dselenide.waitForMutations=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean waitForMutations = defaults.waitForMutations();
+
+  /**
+   * Maximum number of elements described in error messages about collections (e.g. "list size mismatch").
+   * Zero means no limit.
+   * Can be configured either programmatically or by system property "-Dselenide.describeMaxElements=20".
+   * <br>
+   * Default value: 100
+   */
+  public static int describeMaxElements = defaults.describeMaxElements();
+
+  /**
+   * Maximum length of element text in error messages (longer texts are truncated).
+   * Zero means no limit.
+   * Can be configured either programmatically or by system property "-Dselenide.describeMaxTextLength=200".
+   * <br>
+   * Default value: 1000
+   */
+  public static int describeMaxTextLength = defaults.describeMaxTextLength();
+
+  /**
+   * Defines if screenshots and page sources of failing tests are written to disk in background threads.
+   * Test thread only takes the screenshot and page source from browser, so failing tests finish faster.
+   * Files are guaranteed to be written after test (see {@link Screenshots#flush()}).
+   * Can be configured either programmatically or by system property "-Dselenide.asyncArtifacts=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean asyncArtifacts = defaults.asyncArtifacts();
+
+  /**
+   * Defines if identical screenshots and page sources are stored only once.
+   * Content of every file is stored in folder "blobs" of reports folder under its SHA-256 hash,
+   * and the usual (timestamped) file is a hard link to it (or a copy, if file system doesn't support hard links).
+   * It saves disk space when many failures happen on the same page (e.g. with soft asserts).
+   * Can be configured either programmatically or by system property "-Dselenide.deduplicateArtifacts=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean deduplicateArtifacts = defaults.deduplicateArtifacts();
+
+  /**
+   * Defines if page sources are stored gzipped (as "*.html.gz").
+   * Within a test (see {@link Screenshots#startContext(String, String)}) only the first page source is stored in full,
+   * the following ones are stored as differences from it.
+   * Use {@link com.codeborne.selenide.impl.PageSourceArchive} to read them.
+   * Can be configured either programmatically or by system property "-Dselenide.compressPageSources=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean compressPageSources = defaults.compressPageSources();
+
   /**
    * Choose how Selenide should retrieve web elements: using default CSS or Sizzle (CSS3)
    */
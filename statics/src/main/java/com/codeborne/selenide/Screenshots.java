@@ -25,6 +25,15 @@ public class Screenshots {
     return screenshots.takeScreenShot(driver(), fileName);
   }
 
+  /**
+   * Take screenshot of the whole page (scrolling it from top to bottom)
+   *
+   * @return absolute path of the screenshot taken
+   */
+  public static String takeFullPageScreenshot() {
+    return screenshots.takeFullPageScreenshot(driver());
+  }
+
   /**
    * Take screenshot and return as a file
    * @return a temporary file, not guaranteed to be stored after tests complete.
@@ -75,6 +84,14 @@ public class Screenshots {
     return screenshots.finishContext();
   }
 
+  /**
+   * Wait until all screenshots and page sources of current test have been written to disk.
+   * Needed only if {@link Configuration#asyncArtifacts} is enabled.
+   */
+  public static void flush() {
+    screenshots.flush();
+  }
+
   /**
    * Get the last screenshot taken
    * @return null if there were no any screenshots taken
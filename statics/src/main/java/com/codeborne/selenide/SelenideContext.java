@@ -0,0 +1,212 @@
+package com.codeborne.selenide;
+
+import com.codeborne.selenide.logevents.LogEventListener;
+import com.codeborne.selenide.logevents.SelenideLogger;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Selenide state of a test: webdriver (with its config) and log event listeners.
+ * <p>
+ * This state is bound to the test thread. Work handed to another thread (an executor, a parallel stream,
+ * a {@link CompletableFuture}) doesn't see it, and would open another browser and lose the listeners.
+ * To spread one test across threads, capture the context in the test thread and bind it in other threads:
+ * <pre>
+ *   ExecutorService executor = SelenideContext.propagating(Executors.newFixedThreadPool(4));
+ *   executor.submit(() -&gt; $("#menu").shouldBe(visible));
+ *
+ *   SelenideContext.supplyAsync(() -&gt; $("h1").text());
+ *
+ *   SelenideContext context = SelenideContext.current();
+ *   items.parallelStream().map(context.wrap(item -&gt; $(item).text()))...
+ * </pre>
+ * NB! Webdriver is not thread-safe: threads sharing a context should not use the browser at the same time.
+ */
+public class SelenideContext {
+  private final SelenideDriver driver;
+  private final Map<String, LogEventListener> listeners;
+
+  SelenideContext(SelenideDriver driver, Map<String, LogEventListener> listeners) {
+    this.driver = driver;
+    this.listeners = unmodifiableMap(listeners);
+  }
+
+  /**
+   * @return context of the current thread
+   */
+  public static SelenideContext current() {
+    return new SelenideContext(WebDriverRunner.getSelenideDriver(), SelenideLogger.getListeners());
+  }
+
+  public SelenideDriver driver() {
+    return driver;
+  }
+
+  public Config config() {
+    return driver.config();
+  }
+
+  public Map<String, LogEventListener> listeners() {
+    return listeners;
+  }
+
+  /**
+   * Binds this context to the current thread until the returned binding is closed:
+   * <pre>
+   *   try (SelenideContext.Binding binding = context.bind()) {
+   *     $("h1").shouldHave(text("Hello"));
+   *   }
+   * </pre>
+   */
+  public Binding bind() {
+    SelenideDriver previousDriver = WebDriverRunner.webdriverContainer.bindSelenideDriver(driver);
+    Map<String, LogEventListener> previousListeners = SelenideLogger.setListeners(listeners);
+    return new Binding(previousDriver, previousListeners);
+  }
+
+  public Runnable wrap(Runnable task) {
+    return () -> {
+      try (Binding binding = bind()) {
+        task.run();
+      }
+    };
+  }
+
+  public <T> Callable<T> wrap(Callable<T> task) {
+    return () -> {
+      try (Binding binding = bind()) {
+        return task.call();
+      }
+    };
+  }
+
+  public <T> Supplier<T> wrap(Supplier<T> task) {
+    return () -> {
+      try (Binding binding = bind()) {
+        return task.get();
+      }
+    };
+  }
+
+  public <T, R> Function<T, R> wrap(Function<T, R> task) {
+    return argument -> {
+      try (Binding binding = bind()) {
+        return task.apply(argument);
+      }
+    };
+  }
+
+  /**
+   * @return executor that runs every task in the context of the thread that submitted it
+   */
+  public static Executor propagating(Executor executor) {
+    return task -> executor.execute(current().wrap(task));
+  }
+
+  /**
+   * @return executor service that runs every task in the context of the thread that submitted it
+   */
+  public static ExecutorService propagating(ExecutorService executor) {
+    return new PropagatingExecutorService(executor);
+  }
+
+  /**
+   * {@link CompletableFuture#supplyAsync(Supplier)} in the context of the current thread
+   */
+  public static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+    return CompletableFuture.supplyAsync(current().wrap(supplier));
+  }
+
+  /**
+   * {@link CompletableFuture#supplyAsync(Supplier, Executor)} in the context of the current thread
+   */
+  public static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier, Executor executor) {
+    return CompletableFuture.supplyAsync(current().wrap(supplier), executor);
+  }
+
+  /**
+   * {@link CompletableFuture#runAsync(Runnable)} in the context of the current thread
+   */
+  public static CompletableFuture<Void> runAsync(Runnable task) {
+    return CompletableFuture.runAsync(current().wrap(task));
+  }
+
+  /**
+   * {@link CompletableFuture#runAsync(Runnable, Executor)} in the context of the current thread
+   */
+  public static CompletableFuture<Void> runAsync(Runnable task, Executor executor) {
+    return CompletableFuture.runAsync(current().wrap(task), executor);
+  }
+
+  /**
+   * Restores the previous context of the thread when closed
+   */
+  public static class Binding implements AutoCloseable {
+    private final SelenideDriver previousDriver;
+    private final Map<String, LogEventListener> previousListeners;
+    private boolean closed;
+
+    private Binding(SelenideDriver previousDriver, Map<String, LogEventListener> previousListeners) {
+      this.previousDriver = previousDriver;
+      this.previousListeners = previousListeners;
+    }
+
+    @Override
+    public void close() {
+      if (!closed) {
+        closed = true;
+        WebDriverRunner.webdriverContainer.bindSelenideDriver(previousDriver);
+        SelenideLogger.setListeners(previousListeners);
+      }
+    }
+  }
+
+  private static class PropagatingExecutorService extends AbstractExecutorService {
+    private final ExecutorService delegate;
+
+    private PropagatingExecutorService(ExecutorService delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+      delegate.execute(current().wrap(task));
+    }
+
+    @Override
+    public void shutdown() {
+      delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+      return delegate.awaitTermination(timeout, unit);
+    }
+  }
+}
@@ -4,6 +4,7 @@ import com.codeborne.selenide.AssertionMode;
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.FileDownloadMode;
+import com.codeborne.selenide.PollingStrategy;
 import com.codeborne.selenide.SelectorMode;
 import org.openqa.selenium.remote.DesiredCapabilities;
 
@@ -31,6 +32,11 @@ class StaticConfig implements Config {
     return Configuration.pollingInterval;
   }
 
+  @Override
+  public PollingStrategy pollingStrategy() {
+    return Configuration.pollingStrategy;
+  }
+
   @Override
   public boolean holdBrowserOpen() {
     return Configuration.holdBrowserOpen;
@@ -41,6 +47,36 @@ class StaticConfig implements Config {
     return Configuration.reopenBrowserOnFail;
   }
 
+  @Override
+  public int browserPoolSize() {
+    return Configuration.browserPoolSize;
+  }
+
+  @Override
+  public int browserPoolMaxUses() {
+    return Configuration.browserPoolMaxUses;
+  }
+
+  @Override
+  public long browserPoolMaxAge() {
+    return Configuration.browserPoolMaxAge;
+  }
+
+  @Override
+  public int browserPrewarmCount() {
+    return Configuration.browserPrewarmCount;
+  }
+
+  @Override
+  public long browserPrewarmTtl() {
+    return Configuration.browserPrewarmTtl;
+  }
+
+  @Override
+  public long shutdownTimeout() {
+    return Configuration.shutdownTimeout;
+  }
+
   @Override
   public boolean clickViaJs() {
     return Configuration.clickViaJs;
@@ -76,6 +112,46 @@ class StaticConfig implements Config {
     return Configuration.versatileSetValue;
   }
 
+  @Override
+  public boolean conditionSnapshots() {
+    return Configuration.conditionSnapshots;
+  }
+
+  @Override
+  public boolean cacheElements() {
+    return Configuration.cacheElements;
+  }
+
+  @Override
+  public boolean waitForMutations() {
+    return Configuration.waitForMutations;
+  }
+
+  @Override
+  public int describeMaxElements() {
+    return Configuration.describeMaxElements;
+  }
+
+  @Override
+  public int describeMaxTextLength() {
+    return Configuration.describeMaxTextLength;
+  }
+
+  @Override
+  public boolean asyncArtifacts() {
+    return Configuration.asyncArtifacts;
+  }
+
+  @Override
+  public boolean deduplicateArtifacts() {
+    return Configuration.deduplicateArtifacts;
+  }
+
+  @Override
+  public boolean compressPageSources() {
+    return Configuration.compressPageSources;
+  }
+
   @Override
   public SelectorMode selectorMode() {
     return Configuration.selectorMode;
@@ -0,0 +1,28 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.SelenideDriver;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+
+/**
+ * Webdriver bound to a thread.
+ * <p>
+ * It doesn't prevent the thread from being garbage collected:
+ * when the thread is dead and collected, this reference is put to the given queue
+ * (see {@link UnusedWebdriversCleanupThread}).
+ */
+class ThreadWebDriver extends PhantomReference<Thread> {
+  final long threadId;
+  final SelenideDriver driver;
+
+  /**
+   * @param deadThreads queue to put this reference to when the thread is collected,
+   *                    or null if the webdriver should not be closed automatically
+   */
+  ThreadWebDriver(Thread thread, SelenideDriver driver, ReferenceQueue<Thread> deadThreads) {
+    super(thread, deadThreads);
+    this.threadId = thread.getId();
+    this.driver = driver;
+  }
+}
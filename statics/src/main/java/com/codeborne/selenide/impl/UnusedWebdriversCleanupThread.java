@@ -1,20 +1,29 @@
 package com.codeborne.selenide.impl;
 
-import com.codeborne.selenide.SelenideDriver;
-
-import java.util.Collection;
-import java.util.Map;
+import java.lang.ref.ReferenceQueue;
+import java.util.Set;
 import java.util.logging.Logger;
 
+import static java.util.logging.Level.SEVERE;
+
+/**
+ * Closes webdrivers of dead threads.
+ * <p>
+ * Sleeps until a thread with webdriver is dead and garbage collected, so it doesn't consume CPU
+ * and doesn't depend on the number of threads. Every webdriver is closed only once.
+ * <p>
+ * Note that a dead thread may stay uncollected for a long time (until JVM exit if there is no memory pressure),
+ * so its webdriver is closed with a delay.
+ */
 class UnusedWebdriversCleanupThread extends Thread {
   private static final Logger log = Logger.getLogger(UnusedWebdriversCleanupThread.class.getName());
 
-  private final Collection<Thread> allWebDriverThreads;
-  private final Map<Long, SelenideDriver> threadWebDriver;
+  private final ReferenceQueue<Thread> deadThreads;
+  private final Set<ThreadWebDriver> allWebDrivers;
 
-  UnusedWebdriversCleanupThread(Collection<Thread> allWebDriverThreads, Map<Long, SelenideDriver> threadWebDriver) {
-    this.allWebDriverThreads = allWebDriverThreads;
-    this.threadWebDriver = threadWebDriver;
+  UnusedWebdriversCleanupThread(ReferenceQueue<Thread> deadThreads, Set<ThreadWebDriver> allWebDrivers) {
+    this.deadThreads = deadThreads;
+    this.allWebDrivers = allWebDrivers;
     setDaemon(true);
     setName("Webdrivers killer thread");
   }
@@ -22,9 +31,8 @@ class UnusedWebdriversCleanupThread extends Thread {
   @Override
   public void run() {
     while (true) {
-      closeUnusedWebdrivers();
       try {
-        Thread.sleep(100);
+        closeWebDriver((ThreadWebDriver) deadThreads.remove());
       }
       catch (InterruptedException e) {
         Thread.currentThread().interrupt();
@@ -33,25 +41,15 @@ class UnusedWebdriversCleanupThread extends Thread {
     }
   }
 
-  private void closeUnusedWebdrivers() {
-    for (Thread thread : allWebDriverThreads) {
-      if (!thread.isAlive()) {
-        log.info("Thread " + thread.getId() + " is dead. Let's close webdriver " + threadWebDriver.get(thread.getId()));
-        closeWebDriver(thread);
+  void closeWebDriver(ThreadWebDriver deadThread) {
+    if (allWebDrivers.remove(deadThread)) {
+      log.info("Thread " + deadThread.threadId + " is dead. Let's close webdriver " + deadThread.driver);
+      try {
+        deadThread.driver.close();
+      }
+      catch (RuntimeException e) {
+        log.log(SEVERE, "Failed to close webdriver of dead thread " + deadThread.threadId, e);
       }
-    }
-  }
-
-  private void closeWebDriver(Thread thread) {
-    allWebDriverThreads.remove(thread);
-    SelenideDriver selenideDriver = threadWebDriver.remove(thread.getId());
-
-    if (selenideDriver == null) {
-      log.info("No webdriver found for thread : " + thread.getId() + " - nothing to close");
-    }
-    else {
-      selenideDriver.close();
     }
   }
 }
-
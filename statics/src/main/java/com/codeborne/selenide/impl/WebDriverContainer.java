@@ -12,6 +12,20 @@ public interface WebDriverContainer {
   WebDriver getWebDriver();
   SelenideProxyServer getProxyServer();
   SelenideDriver getSelenideDriver();
+
+  /**
+   * Binds given driver to the current thread on top of the thread's own driver
+   * (e.g. to use the driver of another thread, see {@link com.codeborne.selenide.SelenideContext}).
+   * The thread's own driver is neither closed nor replaced.
+   *
+   * @param driver driver to bind, or null to remove the binding
+   * @return previously bound driver, or null
+   * @throws UnsupportedOperationException if this container doesn't support binding drivers
+   */
+  default SelenideDriver bindSelenideDriver(SelenideDriver driver) {
+    throw new UnsupportedOperationException(getClass().getName() + " does not support SelenideContext");
+  }
+
   void setProxy(Proxy webProxy);
   WebDriver getAndCheckWebDriver();
   void closeWebDriver();
@@ -6,20 +6,28 @@ import org.openqa.selenium.Proxy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.events.WebDriverEventListener;
 
+import java.lang.ref.ReferenceQueue;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.lang.Thread.currentThread;
 
+/**
+ * Binds a separate webdriver to every thread.
+ * <p>
+ * Webdriver of a thread that has finished without closing it is closed by {@link UnusedWebdriversCleanupThread},
+ * but only after the Thread object is garbage collected. It may happen much later than the thread has died
+ * (in worst case at JVM exit), so threads should close their webdrivers explicitly.
+ */
 public class WebDriverThreadLocalContainer implements WebDriverContainer {
   private final List<WebDriverEventListener> listeners = new ArrayList<>();
-  private final Collection<Thread> allWebDriverThreads = new ConcurrentLinkedQueue<>();
-  private final Map<Long, SelenideDriver> threadWebDriver = new ConcurrentHashMap<>(4);
+  private final ThreadLocal<ThreadWebDriver> threadWebDriver = new ThreadLocal<>();
+  private final ThreadLocal<SelenideDriver> boundWebDriver = new ThreadLocal<>();
+  private final ReferenceQueue<Thread> deadThreads = new ReferenceQueue<>();
+  final Set<ThreadWebDriver> allWebDrivers = ConcurrentHashMap.newKeySet();
   private Proxy userProvidedProxy;
 
   private final AtomicBoolean cleanupThreadStarted = new AtomicBoolean(false);
@@ -31,11 +39,11 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
 
   @Override
   public void setWebDriver(WebDriver webDriver) {
-    SelenideDriver previous = threadWebDriver.get(currentThread().getId());
+    ThreadWebDriver previous = unbind();
     if (previous != null) {
-      previous.close();
+      previous.driver.close();
     }
-    threadWebDriver.put(currentThread().getId(), new SelenideDriver(new StaticConfig(), webDriver));
+    threadWebDriver.set(new ThreadWebDriver(currentThread(), new SelenideDriver(new StaticConfig(), webDriver), null));
   }
 
   @Override
@@ -48,14 +56,38 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
    */
   @Override
   public boolean hasWebDriverStarted() {
-    SelenideDriver selenideDriver = threadWebDriver.get(currentThread().getId());
-    return selenideDriver != null && selenideDriver.hasWebDriverStarted();
+    SelenideDriver bound = boundWebDriver.get();
+    if (bound != null) {
+      return bound.hasWebDriverStarted();
+    }
+    ThreadWebDriver current = threadWebDriver.get();
+    return current != null && current.driver.hasWebDriverStarted();
   }
 
   @Override
   public SelenideDriver getSelenideDriver() {
-    return threadWebDriver.computeIfAbsent(currentThread().getId(),
-      threadId -> markForAutoClose(currentThread(), new SelenideDriver(new StaticConfig(), userProvidedProxy, listeners)));
+    SelenideDriver bound = boundWebDriver.get();
+    if (bound != null) {
+      return bound;
+    }
+    ThreadWebDriver current = threadWebDriver.get();
+    if (current == null) {
+      current = markForAutoClose(new SelenideDriver(new StaticConfig(), userProvidedProxy, listeners));
+      threadWebDriver.set(current);
+    }
+    return current.driver;
+  }
+
+  @Override
+  public SelenideDriver bindSelenideDriver(SelenideDriver driver) {
+    SelenideDriver previous = boundWebDriver.get();
+    if (driver == null) {
+      boundWebDriver.remove();
+    }
+    else {
+      boundWebDriver.set(driver);
+    }
+    return previous;
   }
 
   @Override
@@ -75,10 +107,25 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
 
   @Override
   public void closeWebDriver() {
-    SelenideDriver driver = threadWebDriver.remove(currentThread().getId());
-    if (driver != null) {
-      driver.close();
+    SelenideDriver bound = boundWebDriver.get();
+    if (bound != null) {
+      bound.close();
+      return;
+    }
+    ThreadWebDriver current = unbind();
+    if (current != null) {
+      current.driver.close();
+    }
+  }
+
+  private ThreadWebDriver unbind() {
+    ThreadWebDriver current = threadWebDriver.get();
+    if (current != null) {
+      threadWebDriver.remove();
+      allWebDrivers.remove(current);
+      current.clear();
     }
+    return current;
   }
 
   @Override
@@ -103,18 +150,19 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
     return getSelenideDriver().getCurrentFrameUrl();
   }
 
-  private SelenideDriver markForAutoClose(Thread thread, SelenideDriver selenideDriver) {
-    allWebDriverThreads.add(thread);
+  private ThreadWebDriver markForAutoClose(SelenideDriver selenideDriver) {
+    ThreadWebDriver autoClosed = new ThreadWebDriver(currentThread(), selenideDriver, deadThreads);
+    allWebDrivers.add(autoClosed);
 
     if (!cleanupThreadStarted.get()) {
       synchronized (this) {
         if (!cleanupThreadStarted.get()) {
-          new UnusedWebdriversCleanupThread(allWebDriverThreads, threadWebDriver).start();
+          new UnusedWebdriversCleanupThread(deadThreads, allWebDrivers).start();
           cleanupThreadStarted.set(true);
         }
       }
     }
 
-    return selenideDriver;
+    return autoClosed;
   }
 }
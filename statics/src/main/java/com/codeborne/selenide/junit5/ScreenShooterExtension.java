@@ -70,6 +70,7 @@ public class ScreenShooterExtension implements BeforeAllCallback, AfterEachCallb
         log.info(screenshot(driver()));
       }
     }
+    Screenshots.flush();
   }
 
   @Override
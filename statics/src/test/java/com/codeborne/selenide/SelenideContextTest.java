@@ -0,0 +1,89 @@
+package com.codeborne.selenide;
+
+import com.codeborne.selenide.impl.WebDriverContainer;
+import com.codeborne.selenide.impl.WebDriverThreadLocalContainer;
+import com.codeborne.selenide.logevents.LogEventListener;
+import com.codeborne.selenide.logevents.SelenideLogger;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+
+class SelenideContextTest implements WithAssertions {
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+  @BeforeEach
+  void setUp() {
+    WebDriverRunner.webdriverContainer = new WebDriverThreadLocalContainer();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdown();
+    SelenideLogger.removeAllListeners();
+    WebDriverRunner.webdriverContainer = new WebDriverThreadLocalContainer();
+  }
+
+  @Test
+  void propagatingExecutorRunsTasksWithDriverOfSubmittingThread() throws ExecutionException, InterruptedException {
+    SelenideDriver testDriver = WebDriverRunner.getSelenideDriver();
+
+    SelenideDriver workerDriver = executor.submit(WebDriverRunner::getSelenideDriver).get();
+    SelenideDriver propagatedDriver = SelenideContext.propagating(executor).submit(WebDriverRunner::getSelenideDriver).get();
+
+    assertThat(workerDriver).isNotSameAs(testDriver);
+    assertThat(propagatedDriver).isSameAs(testDriver);
+  }
+
+  @Test
+  void restoresContextOfThreadAfterTask() throws ExecutionException, InterruptedException {
+    SelenideDriver workerDriver = executor.submit(WebDriverRunner::getSelenideDriver).get();
+
+    SelenideContext.propagating(executor).submit(WebDriverRunner::getSelenideDriver).get();
+
+    assertThat(executor.submit(WebDriverRunner::getSelenideDriver).get()).isSameAs(workerDriver);
+    assertThat(executor.submit(() -> SelenideLogger.hasListener("test")).get()).isFalse();
+  }
+
+  @Test
+  void completableFutureRunsWithListenersOfCurrentThread() throws ExecutionException, InterruptedException {
+    SelenideLogger.addListener("test", mock(LogEventListener.class));
+
+    assertThat(SelenideContext.supplyAsync(() -> SelenideLogger.hasListener("test"), executor).get()).isTrue();
+    assertThat(executor.submit(() -> SelenideLogger.hasListener("test")).get()).isFalse();
+  }
+
+  @Test
+  void capturedContextCanBeBoundExplicitly() throws ExecutionException, InterruptedException {
+    SelenideContext context = SelenideContext.current();
+
+    SelenideDriver boundDriver = executor.submit(() -> {
+      try (SelenideContext.Binding binding = context.bind()) {
+        return WebDriverRunner.getSelenideDriver();
+      }
+    }).get();
+
+    assertThat(boundDriver).isSameAs(context.driver());
+    assertThat(context.config()).isSameAs(context.driver().config());
+  }
+
+  @Test
+  void customContainerWithoutBindingSupport() {
+    SelenideContext context = SelenideContext.current();
+    WebDriverRunner.webdriverContainer = mock(CustomContainer.class, CALLS_REAL_METHODS);
+
+    assertThatThrownBy(context::bind)
+      .isInstanceOf(UnsupportedOperationException.class)
+      .hasMessageEndingWith(" does not support SelenideContext");
+  }
+
+  private abstract static class CustomContainer implements WebDriverContainer {
+  }
+}
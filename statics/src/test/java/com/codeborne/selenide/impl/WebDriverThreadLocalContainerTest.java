@@ -10,8 +10,13 @@ import org.junit.jupiter.api.Test;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.remote.DesiredCapabilities;
 
+import java.lang.ref.ReferenceQueue;
+
 import static com.codeborne.selenide.Selenide.close;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 class WebDriverThreadLocalContainerTest implements WithAssertions {
   private final WebDriverThreadLocalContainer container = new WebDriverThreadLocalContainer();
@@ -84,6 +89,57 @@ class WebDriverThreadLocalContainerTest implements WithAssertions {
     assertThat(container.hasWebDriverStarted()).isFalse();
   }
 
+  @Test
+  void bindsSeparateWebDriverToEveryThread() throws InterruptedException {
+    WebDriver[] otherThreadWebDriver = new WebDriver[1];
+    Thread thread = new Thread(() -> otherThreadWebDriver[0] = container.getAndCheckWebDriver());
+    thread.start();
+    thread.join();
+
+    assertThat(container.getAndCheckWebDriver()).isNotNull().isNotSameAs(otherThreadWebDriver[0]);
+  }
+
+  @Test
+  void closesWebDriver_whenItsThreadIsDead() throws InterruptedException {
+    WebDriver[] webDriver = new WebDriver[1];
+    Thread thread = new Thread(() -> webDriver[0] = container.getAndCheckWebDriver());
+    thread.start();
+    thread.join();
+    ThreadWebDriver deadThread = container.allWebDrivers.iterator().next();
+
+    deadThread.enqueue(); // as if the thread has been garbage collected
+
+    verify(webDriver[0], timeout(5000)).quit();
+    assertThat(container.allWebDrivers).isEmpty();
+  }
+
+  @Test
+  void doesNotCloseWebDriverOfDeadThreadTwice() throws InterruptedException {
+    WebDriver[] webDriver = new WebDriver[1];
+    Thread thread = new Thread(() -> webDriver[0] = container.getAndCheckWebDriver());
+    thread.start();
+    thread.join();
+    ThreadWebDriver deadThread = container.allWebDrivers.iterator().next();
+    UnusedWebdriversCleanupThread cleanup = new UnusedWebdriversCleanupThread(new ReferenceQueue<>(), container.allWebDrivers);
+
+    cleanup.closeWebDriver(deadThread);
+    cleanup.closeWebDriver(deadThread);
+
+    verify(webDriver[0], times(1)).quit();
+  }
+
+  @Test
+  void doesNotCloseWebDriverOfDeadThread_ifThreadHasClosedItItself() throws InterruptedException {
+    Thread thread = new Thread(() -> {
+      container.getAndCheckWebDriver();
+      container.closeWebDriver();
+    });
+    thread.start();
+    thread.join();
+
+    assertThat(container.allWebDrivers).isEmpty();
+  }
+
   private static class DummyProvider implements WebDriverProvider {
     @Override
     public WebDriver createDriver(DesiredCapabilities desiredCapabilities) {